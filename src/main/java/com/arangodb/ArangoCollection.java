@@ -24,7 +24,11 @@ import com.arangodb.entity.*;
 import com.arangodb.model.*;
 
 import javax.annotation.concurrent.ThreadSafe;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 /**
  * Interface for operations on ArangoDB collection level.
@@ -160,6 +164,64 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      */
     DocumentImportEntity importDocuments(String values, DocumentImportOptions options) throws ArangoDBException;
 
+    /**
+     * Bulk imports the given values into the collection, serializing and sending them in chunks of
+     * {@link DocumentImportOptions#getChunkSize()} documents, {@link DocumentImportOptions#getParallelism()} chunks in
+     * parallel, so that they never need to be held in memory all at once.
+     * <p>
+     * Limitations:
+     * - the fields having {@code null} value are always removed during serialization
+     *
+     * @param values  Objects that will be stored as documents
+     * @param options Additional options, can be null
+     * @return information about the import, summed up over the chunks
+     * @throws ArangoDBException
+     */
+    DocumentImportEntity importDocuments(Iterator<?> values, DocumentImportOptions options) throws ArangoDBException;
+
+    /**
+     * Bulk imports the given values into the collection, serializing and sending them in chunks of
+     * {@link DocumentImportOptions#getChunkSize()} documents, {@link DocumentImportOptions#getParallelism()} chunks in
+     * parallel, so that they never need to be held in memory all at once.
+     * <p>
+     * Limitations:
+     * - the fields having {@code null} value are always removed during serialization
+     *
+     * @param values  Objects that will be stored as documents
+     * @param options Additional options, can be null
+     * @return information about the import, summed up over the chunks
+     * @throws ArangoDBException
+     */
+    DocumentImportEntity importDocuments(Stream<?> values, DocumentImportOptions options) throws ArangoDBException;
+
+    /**
+     * Bulk imports JSON lines, one JSON object per line, into the collection, sending them in chunks of
+     * {@link DocumentImportOptions#getChunkSize()} lines, {@link DocumentImportOptions#getParallelism()} chunks in
+     * parallel, so that they never need to be held in memory all at once. Blank lines are skipped, the stream is not
+     * closed.
+     *
+     * @param values  UTF-8 encoded JSON lines
+     * @param options Additional options, can be null
+     * @return information about the import, summed up over the chunks
+     * @throws ArangoDBException
+     */
+    DocumentImportEntity importDocuments(InputStream values, DocumentImportOptions options) throws ArangoDBException;
+
+    /**
+     * Bulk imports a file of JSON lines, one JSON object per line, into the collection. The file is split on line
+     * breaks into regions of about {@link DocumentImportOptions#getChunkBytes()} bytes, which are memory-mapped and
+     * sent {@link DocumentImportOptions#getParallelism()} at a time: over HTTP with JSON content type as they are,
+     * otherwise transcoded to VelocyPack by the sending threads. Progress is reported to
+     * {@link DocumentImportOptions#getProgressListener()}, and an interrupted import can be resumed from the last
+     * reported offset with {@link DocumentImportOptions#offset(Long)}.
+     *
+     * @param file    UTF-8 encoded JSON lines
+     * @param options Additional options, can be null
+     * @return information about the import, summed up over the chunks
+     * @throws ArangoDBException
+     */
+    DocumentImportEntity importDocuments(Path file, DocumentImportOptions options) throws ArangoDBException;
+
     /**
      * Retrieves the document with the given {@code key} from the collection.
      *
@@ -415,6 +477,25 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
     <T> MultiDocumentEntity<DocumentDeleteEntity<T>> deleteDocuments(
             Collection<?> values, Class<T> type, DocumentDeleteOptions options) throws ArangoDBException;
 
+    /**
+     * Creates a writer collecting single document operations of concurrent producers and sending them in batches.
+     *
+     * @param type The type of the documents (POJO class, VPackSlice or String for JSON)
+     * @return the writer, to be closed after use
+     * @see BulkWriter
+     */
+    <T> BulkWriter<T> bulkWriter(Class<T> type);
+
+    /**
+     * Creates a writer collecting single document operations of concurrent producers and sending them in batches.
+     *
+     * @param type    The type of the documents (POJO class, VPackSlice or String for JSON)
+     * @param options Additional options, can be null
+     * @return the writer, to be closed after use
+     * @see BulkWriter
+     */
+    <T> BulkWriter<T> bulkWriter(Class<T> type, BulkWriterOptions options);
+
     /**
      * Checks if the document exists by reading a single document head
      *
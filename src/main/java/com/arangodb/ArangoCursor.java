@@ -26,6 +26,7 @@ import com.arangodb.entity.CursorEntity.Warning;
 import java.io.Closeable;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * @author Mark Vollmary
@@ -70,6 +71,31 @@ public interface ArangoCursor<T> extends ArangoIterable<T>, ArangoIterator<T>, C
      */
     List<T> asListRemaining();
 
+    /**
+     * Returns the remaining elements of the current batch, or the elements of the next batch if the current one is
+     * exhausted, in their VelocyPack encoding without deserializing them.
+     *
+     * @return the raw elements, empty if the cursor is exhausted
+     * @throws UnsupportedOperationException if the implementation does not give access to the raw elements, the
+     *                                       default
+     */
+    default RawCursorBatch nextRawBatch() {
+        throw new UnsupportedOperationException("Raw batches are not supported by " + getClass().getName());
+    }
+
+    /**
+     * Performs the given action for the remaining elements of each batch in their VelocyPack encoding, without
+     * deserializing them.
+     *
+     * @param action action to perform, the batch must not be accessed after it returned
+     * @throws UnsupportedOperationException if {@link #nextRawBatch()} is not supported
+     */
+    default void forEachRawBatch(final Consumer<? super RawCursorBatch> action) {
+        while (hasNext()) {
+            action.accept(nextRawBatch());
+        }
+    }
+
     /**
      * @return true if the result is a potential dirty read
      * @since ArangoDB 3.10
@@ -24,6 +24,7 @@ import com.arangodb.entity.*;
 import com.arangodb.internal.ArangoContext;
 import com.arangodb.internal.ArangoDBImpl;
 import com.arangodb.internal.ArangoDefaults;
+import com.arangodb.internal.CompressionMetricsImpl;
 import com.arangodb.internal.InternalArangoDBBuilder;
 import com.arangodb.internal.http.HttpCommunication;
 import com.arangodb.internal.http.HttpConnectionFactory;
@@ -38,6 +39,8 @@ import com.arangodb.internal.util.ArangoSerializerImpl;
 import com.arangodb.internal.util.DefaultArangoSerialization;
 import com.arangodb.internal.velocystream.VstCommunicationSync;
 import com.arangodb.internal.velocystream.VstConnectionFactorySync;
+import com.arangodb.internal.velocystream.internal.VstBufferPool;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 import com.arangodb.model.DBCreateOptions;
 import com.arangodb.model.LogOptions;
 import com.arangodb.model.UserCreateOptions;
@@ -97,8 +100,12 @@ public interface ArangoDB extends ArangoSerializationAccessor {
     class Builder extends InternalArangoDBBuilder {
         private static final Logger logger = LoggerFactory.getLogger(Builder.class);
         private static final String PROPERTY_KEY_PROTOCOL = "arangodb.protocol";
+        private static final String PROPERTY_KEY_HTTP2_MAX_CONCURRENT_STREAMS = "arangodb.http2.maxConcurrentStreams";
+        private static final String PROPERTY_KEY_HTTP_SHARED_CONNECTION_POOL = "arangodb.http.sharedConnectionPool";
 
         protected Protocol protocol;
+        protected Integer http2MaxConcurrentStreams;
+        protected Boolean httpSharedConnectionPool;
 
         public Builder() {
             super();
@@ -108,6 +115,8 @@ public interface ArangoDB extends ArangoSerializationAccessor {
         protected void loadProperties(final Properties properties) {
             super.loadProperties(properties);
             protocol = loadProtocol(properties, protocol);
+            http2MaxConcurrentStreams = loadHttp2MaxConcurrentStreams(properties, http2MaxConcurrentStreams);
+            httpSharedConnectionPool = loadHttpSharedConnectionPool(properties, httpSharedConnectionPool);
         }
 
         private static Protocol loadProtocol(final Properties properties, final Protocol currentValue) {
@@ -116,11 +125,48 @@ public interface ArangoDB extends ArangoSerializationAccessor {
                             .toUpperCase(Locale.ENGLISH));
         }
 
+        private static Integer loadHttp2MaxConcurrentStreams(final Properties properties, final Integer currentValue) {
+            return Integer.parseInt(getProperty(properties, PROPERTY_KEY_HTTP2_MAX_CONCURRENT_STREAMS, currentValue,
+                    ArangoDefaults.DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS));
+        }
+
+        private static Boolean loadHttpSharedConnectionPool(final Properties properties, final Boolean currentValue) {
+            return Boolean.parseBoolean(getProperty(properties, PROPERTY_KEY_HTTP_SHARED_CONNECTION_POOL, currentValue,
+                    ArangoDefaults.DEFAULT_HTTP_SHARED_CONNECTION_POOL));
+        }
+
         public Builder useProtocol(final Protocol protocol) {
             this.protocol = protocol;
             return this;
         }
 
+        /**
+         * Sets the maximum number of requests multiplexed concurrently over one connection when
+         * {@link Protocol#HTTP2_JSON} or {@link Protocol#HTTP2_VPACK} is used. Further requests wait until a stream of
+         * the connection is released.
+         *
+         * @param http2MaxConcurrentStreams max number of concurrent streams per connection (default: 100)
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder http2MaxConcurrentStreams(final Integer http2MaxConcurrentStreams) {
+            this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+            return this;
+        }
+
+        /**
+         * Sets whether with {@link Protocol#HTTP_JSON} or {@link Protocol#HTTP_VPACK} all connections to a host are
+         * managed by one shared pool of {@link #maxConnections(Integer)} sockets, instead of a separate client per
+         * connection. Threads lease a socket from the pool, blocking only when all of them are in use, and idle
+         * sockets are closed in the background.
+         *
+         * @param httpSharedConnectionPool whether to use one shared connection pool per host (default: false)
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder httpSharedConnectionPool(final Boolean httpSharedConnectionPool) {
+            this.httpSharedConnectionPool = httpSharedConnectionPool;
+            return this;
+        }
+
         @Override
         public Builder loadProperties(final InputStream in) throws ArangoDBException {
             super.loadProperties(in);
@@ -255,6 +301,8 @@ public interface ArangoDB extends ArangoSerializationAccessor {
          * {@link Protocol#VST} == 1
          * {@link Protocol#HTTP_JSON} == 20
          * {@link Protocol#HTTP_VPACK} == 20
+         * {@link Protocol#HTTP2_JSON} == 1
+         * {@link Protocol#HTTP2_VPACK} == 1
          * </pre>
          *
          * @param maxConnections max number of connections
@@ -289,6 +337,42 @@ public interface ArangoDB extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Sets the socket transport of VST connections. {@link VstTransport#NIO} serves all the connections with a
+         * small shared pool of selector threads (see {@link #vstEventLoopThreads(Integer)}), instead of a dedicated
+         * reader thread per connection.
+         *
+         * @param vstTransport transport to use (default: {@link VstTransport#BLOCKING})
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder vstTransport(final VstTransport vstTransport) {
+            setVstTransport(vstTransport);
+            return this;
+        }
+
+        /**
+         * Sets the number of selector threads shared by all VST connections when {@link VstTransport#NIO} is used.
+         *
+         * @param vstEventLoopThreads number of threads (default: number of available processors)
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder vstEventLoopThreads(final Integer vstEventLoopThreads) {
+            setVstEventLoopThreads(vstEventLoopThreads);
+            return this;
+        }
+
+        /**
+         * Sets the maximum total size of the idle buffers retained to receive VST messages into. Buffers are reused
+         * once the response they hold has been deserialized into a result not referencing it.
+         *
+         * @param vstBufferPoolSize size in bytes, {@code 0} disables pooling (default: 32 MiB)
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder vstBufferPoolSize(final Long vstBufferPoolSize) {
+            setVstBufferPoolSize(vstBufferPoolSize);
+            return this;
+        }
+
         /**
          * Whether or not the driver should acquire a list of available coordinators in an ArangoDB cluster or a single
          * server with active failover.
@@ -330,6 +414,20 @@ public interface ArangoDB extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Sets the strategy to choose one of the connections to a host for each request. With
+         * {@link ConnectionSelectionStrategy#LEAST_IN_FLIGHT} or {@link ConnectionSelectionStrategy#POWER_OF_TWO_CHOICES}
+         * a slow request no longer delays the requests queued behind it on the same connection.
+         *
+         * @param connectionSelectionStrategy the strategy to be used (default:
+         *                                    {@link ConnectionSelectionStrategy#ROUND_ROBIN})
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder connectionSelectionStrategy(final ConnectionSelectionStrategy connectionSelectionStrategy) {
+            setConnectionSelectionStrategy(connectionSelectionStrategy);
+            return this;
+        }
+
         /**
          * Setting the amount of samples kept for queue time metrics
          *
@@ -341,6 +439,41 @@ public interface ArangoDB extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Sets the compression of HTTP request bodies. Compressed responses are accepted and inflated as long as the
+         * compression is not {@link Compression#NONE}. Ignored with {@link Protocol#VST}.
+         *
+         * @param compression compression of the request bodies (default: {@link Compression#NONE})
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder compression(final Compression compression) {
+            setCompression(compression);
+            return this;
+        }
+
+        /**
+         * Sets the minimum size of a request body to get compressed. Smaller bodies are sent as they are, since the
+         * compression would cost more than it saves.
+         *
+         * @param compressionThreshold min body size in bytes (default: 1024)
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder compressionThreshold(final Integer compressionThreshold) {
+            setCompressionThreshold(compressionThreshold);
+            return this;
+        }
+
+        /**
+         * Sets the level used to compress the request bodies, from 1 (fastest) to 9 (smallest).
+         *
+         * @param compressionLevel compression level (default: 6)
+         * @return {@link ArangoDB.Builder}
+         */
+        public Builder compressionLevel(final Integer compressionLevel) {
+            setCompressionLevel(compressionLevel);
+            return this;
+        }
+
         /**
          * Register a custom {@link VPackSerializer} for a specific type to be used within the internal serialization
          * process.
@@ -701,32 +834,52 @@ public interface ArangoDB extends ArangoSerializationAccessor {
             final ArangoSerialization custom = customSerializer != null ? customSerializer : internal;
             final ArangoSerializationFactory util = new ArangoSerializationFactory(internal, custom);
 
-            int protocolMaxConnections = protocol == Protocol.VST ?
-                    ArangoDefaults.MAX_CONNECTIONS_VST_DEFAULT :
-                    ArangoDefaults.MAX_CONNECTIONS_HTTP_DEFAULT;
+            final int protocolMaxConnections;
+            if (protocol == Protocol.VST) {
+                protocolMaxConnections = ArangoDefaults.MAX_CONNECTIONS_VST_DEFAULT;
+            } else if (protocol == Protocol.HTTP2_JSON || protocol == Protocol.HTTP2_VPACK) {
+                protocolMaxConnections = ArangoDefaults.MAX_CONNECTIONS_HTTP2_DEFAULT;
+            } else {
+                protocolMaxConnections = ArangoDefaults.MAX_CONNECTIONS_HTTP_DEFAULT;
+            }
             final int max = maxConnections != null ? Math.max(1, maxConnections) : protocolMaxConnections;
-
+            final boolean sharedPool = Boolean.TRUE.equals(httpSharedConnectionPool)
+                    && (protocol == Protocol.HTTP_JSON || protocol == Protocol.HTTP_VPACK);
+            // with a shared pool each host has a single connection object, leasing sockets from its pool
+            final int hostConnections = sharedPool ? 1 : max;
+
+            final CompressionMetricsImpl compressionMetrics = new CompressionMetricsImpl();
+            final VstEventLoopGroup eventLoopGroup = (protocol == null || Protocol.VST == protocol)
+                    ? createVstEventLoopGroup() : null;
+            final VstBufferPool bufferPool = (protocol == null || Protocol.VST == protocol)
+                    ? createVstBufferPool() : null;
             final ConnectionFactory connectionFactory = (protocol == null || Protocol.VST == protocol)
-                    ? new VstConnectionFactorySync(host, timeout, connectionTtl, keepAliveInterval, useSsl, sslContext)
+                    ? new VstConnectionFactorySync(host, timeout, connectionTtl, keepAliveInterval, useSsl, sslContext,
+                    eventLoopGroup, bufferPool)
                     : new HttpConnectionFactory(timeout, user, password, useSsl, sslContext, hostnameVerifier, custom,
-                    protocol, connectionTtl, httpCookieSpec, httpRequestRetryHandler);
+                    protocol, connectionTtl, httpCookieSpec, httpRequestRetryHandler,
+                    http2MaxConcurrentStreams != null ? http2MaxConcurrentStreams
+                            : ArangoDefaults.DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS,
+                    sharedPool ? max : 1, createHttpCompression(compressionMetrics));
 
-            final Collection<Host> hostList = createHostList(max, connectionFactory);
-            final HostResolver hostResolver = createHostResolver(hostList, max, connectionFactory);
+            final Collection<Host> hostList = createHostList(hostConnections, connectionFactory);
+            final HostResolver hostResolver = createHostResolver(hostList, hostConnections, connectionFactory);
             final HostHandler hostHandler = createHostHandler(hostResolver);
             hostHandler.setJwt(jwt);
 
             return new ArangoDBImpl(
                     new VstCommunicationSync.Builder(hostHandler).timeout(timeout).user(user).password(password)
                             .jwt(jwt).useSsl(useSsl).sslContext(sslContext).chunksize(chunksize)
-                            .maxConnections(maxConnections).connectionTtl(connectionTtl),
+                            .maxConnections(maxConnections).connectionTtl(connectionTtl)
+                            .eventLoopGroup(eventLoopGroup),
                     new HttpCommunication.Builder(hostHandler, headerParam),
                     util,
                     protocol,
                     hostResolver,
                     hostHandler,
                     new ArangoContext(),
-                    responseQueueTimeSamples, timeout);
+                    responseQueueTimeSamples, timeout,
+                    compressionMetrics);
         }
 
     }
@@ -34,4 +34,14 @@ public interface ArangoMetrics {
      * @return queue time metrics
      */
     QueueTimeMetrics getQueueTime();
+
+    /**
+     * @return HTTP compression metrics
+     */
+    CompressionMetrics getCompression();
+
+    /**
+     * @return metrics of the requests in flight
+     */
+    InFlightMetrics getInFlight();
 }
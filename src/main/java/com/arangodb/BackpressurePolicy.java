@@ -0,0 +1,43 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+/**
+ * Behavior of {@link com.arangodb.async.ArangoDBAsync} when a request exceeds the limits set with
+ * {@link com.arangodb.async.ArangoDBAsync.Builder#maxInFlightRequests(Integer)} and
+ * {@link com.arangodb.async.ArangoDBAsync.Builder#maxInFlightBytes(Long)}.
+ */
+public enum BackpressurePolicy {
+    /**
+     * The request is queued without blocking the caller and sent as soon as earlier requests complete. The queue is
+     * bounded by the same limits, once it is full further requests are failed like with {@link #FAIL}.
+     */
+    WAIT,
+    /**
+     * The returned future is failed right away
+     */
+    FAIL,
+    /**
+     * The request is queued like with {@link #WAIT}, but once the queue is full the request with the lowest
+     * {@link com.arangodb.velocystream.Request#getPriority() priority} is failed, the newest one among equals.
+     */
+    SHED_LOWEST_PRIORITY
+}
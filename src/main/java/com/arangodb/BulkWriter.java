@@ -0,0 +1,101 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb;
+
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentDeleteEntity;
+import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.model.BulkWriterOptions;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects single document operations of concurrent producers and sends them in batches through the multiple
+ * document operations of {@link ArangoCollection}. A batch is sent when it reaches the configured number of documents
+ * or bytes, when its linger time expires, when an operation of another kind is added, or on {@link #flush()}. Several
+ * batches are sent in parallel, up to {@link BulkWriterOptions#getMaxConcurrentFlushes()}. A producer filling a batch
+ * beyond them blocks until its batch is sent.
+ * <p>
+ * Batches are sent in the order they were filled. Operations of the same batch are applied in order, operations of
+ * batches sent in parallel in any order.
+ *
+ * @param <T> the type of the documents
+ * @see ArangoCollection#bulkWriter(Class, BulkWriterOptions)
+ */
+@ThreadSafe
+public interface BulkWriter<T> extends AutoCloseable {
+
+    /**
+     * Adds the insertion of a document.
+     *
+     * @param value A representation of a single document (POJO, VPackSlice or String for JSON)
+     * @return future completed with the result of the insertion once its batch is sent, or completed exceptionally
+     * with the error of the document or of the batch
+     * @throws ArangoDBException if the writer is closed
+     */
+    CompletableFuture<DocumentCreateEntity<T>> insert(T value) throws ArangoDBException;
+
+    /**
+     * Adds the replacement of a document, identified by its {@code _key}.
+     *
+     * @param value A representation of a single document (POJO, VPackSlice or String for JSON)
+     * @return future completed with the result of the replacement once its batch is sent, or completed exceptionally
+     * with the error of the document or of the batch
+     * @throws ArangoDBException if the writer is closed
+     */
+    CompletableFuture<DocumentUpdateEntity<T>> replace(T value) throws ArangoDBException;
+
+    /**
+     * Adds the partial update of a document, identified by its {@code _key}.
+     *
+     * @param value A representation of a single document (POJO, VPackSlice or String for JSON)
+     * @return future completed with the result of the update once its batch is sent, or completed exceptionally with
+     * the error of the document or of the batch
+     * @throws ArangoDBException if the writer is closed
+     */
+    CompletableFuture<DocumentUpdateEntity<T>> update(T value) throws ArangoDBException;
+
+    /**
+     * Adds the deletion of a document.
+     *
+     * @param value The key of the document or the document itself
+     * @return future completed with the result of the deletion once its batch is sent, or completed exceptionally
+     * with the error of the document or of the batch
+     * @throws ArangoDBException if the writer is closed
+     */
+    CompletableFuture<DocumentDeleteEntity<T>> delete(Object value) throws ArangoDBException;
+
+    /**
+     * Sends the collected operations and waits until no batch is outstanding.
+     *
+     * @throws ArangoDBException if interrupted while waiting
+     */
+    void flush() throws ArangoDBException;
+
+    /**
+     * Rejects further operations, sends the collected ones and waits until no batch is outstanding.
+     *
+     * @throws ArangoDBException if interrupted while waiting
+     */
+    @Override
+    void close() throws ArangoDBException;
+
+}
@@ -0,0 +1,68 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Interface for accessing the amount of HTTP body bytes compressed and decompressed by the driver, when compression is
+ * enabled with {@link ArangoDB.Builder#compression(Compression)}.
+ */
+@ThreadSafe
+public interface CompressionMetrics {
+
+    /**
+     * @return number of request bodies sent compressed
+     */
+    long getCompressedRequests();
+
+    /**
+     * @return total size of the request bodies before compression
+     */
+    long getRequestBytes();
+
+    /**
+     * @return total size of the request bodies after compression
+     */
+    long getCompressedRequestBytes();
+
+    /**
+     * @return number of compressed response bodies received
+     */
+    long getCompressedResponses();
+
+    /**
+     * @return total size of the compressed response bodies after decompression
+     */
+    long getResponseBytes();
+
+    /**
+     * @return total size of the compressed response bodies as received
+     */
+    long getCompressedResponseBytes();
+
+    /**
+     * @return number of bytes not transferred thanks to compression, in both directions
+     */
+    default long getBytesSaved() {
+        return getRequestBytes() - getCompressedRequestBytes() + getResponseBytes() - getCompressedResponseBytes();
+    }
+}
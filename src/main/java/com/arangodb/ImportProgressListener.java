@@ -0,0 +1,41 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb;
+
+import com.arangodb.entity.DocumentImportEntity;
+
+/**
+ * Notified after each chunk of a chunked import, in the order of the chunks, on the thread calling the import.
+ *
+ * @see com.arangodb.model.DocumentImportOptions#progressListener(ImportProgressListener)
+ */
+@FunctionalInterface
+public interface ImportProgressListener {
+
+    /**
+     * @param chunk  result of the chunk
+     * @param total  results of the chunks imported so far, summed up
+     * @param offset position in the input up to which all chunks are imported: the byte offset in a file, to resume
+     *               the import from with {@link com.arangodb.model.DocumentImportOptions#offset(Long)}, or the number
+     *               of documents or lines of other inputs
+     */
+    void imported(DocumentImportEntity chunk, DocumentImportEntity total, long offset);
+
+}
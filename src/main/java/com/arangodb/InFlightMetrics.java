@@ -0,0 +1,51 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Interface for accessing the requests currently sent and awaiting their response.
+ */
+@ThreadSafe
+public interface InFlightMetrics {
+
+    /**
+     * @return number of requests sent and not yet answered
+     */
+    long getRequests();
+
+    /**
+     * @return total size of the bodies of the requests sent and not yet answered
+     */
+    long getBytes();
+
+    /**
+     * @return number of requests waiting for in-flight requests to complete, see {@link BackpressurePolicy}
+     */
+    long getQueuedRequests();
+
+    /**
+     * @return number of requests failed because of the in-flight limits, see {@link BackpressurePolicy}
+     */
+    long getRejectedRequests();
+
+}
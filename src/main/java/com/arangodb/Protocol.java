@@ -39,5 +39,15 @@ public enum Protocol {
      *
      * @see <a href="https://github.com/arangodb/velocypack">VelocyPack specification</a>
      */
-    HTTP_VPACK
+    HTTP_VPACK,
+    /**
+     * HTTP/2 with JSON body, multiplexing concurrent requests as streams over a single connection
+     */
+    HTTP2_JSON,
+    /**
+     * HTTP/2 with VelocyPack body, multiplexing concurrent requests as streams over a single connection
+     *
+     * @see <a href="https://github.com/arangodb/velocypack">VelocyPack specification</a>
+     */
+    HTTP2_VPACK
 }
@@ -0,0 +1,71 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb;
+
+import com.arangodb.velocypack.VPackSlice;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Read-only view on elements of a cursor batch in their VelocyPack encoding, to forward query results without
+ * deserializing them. The elements are located by their offset and length in the shared {@link #buffer()}.
+ */
+public interface RawCursorBatch {
+
+    /**
+     * @return number of elements in this batch
+     */
+    int size();
+
+    /**
+     * @return read-only view on the buffer holding the elements
+     */
+    ByteBuffer buffer();
+
+    /**
+     * @param index index of the element, from {@code 0} to {@code size() - 1}
+     * @return position of the first byte of the element in {@link #buffer()}
+     */
+    int offset(int index);
+
+    /**
+     * @param index index of the element, from {@code 0} to {@code size() - 1}
+     * @return number of bytes of the element
+     */
+    int length(int index);
+
+    /**
+     * @param index index of the element, from {@code 0} to {@code size() - 1}
+     * @return the element as slice
+     */
+    VPackSlice get(int index);
+
+    /**
+     * Writes the VelocyPack encoding of an element to the given stream.
+     *
+     * @param index index of the element, from {@code 0} to {@code size() - 1}
+     * @param out   stream to write to
+     * @throws IOException if writing to the stream fails
+     */
+    void writeTo(int index, OutputStream out) throws IOException;
+
+}
@@ -0,0 +1,36 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+/**
+ * Socket transport used by {@link Protocol#VST} connections.
+ */
+public enum VstTransport {
+    /**
+     * Blocking socket I/O with a dedicated reader thread per connection
+     */
+    BLOCKING,
+    /**
+     * Non-blocking {@link java.nio.channels.SocketChannel} I/O multiplexed over a shared pool of selector threads.
+     * Not available together with SSL, in which case {@link #BLOCKING} is used.
+     */
+    NIO
+}
@@ -22,6 +22,12 @@ package com.arangodb.async;
 
 import com.arangodb.ArangoCursor;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -31,4 +37,48 @@ public interface ArangoCursorAsync<T> extends ArangoCursor<T> {
 
     Stream<T> streamRemaining();
 
+    /**
+     * Returns the elements of the current batch not yet consumed or, once the batch is exhausted, fetches the next
+     * one without blocking. The batch after the returned one is already requested while the caller processes it.
+     * Must not be called before the future returned by the previous call completed.
+     *
+     * <p>
+     * The default implementation returns all the remaining elements as a single batch, collected from the blocking
+     * iterator by a thread of the common pool.
+     *
+     * @return future completed with the next elements, empty once the cursor is exhausted
+     */
+    default CompletableFuture<List<T>> nextBatch() {
+        return CompletableFuture.supplyAsync(this::asListRemaining);
+    }
+
+    /**
+     * Passes the remaining elements to the given action batch by batch. The next batch is passed once the stage
+     * returned by the action for the previous one completes, so that a slow consumer is not flooded.
+     *
+     * @param action processes a batch and returns the stage completed once it is done
+     * @return future completed once all the elements have been processed, or exceptionally with the first failure
+     */
+    default CompletableFuture<Void> forEachBatch(final Function<? super List<T>, ? extends CompletionStage<?>> action) {
+        return nextBatch().thenCompose(batch -> batch.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : action.apply(batch).thenCompose(it -> forEachBatch(action)));
+    }
+
+    /**
+     * Deletes the cursor on the server without blocking, if it is not exhausted yet. The default implementation calls
+     * {@link #close()} on a thread of the common pool.
+     *
+     * @return future completed once the cursor is deleted
+     */
+    default CompletableFuture<Void> closeAsync() {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                close();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
 }
@@ -22,12 +22,20 @@ package com.arangodb.async;
 
 import com.arangodb.*;
 import com.arangodb.async.internal.ArangoDBAsyncImpl;
+import com.arangodb.async.internal.AsyncExecutionOptions;
+import com.arangodb.async.internal.http.HttpCommunicationAsync;
+import com.arangodb.async.internal.http.HttpConnectionFactoryAsync;
 import com.arangodb.async.internal.velocystream.VstCommunicationAsync;
 import com.arangodb.async.internal.velocystream.VstConnectionFactoryAsync;
 import com.arangodb.entity.*;
 import com.arangodb.internal.ArangoContext;
 import com.arangodb.internal.ArangoDefaults;
+import com.arangodb.internal.CompressionMetricsImpl;
 import com.arangodb.internal.InternalArangoDBBuilder;
+import com.arangodb.internal.http.HttpCommunication;
+import com.arangodb.internal.http.HttpCompression;
+import com.arangodb.internal.http.HttpConnectionFactory;
+import com.arangodb.internal.http.HttpProtocol;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.HostHandler;
 import com.arangodb.internal.net.HostResolver;
@@ -37,6 +45,8 @@ import com.arangodb.internal.util.ArangoSerializerImpl;
 import com.arangodb.internal.util.DefaultArangoSerialization;
 import com.arangodb.internal.velocystream.VstCommunicationSync;
 import com.arangodb.internal.velocystream.VstConnectionFactorySync;
+import com.arangodb.internal.velocystream.internal.VstBufferPool;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 import com.arangodb.model.DBCreateOptions;
 import com.arangodb.model.LogOptions;
 import com.arangodb.model.UserCreateOptions;
@@ -55,7 +65,10 @@ import javax.net.ssl.SSLContext;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.Locale;
+import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Central access point for applications to communicate with an ArangoDB server.
@@ -354,11 +367,196 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
     class Builder extends InternalArangoDBBuilder {
 
         private static final Logger logger = LoggerFactory.getLogger(Builder.class);
+        private static final String PROPERTY_KEY_PROTOCOL = "arangodb.protocol";
+        private static final String PROPERTY_KEY_HTTP2_MAX_CONCURRENT_STREAMS = "arangodb.http2.maxConcurrentStreams";
+        private static final String PROPERTY_KEY_DESERIALIZATION_INLINE_THRESHOLD =
+                "arangodb.async.deserializationInlineThreshold";
+        private static final String PROPERTY_KEY_VIRTUAL_THREADS = "arangodb.async.virtualThreads";
+        private static final String PROPERTY_KEY_MAX_IN_FLIGHT_REQUESTS = "arangodb.async.maxInFlightRequests";
+        private static final String PROPERTY_KEY_MAX_IN_FLIGHT_BYTES = "arangodb.async.maxInFlightBytes";
+        private static final String PROPERTY_KEY_BACKPRESSURE_POLICY = "arangodb.async.backpressurePolicy";
+
+        protected Protocol protocol;
+        protected Integer http2MaxConcurrentStreams;
+        protected Executor serializationExecutor;
+        protected Executor deserializationExecutor;
+        protected Integer deserializationInlineThreshold;
+        protected Boolean virtualThreads;
+        protected Integer maxInFlightRequests;
+        protected Long maxInFlightBytes;
+        protected BackpressurePolicy backpressurePolicy;
 
         public Builder() {
             super();
         }
 
+        @Override
+        protected void loadProperties(final Properties properties) {
+            super.loadProperties(properties);
+            protocol = loadProtocol(properties, protocol);
+            http2MaxConcurrentStreams = loadHttp2MaxConcurrentStreams(properties, http2MaxConcurrentStreams);
+            deserializationInlineThreshold = loadDeserializationInlineThreshold(properties,
+                    deserializationInlineThreshold);
+            virtualThreads = loadVirtualThreads(properties, virtualThreads);
+            maxInFlightRequests = loadMaxInFlightRequests(properties, maxInFlightRequests);
+            maxInFlightBytes = loadMaxInFlightBytes(properties, maxInFlightBytes);
+            backpressurePolicy = loadBackpressurePolicy(properties, backpressurePolicy);
+        }
+
+        private static Protocol loadProtocol(final Properties properties, final Protocol currentValue) {
+            return Protocol.valueOf(
+                    getProperty(properties, PROPERTY_KEY_PROTOCOL, currentValue, ArangoDefaults.DEFAULT_NETWORK_PROTOCOL)
+                            .toUpperCase(Locale.ENGLISH));
+        }
+
+        private static Integer loadHttp2MaxConcurrentStreams(final Properties properties, final Integer currentValue) {
+            return Integer.parseInt(getProperty(properties, PROPERTY_KEY_HTTP2_MAX_CONCURRENT_STREAMS, currentValue,
+                    ArangoDefaults.DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS));
+        }
+
+        private static Integer loadDeserializationInlineThreshold(final Properties properties,
+                                                                  final Integer currentValue) {
+            return Integer.parseInt(getProperty(properties, PROPERTY_KEY_DESERIALIZATION_INLINE_THRESHOLD,
+                    currentValue, ArangoDefaults.DEFAULT_DESERIALIZATION_INLINE_THRESHOLD));
+        }
+
+        private static Boolean loadVirtualThreads(final Properties properties, final Boolean currentValue) {
+            return Boolean.parseBoolean(getProperty(properties, PROPERTY_KEY_VIRTUAL_THREADS, currentValue,
+                    ArangoDefaults.DEFAULT_VIRTUAL_THREADS));
+        }
+
+        private static Integer loadMaxInFlightRequests(final Properties properties, final Integer currentValue) {
+            return Integer.parseInt(getProperty(properties, PROPERTY_KEY_MAX_IN_FLIGHT_REQUESTS, currentValue,
+                    ArangoDefaults.DEFAULT_MAX_IN_FLIGHT_REQUESTS));
+        }
+
+        private static Long loadMaxInFlightBytes(final Properties properties, final Long currentValue) {
+            return Long.parseLong(getProperty(properties, PROPERTY_KEY_MAX_IN_FLIGHT_BYTES, currentValue,
+                    ArangoDefaults.DEFAULT_MAX_IN_FLIGHT_BYTES));
+        }
+
+        private static BackpressurePolicy loadBackpressurePolicy(final Properties properties,
+                                                                 final BackpressurePolicy currentValue) {
+            return BackpressurePolicy.valueOf(getProperty(properties, PROPERTY_KEY_BACKPRESSURE_POLICY, currentValue,
+                    ArangoDefaults.DEFAULT_BACKPRESSURE_POLICY).toUpperCase(Locale.ENGLISH));
+        }
+
+        /**
+         * Sets the network protocol. With {@link Protocol#HTTP_JSON} or {@link Protocol#HTTP_VPACK} requests are sent
+         * by a non-blocking HTTP/1.1 client leasing up to {@link #maxConnections(Integer)} sockets per host, so that no
+         * thread is parked per in-flight request. {@link Protocol#HTTP2_JSON} and {@link Protocol#HTTP2_VPACK}
+         * multiplex the requests over HTTP/2 connections instead.
+         *
+         * @param protocol network protocol (default: {@link Protocol#VST})
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder useProtocol(final Protocol protocol) {
+            this.protocol = protocol;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests multiplexed concurrently over one connection when
+         * {@link Protocol#HTTP2_JSON} or {@link Protocol#HTTP2_VPACK} is used.
+         *
+         * @param http2MaxConcurrentStreams max number of concurrent streams per connection (default: 100)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder http2MaxConcurrentStreams(final Integer http2MaxConcurrentStreams) {
+            this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+            return this;
+        }
+
+        /**
+         * Sets the executor sending the requests. By default a dedicated thread sends all the requests in order;
+         * {@code Runnable::run} sends them from the calling thread instead.
+         *
+         * @param serializationExecutor executor sending the requests
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder serializationExecutor(final Executor serializationExecutor) {
+            this.serializationExecutor = serializationExecutor;
+            return this;
+        }
+
+        /**
+         * Sets the executor deserializing the responses and completing the returned futures, so that it also runs
+         * the non-async stages chained to them (default: {@link java.util.concurrent.ForkJoinPool#commonPool()}).
+         *
+         * @param deserializationExecutor executor deserializing the responses
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder deserializationExecutor(final Executor deserializationExecutor) {
+            this.deserializationExecutor = deserializationExecutor;
+            return this;
+        }
+
+        /**
+         * Responses with a body smaller than the threshold are deserialized right on the I/O thread receiving them,
+         * saving the hand-off to the deserialization executor. Stages chained to their futures without an executor
+         * run on the I/O thread as well and must not block.
+         *
+         * @param deserializationInlineThreshold body size in bytes, 0 to never deserialize inline (default: 0)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder deserializationInlineThreshold(final Integer deserializationInlineThreshold) {
+            this.deserializationInlineThreshold = deserializationInlineThreshold;
+            return this;
+        }
+
+        /**
+         * Runs the requests and responses on virtual threads instead of the default executors, unless executors are
+         * set with {@link #serializationExecutor(Executor)} and {@link #deserializationExecutor(Executor)}. Requires
+         * Java 21 or later at runtime: the driver itself targets Java 8 and looks virtual threads up reflectively, so
+         * on older runtimes {@link #build()} throws an {@link ArangoDBException}.
+         *
+         * @param virtualThreads whether to use virtual threads (default: false)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder virtualThreads(final Boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Limits the number of requests sent and awaiting their response. Further requests are handled according to
+         * {@link #backpressurePolicy(BackpressurePolicy)}, so that a caller firing requests in a loop cannot pile up
+         * unbounded pending work. The limit applies to the whole {@link ArangoDBAsync} instance, i.e. it is shared by
+         * all its hosts and connections rather than applied per host or connection.
+         *
+         * @param maxInFlightRequests max number of requests in flight, 0 for no limit (default: 0)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder maxInFlightRequests(final Integer maxInFlightRequests) {
+            this.maxInFlightRequests = maxInFlightRequests;
+            return this;
+        }
+
+        /**
+         * Limits the total body size of the requests sent and awaiting their response. A single request larger than
+         * the limit is sent once no other request is in flight. Like {@link #maxInFlightRequests(Integer)}, the limit
+         * is shared by all hosts and connections of the {@link ArangoDBAsync} instance.
+         *
+         * @param maxInFlightBytes max total body size in bytes, 0 for no limit (default: 0)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder maxInFlightBytes(final Long maxInFlightBytes) {
+            this.maxInFlightBytes = maxInFlightBytes;
+            return this;
+        }
+
+        /**
+         * Sets the handling of requests exceeding {@link #maxInFlightRequests(Integer)} or
+         * {@link #maxInFlightBytes(Long)}.
+         *
+         * @param backpressurePolicy policy once a limit is reached (default: {@link BackpressurePolicy#WAIT})
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder backpressurePolicy(final BackpressurePolicy backpressurePolicy) {
+            this.backpressurePolicy = backpressurePolicy;
+            return this;
+        }
+
         @Override
         public Builder loadProperties(final InputStream in) throws ArangoDBException {
             super.loadProperties(in);
@@ -494,6 +692,42 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Sets the socket transport of VST connections. {@link VstTransport#NIO} serves all the connections with a
+         * small shared pool of selector threads (see {@link #vstEventLoopThreads(Integer)}), instead of a dedicated
+         * reader thread per connection.
+         *
+         * @param vstTransport transport to use (default: {@link VstTransport#BLOCKING})
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder vstTransport(final VstTransport vstTransport) {
+            setVstTransport(vstTransport);
+            return this;
+        }
+
+        /**
+         * Sets the number of selector threads shared by all VST connections when {@link VstTransport#NIO} is used.
+         *
+         * @param vstEventLoopThreads number of threads (default: number of available processors)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder vstEventLoopThreads(final Integer vstEventLoopThreads) {
+            setVstEventLoopThreads(vstEventLoopThreads);
+            return this;
+        }
+
+        /**
+         * Sets the maximum total size of the idle buffers retained to receive VST messages into. Buffers are reused
+         * once the response they hold has been deserialized into a result not referencing it.
+         *
+         * @param vstBufferPoolSize size in bytes, {@code 0} disables pooling (default: 32 MiB)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder vstBufferPoolSize(final Long vstBufferPoolSize) {
+            setVstBufferPoolSize(vstBufferPoolSize);
+            return this;
+        }
+
         /**
          * Whether or not the driver should acquire a list of available coordinators in an ArangoDB cluster or a single
          * server with active failover.
@@ -522,6 +756,41 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Sets the compression of HTTP request bodies. Compressed responses are accepted and inflated as long as the
+         * compression is not {@link Compression#NONE}. Ignored with {@link Protocol#VST}.
+         *
+         * @param compression compression of the request bodies (default: {@link Compression#NONE})
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder compression(final Compression compression) {
+            setCompression(compression);
+            return this;
+        }
+
+        /**
+         * Sets the minimum size of a request body to get compressed. Smaller bodies are sent as they are, since the
+         * compression would cost more than it saves.
+         *
+         * @param compressionThreshold min body size in bytes (default: 1024)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder compressionThreshold(final Integer compressionThreshold) {
+            setCompressionThreshold(compressionThreshold);
+            return this;
+        }
+
+        /**
+         * Sets the level used to compress the request bodies, from 1 (fastest) to 9 (smallest).
+         *
+         * @param compressionLevel compression level (default: 6)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder compressionLevel(final Integer compressionLevel) {
+            setCompressionLevel(compressionLevel);
+            return this;
+        }
+
         /**
          * Sets the load balancing strategy to be used in an ArangoDB cluster setup.
          * In case of Active-Failover deployment set to {@link LoadBalancingStrategy#NONE} or not set at all, since that
@@ -535,6 +804,20 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Sets the strategy to choose one of the connections to a host for each request. With
+         * {@link ConnectionSelectionStrategy#LEAST_IN_FLIGHT} or {@link ConnectionSelectionStrategy#POWER_OF_TWO_CHOICES}
+         * a slow request no longer delays the requests queued behind it on the same connection.
+         *
+         * @param connectionSelectionStrategy the strategy to be used (default:
+         *                                    {@link ConnectionSelectionStrategy#ROUND_ROBIN})
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder connectionSelectionStrategy(final ConnectionSelectionStrategy connectionSelectionStrategy) {
+            setConnectionSelectionStrategy(connectionSelectionStrategy);
+            return this;
+        }
+
         /**
          * Register a custom {@link VPackSerializer} for a specific type to be used within the internal serialization
          * process.
@@ -890,12 +1173,18 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             final ArangoSerialization custom = customSerializer != null ? customSerializer : internal;
             final ArangoSerializationFactory util = new ArangoSerializationFactory(internal, custom);
 
+            if (protocol != null && protocol != Protocol.VST) {
+                return buildHttp(util, custom);
+            }
+
             final int max = maxConnections != null ? Math.max(1, maxConnections)
                     : ArangoDefaults.MAX_CONNECTIONS_VST_DEFAULT;
+            final VstEventLoopGroup eventLoopGroup = createVstEventLoopGroup();
+            final VstBufferPool bufferPool = createVstBufferPool();
             final ConnectionFactory syncConnectionFactory = new VstConnectionFactorySync(host, timeout, connectionTtl,
-                    keepAliveInterval, useSsl, sslContext);
+                    keepAliveInterval, useSsl, sslContext, eventLoopGroup, bufferPool);
             final ConnectionFactory asyncConnectionFactory = new VstConnectionFactoryAsync(host, timeout, connectionTtl,
-                    keepAliveInterval, useSsl, sslContext);
+                    keepAliveInterval, useSsl, sslContext, eventLoopGroup, bufferPool);
             final HostResolver syncHostResolver = createHostResolver(createHostList(max, syncConnectionFactory), max,
                     syncConnectionFactory);
             final HostResolver asyncHostResolver = createHostResolver(createHostList(max, asyncConnectionFactory), max,
@@ -903,16 +1192,61 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             final HostHandler syncHostHandler = createHostHandler(syncHostResolver);
             final HostHandler asyncHostHandler = createHostHandler(asyncHostResolver);
             return new ArangoDBAsyncImpl(
-                    asyncBuilder(asyncHostHandler),
+                    asyncBuilder(asyncHostHandler).eventLoopGroup(eventLoopGroup),
+                    util,
+                    syncBuilder(syncHostHandler).eventLoopGroup(eventLoopGroup),
+                    asyncHostResolver,
+                    syncHostResolver,
+                    asyncHostHandler,
+                    syncHostHandler,
+                    new ArangoContext(),
+                    responseQueueTimeSamples,
+                    timeout,
+                    executionOptions());
+        }
+
+        private ArangoDBAsync buildHttp(final ArangoSerializationFactory util, final ArangoSerialization custom) {
+            final boolean http2 = protocol == Protocol.HTTP2_JSON || protocol == Protocol.HTTP2_VPACK;
+            final int max = maxConnections != null ? Math.max(1, maxConnections)
+                    : http2 ? ArangoDefaults.MAX_CONNECTIONS_HTTP2_DEFAULT : ArangoDefaults.MAX_CONNECTIONS_HTTP_DEFAULT;
+            final int streams = http2MaxConcurrentStreams != null ? http2MaxConcurrentStreams
+                    : ArangoDefaults.DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS;
+            final CompressionMetricsImpl compressionMetrics = new CompressionMetricsImpl();
+            final HttpCompression compression = createHttpCompression(compressionMetrics);
+            // each host has a single non-blocking connection object, leasing up to max sockets
+            final ConnectionFactory asyncConnectionFactory = new HttpConnectionFactoryAsync(timeout, user, password,
+                    useSsl, sslContext, hostnameVerifier, custom, protocol, connectionTtl, max, streams, compression);
+            // the blocking connections only serve the acquisition of the host list
+            final ConnectionFactory syncConnectionFactory = new HttpConnectionFactory(timeout, user, password, useSsl,
+                    sslContext, hostnameVerifier, custom, protocol, connectionTtl, httpCookieSpec,
+                    httpRequestRetryHandler, streams, 1, compression);
+            final HostResolver asyncHostResolver = createHostResolver(createHostList(1, asyncConnectionFactory), 1,
+                    asyncConnectionFactory);
+            final HostResolver syncHostResolver = createHostResolver(createHostList(1, syncConnectionFactory), 1,
+                    syncConnectionFactory);
+            final HostHandler asyncHostHandler = createHostHandler(asyncHostResolver);
+            final HostHandler syncHostHandler = createHostHandler(syncHostResolver);
+            asyncHostHandler.setJwt(jwt);
+            syncHostHandler.setJwt(jwt);
+            return new ArangoDBAsyncImpl(
+                    new HttpCommunicationAsync.Builder(asyncHostHandler, headerParam).build(),
                     util,
-                    syncBuilder(syncHostHandler),
+                    new HttpProtocol(new HttpCommunication.Builder(syncHostHandler, headerParam).build(custom)),
                     asyncHostResolver,
                     syncHostResolver,
                     asyncHostHandler,
                     syncHostHandler,
                     new ArangoContext(),
                     responseQueueTimeSamples,
-                    timeout);
+                    timeout,
+                    compressionMetrics,
+                    executionOptions());
+        }
+
+        private AsyncExecutionOptions executionOptions() {
+            return new AsyncExecutionOptions(serializationExecutor, deserializationExecutor,
+                    deserializationInlineThreshold, virtualThreads, maxInFlightRequests, maxInFlightBytes,
+                    backpressurePolicy);
         }
 
         private VstCommunicationAsync.Builder asyncBuilder(final HostHandler hostHandler) {
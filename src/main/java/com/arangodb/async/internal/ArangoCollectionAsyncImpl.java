@@ -27,7 +27,10 @@ import com.arangodb.internal.InternalArangoCollection;
 import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.*;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
@@ -129,7 +132,25 @@ public class ArangoCollectionAsyncImpl
             final Collection<String> keys,
             final Class<T> type,
             final DocumentReadOptions options) {
-        return executor.execute(getDocumentsRequest(keys, options), getDocumentsResponseDeserializer(type, options));
+        final DocumentReadOptions params = (options != null ? options : new DocumentReadOptions());
+        final List<Collection<String>> batches = getDocumentsBatches(keys, params);
+        if (batches.size() == 1) {
+            return executor.execute(getDocumentsRequest(keys, params), getDocumentsResponseDeserializer(type, params));
+        }
+        // each lane requests every n-th batch once the previous one of the lane is done
+        final int lanes = getDocumentsParallelism(params, batches.size());
+        final List<MultiDocumentEntity<T>> results = new ArrayList<>(Collections.nCopies(batches.size(), null));
+        final CompletableFuture<?>[] requests = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            CompletableFuture<Void> requested = CompletableFuture.completedFuture(null);
+            for (int i = lane; i < batches.size(); i += lanes) {
+                final int index = i;
+                requested = requested.thenCompose(v -> executor.execute(getDocumentsRequest(batches.get(index), params),
+                        getDocumentsResponseDeserializer(type, params)).thenAccept(result -> results.set(index, result)));
+            }
+            requests[lane] = requested;
+        }
+        return CompletableFuture.allOf(requests).thenApply(v -> mergeDocuments(results));
     }
 
     @Override
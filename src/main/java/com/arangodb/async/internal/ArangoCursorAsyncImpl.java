@@ -20,14 +20,22 @@
 
 package com.arangodb.async.internal;
 
+import com.arangodb.ArangoCursor;
 import com.arangodb.async.ArangoCursorAsync;
 import com.arangodb.entity.CursorEntity;
 import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.cursor.ArangoCursorImpl;
+import com.arangodb.internal.cursor.ArangoCursorIterator;
+import com.arangodb.velocypack.VPackSlice;
 
-import java.util.Spliterator;
-import java.util.Spliterators;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -36,13 +44,119 @@ import java.util.stream.StreamSupport;
  */
 public class ArangoCursorAsyncImpl<T> extends ArangoCursorImpl<T> implements ArangoCursorAsync<T> {
 
-    ArangoCursorAsyncImpl(final InternalArangoDatabase<?, ?> db, final ArangoCursorExecute execute,
+    private final PrefetchingCursorExecute execute;
+
+    ArangoCursorAsyncImpl(final InternalArangoDatabase<?, ?> db, final PrefetchingCursorExecute execute,
                           final Class<T> type, final CursorEntity result) {
         super(db, execute, type, result);
+        this.execute = execute;
+        execute.start(result);
+    }
+
+    @Override
+    protected ArangoCursorIterator<T> createIterator(
+            final ArangoCursor<T> cursor,
+            final InternalArangoDatabase<?, ?> db,
+            final ArangoCursorExecute execute,
+            final CursorEntity result) {
+        return new BatchIterator<>(cursor, execute, db, result);
     }
 
     @Override
     public Stream<T> streamRemaining() {
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public CompletableFuture<List<T>> nextBatch() {
+        final BatchIterator<T> batches = (BatchIterator<T>) iterator;
+        if (batches.batchIterator().hasNext() || !Boolean.TRUE.equals(batches.getResult().getHasMore())) {
+            return CompletableFuture.completedFuture(batches.remaining());
+        }
+        return execute.nextAsync(getId(), batches.getResult().getMeta()).thenApply(result -> {
+            batches.setResult(result);
+            return batches.remaining();
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> forEachBatch(final Function<? super List<T>, ? extends CompletionStage<?>> action) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        forEachBatch(action, done);
+        return done;
+    }
+
+    private void forEachBatch(final Function<? super List<T>, ? extends CompletionStage<?>> action,
+                              final CompletableFuture<Void> done) {
+        // loops as long as the steps complete synchronously, so that prefetched batches do not grow the stack
+        while (true) {
+            final CompletableFuture<Boolean> step;
+            try {
+                step = nextBatch().thenCompose(batch -> batch.isEmpty()
+                        ? CompletableFuture.completedFuture(hasNext())
+                        : action.apply(batch).thenApply(it -> true));
+            } catch (final RuntimeException e) {
+                done.completeExceptionally(e);
+                return;
+            }
+            if (!step.isDone() || step.isCompletedExceptionally()) {
+                step.whenComplete((more, e) -> {
+                    if (e != null) {
+                        done.completeExceptionally(e);
+                    } else if (more) {
+                        forEachBatch(action, done);
+                    } else {
+                        done.complete(null);
+                    }
+                });
+                return;
+            }
+            if (!step.join()) {
+                done.complete(null);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+        if (getId() != null && hasNext()) {
+            return execute.closeAsync(getId(), iterator.getResult().getMeta());
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static final class BatchIterator<T> extends ArangoCursorIterator<T> {
+
+        private final ArangoCursor<T> cursor;
+
+        private BatchIterator(final ArangoCursor<T> cursor, final ArangoCursorExecute execute,
+                              final InternalArangoDatabase<?, ?> db, final CursorEntity result) {
+            super(cursor, execute, db, result);
+            this.cursor = cursor;
+        }
+
+        // overridden to be accessible from the cursor
+        @Override
+        protected void setResult(final CursorEntity result) {
+            super.setResult(result);
+        }
+
+        @Override
+        protected Iterator<VPackSlice> batchIterator() {
+            return super.batchIterator();
+        }
+
+        private List<T> remaining() {
+            final Iterator<VPackSlice> slices = batchIterator();
+            if (!slices.hasNext()) {
+                return Collections.emptyList();
+            }
+            final List<T> elements = new ArrayList<>();
+            while (slices.hasNext()) {
+                elements.add(deserialize(slices.next(), cursor.getType()));
+            }
+            return elements;
+        }
     }
 }
@@ -22,6 +22,7 @@ package com.arangodb.async.internal;
 
 import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoMetrics;
+import com.arangodb.CompressionMetrics;
 import com.arangodb.DbName;
 import com.arangodb.async.ArangoDBAsync;
 import com.arangodb.async.ArangoDatabaseAsync;
@@ -33,10 +34,8 @@ import com.arangodb.internal.net.HostHandler;
 import com.arangodb.internal.net.HostResolver;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
-import com.arangodb.internal.velocystream.VstCommunication;
 import com.arangodb.internal.velocystream.VstCommunicationSync;
 import com.arangodb.internal.velocystream.VstProtocol;
-import com.arangodb.internal.velocystream.internal.VstConnectionSync;
 import com.arangodb.model.DBCreateOptions;
 import com.arangodb.model.LogOptions;
 import com.arangodb.model.UserCreateOptions;
@@ -61,6 +60,7 @@ public class ArangoDBAsyncImpl extends InternalArangoDB<ArangoExecutorAsync> imp
     private final CommunicationProtocol cp;
     private final HostHandler asyncHostHandler;
     private final HostHandler syncHostHandler;
+    private final CompressionMetrics compressionMetrics;
 
     public ArangoDBAsyncImpl(
             final VstCommunicationAsync.Builder asyncCommBuilder,
@@ -72,17 +72,37 @@ public class ArangoDBAsyncImpl extends InternalArangoDB<ArangoExecutorAsync> imp
             final HostHandler syncHostHandler,
             final ArangoContext context,
             final int responseQueueTimeSamples,
-            final int timeoutMs
+            final int timeoutMs,
+            final AsyncExecutionOptions executionOptions
     ) {
+        this(asyncCommBuilder.build(util.get(Serializer.INTERNAL)), util,
+                new VstProtocol(syncCommBuilder.build(util.get(Serializer.INTERNAL))), asyncHostResolver,
+                syncHostResolver, asyncHostHandler, syncHostHandler, context, responseQueueTimeSamples, timeoutMs,
+                new CompressionMetricsImpl(), executionOptions);
+    }
 
-        super(new ArangoExecutorAsync(asyncCommBuilder.build(util.get(Serializer.INTERNAL)), util, new DocumentCache(),
-                new QueueTimeMetricsImpl(responseQueueTimeSamples), timeoutMs), util, context);
+    public ArangoDBAsyncImpl(
+            final CommunicationProtocolAsync asyncCommunication,
+            final ArangoSerializationFactory util,
+            final CommunicationProtocol syncProtocol,
+            final HostResolver asyncHostResolver,
+            final HostResolver syncHostResolver,
+            final HostHandler asyncHostHandler,
+            final HostHandler syncHostHandler,
+            final ArangoContext context,
+            final int responseQueueTimeSamples,
+            final int timeoutMs,
+            final CompressionMetrics compressionMetrics,
+            final AsyncExecutionOptions executionOptions
+    ) {
 
-        final VstCommunication<Response, VstConnectionSync> cacheCom = syncCommBuilder.build(util.get(Serializer.INTERNAL));
+        super(new ArangoExecutorAsync(asyncCommunication, util, new DocumentCache(),
+                new QueueTimeMetricsImpl(responseQueueTimeSamples), timeoutMs, executionOptions), util, context);
 
-        cp = new VstProtocol(cacheCom);
+        cp = syncProtocol;
         this.asyncHostHandler = asyncHostHandler;
         this.syncHostHandler = syncHostHandler;
+        this.compressionMetrics = compressionMetrics;
 
         ArangoExecutorSync arangoExecutorSync = new ArangoExecutorSync(cp, util, new DocumentCache(),
                 new QueueTimeMetricsImpl(responseQueueTimeSamples), timeoutMs);
@@ -129,7 +149,8 @@ public class ArangoDBAsyncImpl extends InternalArangoDB<ArangoExecutorAsync> imp
 
     @Override
     public ArangoMetrics metrics() {
-        return new ArangoMetricsImpl(executor.getQueueTimeMetrics());
+        return new ArangoMetricsImpl(executor.getQueueTimeMetrics(), compressionMetrics,
+                executor.getInFlightMetrics());
     }
 
     @Override
@@ -26,7 +26,6 @@ import com.arangodb.async.*;
 import com.arangodb.entity.*;
 import com.arangodb.entity.arangosearch.AnalyzerEntity;
 import com.arangodb.entity.arangosearch.analyzer.SearchAnalyzer;
-import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.ArangoErrors;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.net.HostHandle;
@@ -54,7 +53,6 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
 
 /**
  * @author Mark Vollmary
@@ -228,27 +226,12 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
             final Class<T> type,
             final AqlQueryOptions options,
             final HostHandle hostHandle) {
-        return new ArangoCursorAsyncImpl<>(this, new ArangoCursorExecute() {
-            @Override
-            public CursorEntity next(final String id, Map<String, String> meta) {
-                final CompletableFuture<CursorEntity> result = executor.execute(queryNextRequest(id, options, meta),
-                        CursorEntity.class, hostHandle);
-                try {
-                    return result.get();
-                } catch (InterruptedException | ExecutionException e) {
-                    throw new ArangoDBException(e);
-                }
-            }
-
-            @Override
-            public void close(final String id, Map<String, String> meta) {
-                try {
-                    executor.execute(queryCloseRequest(id, options, meta), Void.class, hostHandle).get();
-                } catch (InterruptedException | ExecutionException e) {
-                    throw new ArangoDBException(e);
-                }
-            }
-        }, type, result);
+        // fetching ahead would use a stream transaction concurrently with the other requests of the caller
+        final boolean prefetch = options == null || options.getStreamTransactionId() == null;
+        return new ArangoCursorAsyncImpl<>(this, new PrefetchingCursorExecute(
+                (id, meta) -> executor.execute(queryNextRequest(id, options, meta), CursorEntity.class, hostHandle),
+                (id, meta) -> executor.execute(queryCloseRequest(id, options, meta), Void.class, hostHandle),
+                prefetch), type, result);
     }
 
     @Override
@@ -21,19 +21,26 @@
 package com.arangodb.async.internal;
 
 import com.arangodb.ArangoDBException;
-import com.arangodb.async.internal.velocystream.VstCommunicationAsync;
 import com.arangodb.internal.ArangoExecutor;
 import com.arangodb.internal.DocumentCache;
 import com.arangodb.internal.QueueTimeMetricsImpl;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.util.ArangoSerializationFactory;
+import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.Response;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * @author Mark Vollmary
@@ -41,13 +48,52 @@ import java.util.concurrent.Executors;
  */
 public class ArangoExecutorAsync extends ArangoExecutor {
 
-    private final VstCommunicationAsync communication;
-    private final ExecutorService outgoingExecutor = Executors.newSingleThreadExecutor();
+    private final CommunicationProtocolAsync communication;
+    private final Executor outgoingExecutor;
+    private final Executor incomingExecutor;
+    private final int inlineThreshold;
+    private final RequestLimiter limiter;
+    private final List<ExecutorService> ownedExecutors = new ArrayList<>();
 
-    public ArangoExecutorAsync(final VstCommunicationAsync communication, final ArangoSerializationFactory util,
+    public ArangoExecutorAsync(final CommunicationProtocolAsync communication, final ArangoSerializationFactory util,
                                final DocumentCache documentCache, final QueueTimeMetricsImpl qtMetrics, final int timeoutMs) {
+        this(communication, util, documentCache, qtMetrics, timeoutMs, AsyncExecutionOptions.defaults());
+    }
+
+    public ArangoExecutorAsync(final CommunicationProtocolAsync communication, final ArangoSerializationFactory util,
+                               final DocumentCache documentCache, final QueueTimeMetricsImpl qtMetrics, final int timeoutMs,
+                               final AsyncExecutionOptions options) {
         super(util, documentCache, qtMetrics, timeoutMs);
         this.communication = communication;
+        final ExecutorService virtualThreads = options.isVirtualThreads()
+                && (options.getSerializationExecutor() == null || options.getDeserializationExecutor() == null)
+                ? own(newVirtualThreadPerTaskExecutor()) : null;
+        if (options.getSerializationExecutor() != null) {
+            outgoingExecutor = options.getSerializationExecutor();
+        } else {
+            outgoingExecutor = virtualThreads != null ? virtualThreads : own(Executors.newSingleThreadExecutor());
+        }
+        if (options.getDeserializationExecutor() != null) {
+            incomingExecutor = options.getDeserializationExecutor();
+        } else {
+            incomingExecutor = virtualThreads != null ? virtualThreads : ForkJoinPool.commonPool();
+        }
+        inlineThreshold = options.getDeserializationInlineThreshold();
+        limiter = new RequestLimiter(options.getMaxInFlightRequests(), options.getMaxInFlightBytes(),
+                options.getBackpressurePolicy(), getInFlightMetrics());
+    }
+
+    private ExecutorService own(final ExecutorService executor) {
+        ownedExecutors.add(executor);
+        return executor;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            throw new ArangoDBException("Virtual threads require Java 21 or later", e);
+        }
     }
 
     public <T> CompletableFuture<T> execute(final Request request, final Type type) {
@@ -67,12 +113,78 @@ public class ArangoExecutorAsync extends ArangoExecutor {
             final ResponseDeserializer<T> responseDeserializer,
             final HostHandle hostHandle) {
 
-        return CompletableFuture.completedFuture(null)
-                .thenComposeAsync((it) -> communication.execute(interceptRequest(request), hostHandle), outgoingExecutor)
-                .thenApplyAsync(response -> {
-                    interceptResponse(response);
-                    return responseDeserializer.deserialize(response);
-                });
+        // completed straight from the callbacks instead of chaining a stage per step
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final long size = bodySize(request);
+        limiter.acquire(size, request.getPriority(), () -> {
+            try {
+                outgoingExecutor.execute(() -> send(request, responseDeserializer, hostHandle, size, result));
+            } catch (final RejectedExecutionException e) {
+                limiter.release(size);
+                fail(result, e);
+            }
+        }, e -> fail(result, e));
+        return result;
+    }
+
+    private <T> void send(
+            final Request request,
+            final ResponseDeserializer<T> responseDeserializer,
+            final HostHandle hostHandle,
+            final long size,
+            final CompletableFuture<T> result) {
+
+        final CompletableFuture<Response> response;
+        try {
+            response = communication.execute(interceptRequest(request), hostHandle);
+        } catch (final RuntimeException e) {
+            limiter.release(size);
+            fail(result, e);
+            return;
+        }
+        response.whenComplete((r, e) -> {
+            limiter.release(size);
+            if (e != null) {
+                fail(result, e);
+            } else if (deserializesInline(r)) {
+                receive(r, responseDeserializer, result);
+            } else {
+                try {
+                    incomingExecutor.execute(() -> receive(r, responseDeserializer, result));
+                } catch (final RejectedExecutionException ex) {
+                    fail(result, ex);
+                }
+            }
+        });
+    }
+
+    private boolean deserializesInline(final Response response) {
+        if (inlineThreshold == 0) {
+            return false;
+        }
+        final VPackSlice body = response.getBody();
+        return body == null || body.getByteSize() < inlineThreshold;
+    }
+
+    private <T> void receive(
+            final Response response,
+            final ResponseDeserializer<T> responseDeserializer,
+            final CompletableFuture<T> result) {
+
+        final T value;
+        try {
+            interceptResponse(response);
+            value = responseDeserializer.deserialize(response);
+        } catch (final RuntimeException e) {
+            fail(result, e);
+            return;
+        }
+        result.complete(value);
+    }
+
+    private static void fail(final CompletableFuture<?> result, final Throwable e) {
+        // wrapped the same way as by the stages of a CompletableFuture
+        result.completeExceptionally(e instanceof CompletionException ? e : new CompletionException(e));
     }
 
     public void disconnect() {
@@ -81,7 +193,7 @@ public class ArangoExecutorAsync extends ArangoExecutor {
         } catch (final IOException e) {
             throw new ArangoDBException(e);
         } finally {
-            outgoingExecutor.shutdown();
+            ownedExecutors.forEach(ExecutorService::shutdown);
         }
     }
 
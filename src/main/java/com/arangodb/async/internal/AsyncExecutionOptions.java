@@ -0,0 +1,109 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal;
+
+import com.arangodb.BackpressurePolicy;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Threads running the requests of an {@link ArangoExecutorAsync} and limits on the requests in flight. Executors left
+ * {@code null} are created by the executor itself and shut down with it.
+ */
+public final class AsyncExecutionOptions {
+
+    private final Executor serializationExecutor;
+    private final Executor deserializationExecutor;
+    private final int deserializationInlineThreshold;
+    private final boolean virtualThreads;
+    private final int maxInFlightRequests;
+    private final long maxInFlightBytes;
+    private final BackpressurePolicy backpressurePolicy;
+
+    /**
+     * @param serializationExecutor          executor sending the requests, or {@code null} for a dedicated thread
+     * @param deserializationExecutor        executor deserializing the responses, or {@code null} for the common
+     *                                       fork-join pool
+     * @param deserializationInlineThreshold responses with a body smaller than this are deserialized on the thread
+     *                                       receiving them
+     * @param virtualThreads                 whether the executors left {@code null} start a virtual thread per task;
+     *                                       on runtimes older than Java 21 the {@link ArangoExecutorAsync} created
+     *                                       with these options throws an {@link com.arangodb.ArangoDBException}
+     */
+    public AsyncExecutionOptions(final Executor serializationExecutor, final Executor deserializationExecutor,
+                                 final int deserializationInlineThreshold, final boolean virtualThreads) {
+        this(serializationExecutor, deserializationExecutor, deserializationInlineThreshold, virtualThreads, 0, 0L,
+                BackpressurePolicy.WAIT);
+    }
+
+    /**
+     * @param maxInFlightRequests max number of requests in flight, 0 for no limit
+     * @param maxInFlightBytes    max total body size of the requests in flight, 0 for no limit
+     * @param backpressurePolicy  behavior once a limit is reached
+     * @see #AsyncExecutionOptions(Executor, Executor, int, boolean)
+     */
+    public AsyncExecutionOptions(final Executor serializationExecutor, final Executor deserializationExecutor,
+                                 final int deserializationInlineThreshold, final boolean virtualThreads,
+                                 final int maxInFlightRequests, final long maxInFlightBytes,
+                                 final BackpressurePolicy backpressurePolicy) {
+        super();
+        this.serializationExecutor = serializationExecutor;
+        this.deserializationExecutor = deserializationExecutor;
+        this.deserializationInlineThreshold = Math.max(0, deserializationInlineThreshold);
+        this.virtualThreads = virtualThreads;
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.backpressurePolicy = backpressurePolicy;
+    }
+
+    public static AsyncExecutionOptions defaults() {
+        return new AsyncExecutionOptions(null, null, 0, false);
+    }
+
+    public Executor getSerializationExecutor() {
+        return serializationExecutor;
+    }
+
+    public Executor getDeserializationExecutor() {
+        return deserializationExecutor;
+    }
+
+    public int getDeserializationInlineThreshold() {
+        return deserializationInlineThreshold;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    public long getMaxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+
+    public BackpressurePolicy getBackpressurePolicy() {
+        return backpressurePolicy;
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal;
+
+import com.arangodb.internal.net.HostHandle;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.Response;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link com.arangodb.internal.net.CommunicationProtocol}, implemented over VelocyStream
+ * and HTTP.
+ */
+public interface CommunicationProtocolAsync extends Closeable {
+
+    /**
+     * @param request    request to execute
+     * @param hostHandle handle pinning the request to a host, or {@code null}
+     * @return future completed with the response, or exceptionally with an {@link com.arangodb.ArangoDBException}
+     */
+    CompletableFuture<Response> execute(Request request, HostHandle hostHandle);
+
+    void setJwt(String jwt);
+
+}
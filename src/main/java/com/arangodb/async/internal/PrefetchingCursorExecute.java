@@ -0,0 +1,136 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiFunction;
+
+/**
+ * Fetches the batches of a cursor asynchronously, requesting the following batch as soon as one is handed out, so
+ * that it is transferred while the current one is consumed. At most one batch is fetched ahead, since the server
+ * serves the batches of a cursor one after the other.
+ */
+class PrefetchingCursorExecute implements ArangoCursorExecute {
+
+    private final BiFunction<String, Map<String, String>, CompletableFuture<CursorEntity>> next;
+    private final BiFunction<String, Map<String, String>, CompletableFuture<Void>> close;
+    private final boolean prefetch;
+    private CompletableFuture<CursorEntity> prefetched;
+    private boolean closed;
+
+    /**
+     * @param next     requests the batch following the one with the given metadata
+     * @param close    deletes the cursor
+     * @param prefetch whether to fetch a batch ahead
+     */
+    PrefetchingCursorExecute(final BiFunction<String, Map<String, String>, CompletableFuture<CursorEntity>> next,
+                             final BiFunction<String, Map<String, String>, CompletableFuture<Void>> close,
+                             final boolean prefetch) {
+        super();
+        this.next = next;
+        this.close = close;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Starts fetching the second batch while the first one is consumed.
+     *
+     * @param first first batch of the cursor
+     */
+    synchronized void start(final CursorEntity first) {
+        prefetchAfter(first);
+    }
+
+    private void prefetchAfter(final CursorEntity batch) {
+        if (prefetch && !closed && batch.getId() != null && Boolean.TRUE.equals(batch.getHasMore())) {
+            prefetched = next.apply(batch.getId(), batch.getMeta());
+        }
+    }
+
+    /**
+     * Must not be called before the future returned by the previous call completed.
+     *
+     * @return future completed with the batch following the one with the given metadata
+     */
+    CompletableFuture<CursorEntity> nextAsync(final String id, final Map<String, String> meta) {
+        final CompletableFuture<CursorEntity> batch;
+        synchronized (this) {
+            batch = prefetched != null ? prefetched : next.apply(id, meta);
+            prefetched = null;
+        }
+        if (!prefetch) {
+            return batch;
+        }
+        // the following batch is requested before the caller sees this one, so it cannot fetch it twice
+        return batch.thenApply(entity -> {
+            synchronized (this) {
+                prefetchAfter(entity);
+            }
+            return entity;
+        });
+    }
+
+    /**
+     * Deletes the cursor once a batch being fetched ahead has arrived, unless that batch was the last one.
+     */
+    CompletableFuture<Void> closeAsync(final String id, final Map<String, String> meta) {
+        final CompletableFuture<CursorEntity> pending;
+        synchronized (this) {
+            closed = true;
+            pending = prefetched;
+            prefetched = null;
+        }
+        if (pending == null) {
+            return close.apply(id, meta);
+        }
+        return pending.handle((entity, e) -> entity).thenCompose(entity -> {
+            if (entity != null && !Boolean.TRUE.equals(entity.getHasMore())) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return close.apply(id, entity != null ? entity.getMeta() : meta);
+        });
+    }
+
+    @Override
+    public CursorEntity next(final String id, final Map<String, String> meta) {
+        try {
+            return nextAsync(id, meta).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+    @Override
+    public void close(final String id, final Map<String, String> meta) {
+        try {
+            closeAsync(id, meta).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+}
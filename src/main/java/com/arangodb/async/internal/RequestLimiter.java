@@ -0,0 +1,200 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.BackpressurePolicy;
+import com.arangodb.internal.InFlightMetricsImpl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Admits requests as long as the number and the body size of the requests in flight stay within the limits, and
+ * applies the {@link BackpressurePolicy} to the others. The queue of waiting requests is bounded by the same limits,
+ * so that at most twice the limits are held in memory. Callbacks are run outside of the lock, either by the thread
+ * acquiring or by the one releasing a permit.
+ */
+public class RequestLimiter {
+
+    private static final Comparator<Waiter> FIFO = Comparator.comparingLong(w -> w.sequence);
+    private static final Comparator<Waiter> BY_PRIORITY = Comparator.<Waiter>comparingInt(w -> -w.priority)
+            .thenComparingLong(w -> w.sequence);
+
+    private final int maxRequests;
+    private final long maxBytes;
+    private final BackpressurePolicy policy;
+    private final InFlightMetricsImpl metrics;
+    // first waiter is admitted next, last one is shed first
+    private final TreeSet<Waiter> waiting;
+    private int requests;
+    private long bytes;
+    private int queuedRequests;
+    private long queuedBytes;
+    private long sequence;
+
+    /**
+     * @param maxRequests max number of requests in flight, 0 for no limit
+     * @param maxBytes    max total body size of the requests in flight, 0 for no limit
+     * @param policy      behavior once a limit is reached
+     * @param metrics     metrics updated with the requests in flight
+     */
+    public RequestLimiter(final int maxRequests, final long maxBytes, final BackpressurePolicy policy,
+                          final InFlightMetricsImpl metrics) {
+        super();
+        this.maxRequests = Math.max(0, maxRequests);
+        this.maxBytes = Math.max(0L, maxBytes);
+        this.policy = policy != null ? policy : BackpressurePolicy.WAIT;
+        this.metrics = metrics;
+        waiting = new TreeSet<>(this.policy == BackpressurePolicy.SHED_LOWEST_PRIORITY ? BY_PRIORITY : FIFO);
+    }
+
+    private boolean isUnlimited() {
+        return maxRequests == 0 && maxBytes == 0;
+    }
+
+    /**
+     * @param size     body size of the request
+     * @param priority priority of the request
+     * @param admitted run once the request may be sent, {@link #release(long)} must follow its completion
+     * @param rejected run with the cause if the request is not sent
+     */
+    public void acquire(final long size, final int priority, final Runnable admitted,
+                        final Consumer<ArangoDBException> rejected) {
+        if (isUnlimited()) {
+            metrics.started(size);
+            admitted.run();
+            return;
+        }
+        final boolean admit;
+        Waiter shed = null;
+        synchronized (this) {
+            if (waiting.isEmpty() && fits(size)) {
+                take(size);
+                admit = true;
+            } else if (policy == BackpressurePolicy.FAIL) {
+                admit = false;
+                shed = new Waiter(size, priority, admitted, rejected, 0L);
+            } else {
+                admit = false;
+                final Waiter waiter = new Waiter(size, priority, admitted, rejected, sequence++);
+                if (!queueFull(size)) {
+                    enqueue(waiter);
+                } else if (policy == BackpressurePolicy.SHED_LOWEST_PRIORITY
+                        && waiting.last().priority < priority) {
+                    final Waiter last = waiting.last();
+                    dequeue(last);
+                    shed = last;
+                    enqueue(waiter);
+                } else {
+                    shed = waiter;
+                }
+            }
+        }
+        if (admit) {
+            admitted.run();
+        } else if (shed != null) {
+            metrics.rejected();
+            shed.rejected.accept(new ArangoDBException(String.format(
+                    "Request rejected, in-flight limit reached (max requests: %s, max bytes: %s, policy: %s)",
+                    maxRequests, maxBytes, policy)));
+        }
+    }
+
+    /**
+     * Releases the permit of a completed request and admits the requests waiting for it.
+     *
+     * @param size body size of the request
+     */
+    public void release(final long size) {
+        if (isUnlimited()) {
+            metrics.finished(size);
+            return;
+        }
+        final List<Waiter> admitted = new ArrayList<>(1);
+        synchronized (this) {
+            requests--;
+            bytes -= size;
+            metrics.finished(size);
+            while (!waiting.isEmpty() && fits(waiting.first().size)) {
+                final Waiter next = waiting.first();
+                dequeue(next);
+                take(next.size);
+                admitted.add(next);
+            }
+        }
+        for (final Waiter waiter : admitted) {
+            waiter.admitted.run();
+        }
+    }
+
+    private boolean fits(final long size) {
+        // a request larger than the byte limit is sent alone rather than never
+        return (maxRequests == 0 || requests < maxRequests)
+                && (maxBytes == 0 || bytes + size <= maxBytes || requests == 0);
+    }
+
+    private boolean queueFull(final long size) {
+        return !waiting.isEmpty() && ((maxRequests != 0 && queuedRequests >= maxRequests)
+                || (maxBytes != 0 && queuedBytes + size > maxBytes));
+    }
+
+    private void take(final long size) {
+        requests++;
+        bytes += size;
+        metrics.started(size);
+    }
+
+    private void enqueue(final Waiter waiter) {
+        waiting.add(waiter);
+        queuedRequests++;
+        queuedBytes += waiter.size;
+        metrics.queued();
+    }
+
+    private void dequeue(final Waiter waiter) {
+        waiting.remove(waiter);
+        queuedRequests--;
+        queuedBytes -= waiter.size;
+        metrics.dequeued();
+    }
+
+    private static final class Waiter {
+        private final long size;
+        private final int priority;
+        private final Runnable admitted;
+        private final Consumer<ArangoDBException> rejected;
+        private final long sequence;
+
+        private Waiter(final long size, final int priority, final Runnable admitted,
+                       final Consumer<ArangoDBException> rejected, final long sequence) {
+            this.size = size;
+            this.priority = priority;
+            this.admitted = admitted;
+            this.rejected = rejected;
+            this.sequence = sequence;
+        }
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal.http;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.async.internal.CommunicationProtocolAsync;
+import com.arangodb.internal.net.AccessType;
+import com.arangodb.internal.net.ArangoDBRedirectException;
+import com.arangodb.internal.net.Host;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.net.HostHandle;
+import com.arangodb.internal.net.HostHandler;
+import com.arangodb.internal.util.HostUtils;
+import com.arangodb.internal.util.RequestUtils;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Non-blocking counterpart of {@link com.arangodb.internal.http.HttpCommunication}: transport errors fail over to the
+ * next host of the {@link HostHandler} and redirects are followed up to three times, all from the completion of the
+ * previous attempt.
+ */
+public class HttpCommunicationAsync implements CommunicationProtocolAsync {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpCommunicationAsync.class);
+
+    public static class Builder {
+
+        private final HostHandler hostHandler;
+        private final Map<String, String> headerParam;
+
+        public Builder(final HostHandler hostHandler, final Map<String, String> headerParam) {
+            super();
+            this.hostHandler = hostHandler;
+            this.headerParam = headerParam;
+        }
+
+        public HttpCommunicationAsync build() {
+            return new HttpCommunicationAsync(hostHandler, headerParam);
+        }
+    }
+
+    private final HostHandler hostHandler;
+    private final Map<String, String> headerParam;
+
+    private HttpCommunicationAsync(final HostHandler hostHandler, final Map<String, String> headerParam) {
+        super();
+        this.hostHandler = hostHandler;
+        this.headerParam = headerParam;
+    }
+
+    @Override
+    public void close() throws IOException {
+        hostHandler.close();
+    }
+
+    @Override
+    public void setJwt(final String jwt) {
+        // no-op: jwt is updated in the host handler
+    }
+
+    @Override
+    public CompletableFuture<Response> execute(final Request request, final HostHandle hostHandle) {
+        return execute(request, hostHandle, 0);
+    }
+
+    private CompletableFuture<Response> execute(final Request request, final HostHandle hostHandle,
+                                                final int attemptCount) {
+        final CompletableFuture<Response> rfuture = new CompletableFuture<>();
+        try {
+            final AccessType accessType = RequestUtils.determineAccessType(request);
+            for (final Map.Entry<String, String> entry : headerParam.entrySet()) {
+                request.putHeaderParam(entry.getKey(), entry.getValue());
+            }
+            // callbacks run on the I/O threads, so the access type does not reach the host handler through the thread
+            final HostHandler handler = hostHandler.resolve(accessType);
+            execute(request, hostHandle, accessType, handler, handler.get(hostHandle, accessType), attemptCount,
+                    rfuture);
+        } catch (final ArangoDBException e) {
+            rfuture.completeExceptionally(e);
+        }
+        return rfuture;
+    }
+
+    private void execute(final Request request, final HostHandle hostHandle, final AccessType accessType,
+                         final HostHandler handler, final Host host, final int attemptCount,
+                         final CompletableFuture<Response> rfuture) {
+        final HttpConnectionAsync connection = (HttpConnectionAsync) host.connection();
+        connection.execute(request).whenComplete((response, ex) -> {
+            if (ex == null) {
+                handler.success();
+                handler.confirm();
+                rfuture.complete(response);
+                return;
+            }
+            final Throwable e = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            try {
+                if (e instanceof SocketTimeoutException) {
+                    // SocketTimeoutException exceptions are wrapped and rethrown.
+                    // Differently from other IOException exceptions they must not be retried,
+                    // since the requests could not be idempotent.
+                    final TimeoutException te = new TimeoutException(e.getMessage());
+                    te.initCause(e);
+                    rfuture.completeExceptionally(new ArangoDBException(te));
+                } else if (e instanceof IOException) {
+                    handler.fail((IOException) e);
+                    if (hostHandle != null && hostHandle.getHost() != null) {
+                        hostHandle.setHost(null);
+                    }
+                    final Host nextHost = handler.get(hostHandle, accessType);
+                    if (nextHost != null) {
+                        LOGGER.warn(String.format("Could not connect to %s", host.getDescription()), e);
+                        LOGGER.warn(String.format("Could not connect to %s. Try connecting to %s",
+                                host.getDescription(), nextHost.getDescription()));
+                        execute(request, hostHandle, accessType, handler, nextHost, attemptCount, rfuture);
+                    } else {
+                        LOGGER.error(e.getMessage(), e);
+                        rfuture.completeExceptionally(new ArangoDBException(e));
+                    }
+                } else if (e instanceof ArangoDBRedirectException && attemptCount < 3) {
+                    final String location = ((ArangoDBRedirectException) e).getLocation();
+                    final HostDescription redirectHost = HostUtils.createFromLocation(location);
+                    handler.failIfNotMatch(redirectHost, (ArangoDBRedirectException) e);
+                    execute(request, new HostHandle().setHost(redirectHost), attemptCount + 1)
+                            .whenComplete((v, err) -> {
+                                if (err != null) {
+                                    rfuture.completeExceptionally(err);
+                                } else {
+                                    rfuture.complete(v);
+                                }
+                            });
+                } else if (e instanceof ArangoDBException) {
+                    rfuture.completeExceptionally(e);
+                } else {
+                    rfuture.completeExceptionally(new ArangoDBException(e));
+                }
+            } catch (final ArangoDBException failure) {
+                rfuture.completeExceptionally(failure);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,315 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal.http;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.Protocol;
+import com.arangodb.internal.http.HttpCompression;
+import com.arangodb.internal.http.HttpRequestTemplate;
+import com.arangodb.internal.http.SimpleHttpMessages;
+import com.arangodb.internal.net.Connection;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.util.ResponseUtils;
+import com.arangodb.util.ArangoSerialization;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.Response;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.H2AsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking HTTP connection to a single host. Requests are handed to an asynchronous Apache HTTP client and
+ * complete on its I/O reactor threads, so no thread is parked per in-flight request. With HTTP/1.1 the connection
+ * leases sockets from a pool of up to {@code maxConnections} sockets, with HTTP/2 the requests are multiplexed as
+ * streams over one TCP connection.
+ */
+public class HttpConnectionAsync implements Connection {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpConnectionAsync.class);
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; ArangoDB-JavaDriver/1.1; +http://mt.orz.at/)";
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    public static class Builder {
+        private String user;
+        private String password;
+        private ArangoSerialization util;
+        private Boolean useSsl;
+        private Protocol contentType;
+        private HostDescription host;
+        private SSLContext sslContext;
+        private HostnameVerifier hostnameVerifier;
+        private Integer timeout;
+        private Long ttl;
+        private int maxConnections = 1;
+        private int http2MaxConcurrentStreams;
+        private HttpCompression compression = HttpCompression.none();
+
+        public Builder user(final String user) {
+            this.user = user;
+            return this;
+        }
+
+        public Builder password(final String password) {
+            this.password = password;
+            return this;
+        }
+
+        public Builder serializationUtil(final ArangoSerialization util) {
+            this.util = util;
+            return this;
+        }
+
+        public Builder useSsl(final Boolean useSsl) {
+            this.useSsl = useSsl;
+            return this;
+        }
+
+        public Builder contentType(final Protocol contentType) {
+            this.contentType = contentType;
+            return this;
+        }
+
+        public Builder host(final HostDescription host) {
+            this.host = host;
+            return this;
+        }
+
+        public Builder sslContext(final SSLContext sslContext) {
+            this.sslContext = sslContext;
+            return this;
+        }
+
+        public Builder hostnameVerifier(final HostnameVerifier hostnameVerifier) {
+            this.hostnameVerifier = hostnameVerifier;
+            return this;
+        }
+
+        public Builder timeout(final Integer timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Builder ttl(final Long ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public Builder maxConnections(final int maxConnections) {
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        public Builder http2MaxConcurrentStreams(final int http2MaxConcurrentStreams) {
+            this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+            return this;
+        }
+
+        public Builder compression(final HttpCompression compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        public HttpConnectionAsync build() {
+            return new HttpConnectionAsync(host, timeout, ttl, user, password, useSsl, sslContext, hostnameVerifier,
+                    util, contentType, maxConnections, http2MaxConcurrentStreams, compression);
+        }
+    }
+
+    private final CloseableHttpAsyncClient client;
+    private final ArangoSerialization util;
+    private final Protocol contentType;
+    private final HttpRequestTemplate template;
+    private final HttpCompression compression;
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+    private HttpConnectionAsync(final HostDescription host, final Integer timeout, final Long ttl, final String user,
+                                final String password, final Boolean useSsl, final SSLContext sslContext,
+                                final HostnameVerifier hostnameVerifier, final ArangoSerialization util,
+                                final Protocol contentType, final int maxConnections,
+                                final int http2MaxConcurrentStreams, final HttpCompression compression) {
+        super();
+        template = new HttpRequestTemplate(host, useSsl, user, password);
+        this.compression = compression;
+        this.util = util;
+        this.contentType = contentType;
+
+        final RequestConfig.Builder requestConfig = RequestConfig.custom();
+        if (timeout != null && timeout > 0) {
+            requestConfig.setConnectTimeout(Timeout.ofMilliseconds(timeout));
+            requestConfig.setConnectionRequestTimeout(Timeout.ofMilliseconds(timeout));
+            requestConfig.setResponseTimeout(Timeout.ofMilliseconds(timeout));
+        }
+        final TlsStrategy tlsStrategy = Boolean.TRUE == useSsl ? createTlsStrategy(sslContext, hostnameVerifier) : null;
+        final ThreadFactory threadFactory = r -> {
+            final Thread thread = new Thread(r, "arangodb-http-async-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        final IOReactorConfig ioReactorConfig = IOReactorConfig.custom().setTcpNoDelay(true).build();
+
+        if (contentType == Protocol.HTTP2_JSON || contentType == Protocol.HTTP2_VPACK) {
+            final H2AsyncClientBuilder builder = H2AsyncClientBuilder.create()
+                    .setH2Config(H2Config.custom().setPushEnabled(false)
+                            .setMaxConcurrentStreams(Math.max(1, http2MaxConcurrentStreams)).build())
+                    .setIOReactorConfig(ioReactorConfig)
+                    .setDefaultRequestConfig(requestConfig.build())
+                    .setUserAgent(USER_AGENT)
+                    .setThreadFactory(threadFactory)
+                    .disableRedirectHandling()
+                    .disableAutomaticRetries()
+                    .disableCookieManagement()
+                    .disableAuthCaching();
+            if (tlsStrategy != null) {
+                builder.setTlsStrategy(tlsStrategy);
+            }
+            client = builder.build();
+        } else {
+            final PoolingAsyncClientConnectionManagerBuilder cm = PoolingAsyncClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(Math.max(1, maxConnections))
+                    .setMaxConnPerRoute(Math.max(1, maxConnections));
+            if (ttl != null) {
+                cm.setConnectionTimeToLive(TimeValue.ofMilliseconds(ttl));
+            }
+            if (tlsStrategy != null) {
+                cm.setTlsStrategy(tlsStrategy);
+            }
+            client = HttpAsyncClientBuilder.create()
+                    .setConnectionManager(cm.build())
+                    .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+                    .setIOReactorConfig(ioReactorConfig)
+                    .setDefaultRequestConfig(requestConfig.build())
+                    .setUserAgent(USER_AGENT)
+                    .setThreadFactory(threadFactory)
+                    .disableRedirectHandling()
+                    .disableAutomaticRetries()
+                    .disableCookieManagement()
+                    .disableAuthCaching()
+                    .build();
+        }
+        client.start();
+    }
+
+    private static TlsStrategy createTlsStrategy(final SSLContext sslContext, final HostnameVerifier hostnameVerifier) {
+        final ClientTlsStrategyBuilder tls = ClientTlsStrategyBuilder.create();
+        try {
+            tls.setSslContext(sslContext != null ? sslContext : SSLContext.getDefault());
+        } catch (final Exception e) {
+            throw new ArangoDBException(e);
+        }
+        if (hostnameVerifier != null) {
+            tls.setHostnameVerifier(hostnameVerifier);
+        }
+        return tls.build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        client.close(CloseMode.GRACEFUL);
+    }
+
+    /**
+     * Sends the request without blocking the calling thread.
+     *
+     * @param request request to execute
+     * @return future completed with the response, already checked for errors. It completes exceptionally with an
+     * {@link IOException} on transport errors, which may be retried on another host, with a
+     * {@link java.net.SocketTimeoutException} if no response arrived in time and with an {@link ArangoDBException}
+     * for error responses.
+     */
+    public CompletableFuture<Response> execute(final Request request) {
+        final String url = template.url(request);
+        final SimpleHttpRequest httpRequest = SimpleHttpMessages.request(request, url, contentType,
+                template.authorization(), compression);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("{} {}", httpRequest.getMethod(), url);
+        }
+        final CompletableFuture<Response> rfuture = new CompletableFuture<>();
+        inFlightRequests.incrementAndGet();
+        final AsyncRequestProducer producer = SimpleHttpMessages.producer(httpRequest, request);
+        client.execute(producer, SimpleResponseConsumer.create(), new FutureCallback<SimpleHttpResponse>() {
+            @Override
+            public void completed(final SimpleHttpResponse httpResponse) {
+                inFlightRequests.decrementAndGet();
+                try {
+                    final Response response = SimpleHttpMessages.response(httpResponse, contentType, compression);
+                    ResponseUtils.checkError(util, response);
+                    rfuture.complete(response);
+                } catch (final Exception e) {
+                    rfuture.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(final Exception ex) {
+                inFlightRequests.decrementAndGet();
+                if (ex instanceof ConnectTimeoutException) {
+                    // nothing has been sent yet, so unlike response timeouts the request can be retried
+                    rfuture.completeExceptionally(new IOException(ex.getMessage(), ex));
+                } else {
+                    rfuture.completeExceptionally(ex);
+                }
+            }
+
+            @Override
+            public void cancelled() {
+                inFlightRequests.decrementAndGet();
+                rfuture.cancel(false);
+            }
+        });
+        return rfuture;
+    }
+
+    @Override
+    public void setJwt(final String jwt) {
+        template.setJwt(jwt);
+    }
+
+    @Override
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+}
@@ -1,9 +1,9 @@
 package com.arangodb.async.internal.utils;
 
+import com.arangodb.internal.util.HashedWheelTimer;
+
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -12,17 +12,12 @@ public class CompletableFutureUtils {
     private CompletableFutureUtils() {
     }
 
-    private static final ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-                Thread t = Executors.defaultThreadFactory().newThread(r);
-                t.setDaemon(true);
-                return t;
-            }
-    );
-
     public static <T> CompletableFuture<T> orTimeout(CompletableFuture<T> completableFuture, long timeout, TimeUnit unit) {
-        ScheduledFuture<?> timeoutTask = timeoutScheduler.schedule(() ->
-                completableFuture.completeExceptionally(new TimeoutException()), timeout, unit);
-        completableFuture.whenComplete((v, e) -> timeoutTask.cancel(false));
+        // dependent stages run on completion, which the timer thread must not
+        HashedWheelTimer.Timeout timeoutTask = HashedWheelTimer.getInstance().newTimeout(() ->
+                ForkJoinPool.commonPool().execute(() -> completableFuture.completeExceptionally(new TimeoutException())),
+                timeout, unit);
+        completableFuture.whenComplete((v, e) -> timeoutTask.cancel());
         return completableFuture;
     }
 
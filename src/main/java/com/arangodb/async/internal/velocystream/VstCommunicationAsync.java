@@ -21,15 +21,18 @@
 package com.arangodb.async.internal.velocystream;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.async.internal.CommunicationProtocolAsync;
 import com.arangodb.internal.net.ArangoDBRedirectException;
 import com.arangodb.internal.net.HostDescription;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.net.HostHandler;
 import com.arangodb.internal.util.HostUtils;
+import com.arangodb.internal.util.RequestUtils;
 import com.arangodb.internal.velocystream.VstCommunication;
 import com.arangodb.internal.velocystream.internal.AuthenticationRequest;
 import com.arangodb.internal.velocystream.internal.JwtAuthenticationRequest;
 import com.arangodb.internal.velocystream.internal.Message;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocypack.exception.VPackParserException;
@@ -45,14 +48,16 @@ import java.util.concurrent.ExecutionException;
 /**
  * @author Mark Vollmary
  */
-public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Response>, VstConnectionAsync> {
+public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Response>, VstConnectionAsync>
+        implements CommunicationProtocolAsync {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(VstCommunicationAsync.class);
 
     private VstCommunicationAsync(final HostHandler hostHandler, final Integer timeout, final String user,
                                   final String password, final String jwt, final Boolean useSsl, final SSLContext sslContext, final ArangoSerialization util,
-                                  final Integer chunksize, final Integer maxConnections, final Long connectionTtl) {
-        super(timeout, user, password, jwt, useSsl, sslContext, util, chunksize, hostHandler);
+                                  final Integer chunksize, final Integer maxConnections, final Long connectionTtl,
+                                  final VstEventLoopGroup eventLoopGroup) {
+        super(timeout, user, password, jwt, useSsl, sslContext, util, chunksize, hostHandler, eventLoopGroup);
     }
 
     @Override
@@ -63,6 +68,8 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
     @Override
     protected CompletableFuture<Response> execute(final Request request, final VstConnectionAsync connection, final int attemptCount) {
         final CompletableFuture<Response> rfuture = new CompletableFuture<>();
+        // the callback runs on the I/O thread, so the access type does not reach the host handler through the thread
+        final HostHandler handler = hostHandler.resolve(RequestUtils.determineAccessType(request));
         try {
             final Message message = createMessage(request);
             send(message, connection).whenComplete((m, ex) -> {
@@ -85,7 +92,7 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
                         }
                         final String location = e.getLocation();
                         final HostDescription redirectHost = HostUtils.createFromLocation(location);
-                        hostHandler.failIfNotMatch(redirectHost, e);
+                        handler.failIfNotMatch(redirectHost, e);
                         execute(request, new HostHandle().setHost(redirectHost), attemptCount + 1)
                                 .whenComplete((v, err) -> {
                                     if (v != null) {
@@ -144,6 +151,7 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
             }
         }
         checkError(response);
+        response.release();
     }
 
     public static class Builder {
@@ -158,6 +166,7 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
         private SSLContext sslContext;
         private Integer chunksize;
         private Integer maxConnections;
+        private VstEventLoopGroup eventLoopGroup;
 
         public Builder(final HostHandler hostHandler) {
             super();
@@ -209,9 +218,14 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
             return this;
         }
 
+        public Builder eventLoopGroup(final VstEventLoopGroup eventLoopGroup) {
+            this.eventLoopGroup = eventLoopGroup;
+            return this;
+        }
+
         public VstCommunicationAsync build(final ArangoSerialization util) {
             return new VstCommunicationAsync(hostHandler, timeout, user, password, jwt, useSsl, sslContext, util, chunksize,
-                    maxConnections, connectionTtl);
+                    maxConnections, connectionTtl, eventLoopGroup);
         }
     }
 
@@ -24,6 +24,8 @@ import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.HostDescription;
 import com.arangodb.internal.velocystream.internal.MessageStore;
+import com.arangodb.internal.velocystream.internal.VstBufferPool;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 
 import javax.net.ssl.SSLContext;
 
@@ -35,11 +37,12 @@ public class VstConnectionFactoryAsync implements ConnectionFactory {
     private final VstConnectionAsync.Builder builder;
 
     public VstConnectionFactoryAsync(final HostDescription host, final Integer timeout, final Long connectionTtl,
-                                     final Integer keepAliveInterval, final Boolean useSsl, final SSLContext sslContext) {
+                                     final Integer keepAliveInterval, final Boolean useSsl, final SSLContext sslContext,
+                                     final VstEventLoopGroup eventLoopGroup, final VstBufferPool bufferPool) {
         super();
         builder = new VstConnectionAsync.Builder().timeout(timeout).ttl(connectionTtl)
                 .keepAliveInterval(keepAliveInterval).useSsl(useSsl)
-                .sslContext(sslContext);
+                .sslContext(sslContext).eventLoopGroup(eventLoopGroup).bufferPool(bufferPool);
     }
 
     @Override
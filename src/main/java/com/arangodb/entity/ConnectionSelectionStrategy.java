@@ -0,0 +1,39 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.entity;
+
+/**
+ * Strategy to choose one of the connections to a host for each request.
+ */
+public enum ConnectionSelectionStrategy {
+    /**
+     * connections are used in turn
+     */
+    ROUND_ROBIN,
+    /**
+     * the connection with the fewest requests in flight is used
+     */
+    LEAST_IN_FLIGHT,
+    /**
+     * the connection with fewer requests in flight out of two random ones is used
+     */
+    POWER_OF_TWO_CHOICES
+}
@@ -22,6 +22,7 @@ package com.arangodb.entity;
 
 import com.arangodb.velocypack.VPackSlice;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -98,9 +99,13 @@ public class CursorEntity implements Entity, MetaAware {
      * @return remove not allowed (valid storable) meta information
      */
     public Map<String, String> cleanupMeta(Map<String, String> meta) {
-        meta.remove("Content-Length");
-        meta.remove("Transfer-Encoding");
-        meta.remove("X-Arango-Queue-Time-Seconds");
+        // header names are case-insensitive, e.g. proxies may send them lower-cased
+        for (final String name : new ArrayList<>(meta.keySet())) {
+            if (name.equalsIgnoreCase("Content-Length") || name.equalsIgnoreCase("Transfer-Encoding")
+                    || name.equalsIgnoreCase("X-Arango-Queue-Time-Seconds")) {
+                meta.remove(name);
+            }
+        }
         return meta;
     }
 
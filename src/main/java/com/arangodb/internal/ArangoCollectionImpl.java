@@ -22,14 +22,30 @@ package com.arangodb.internal;
 
 import com.arangodb.ArangoCollection;
 import com.arangodb.ArangoDBException;
+import com.arangodb.BulkWriter;
 import com.arangodb.entity.*;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
 import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.*;
+import com.arangodb.util.ArangoSerializer;
 import com.arangodb.velocypack.VPackSlice;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 /**
  * @author Mark Vollmary
@@ -92,6 +108,44 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
         return executor.execute(importDocumentsRequest(values, options), DocumentImportEntity.class);
     }
 
+    @Override
+    public DocumentImportEntity importDocuments(final Iterator<?> values, final DocumentImportOptions options)
+            throws ArangoDBException {
+        final DocumentImportOptions params = options != null ? options : new DocumentImportOptions();
+        return ChunkedImport.run(ChunkedImport.chunks(values, ChunkedImport.chunkSize(params)), List::size, 0L,
+                chunk -> executor.execute(importDocumentsRequest(chunk, params), DocumentImportEntity.class),
+                executor.backgroundExecutor(), params);
+    }
+
+    @Override
+    public DocumentImportEntity importDocuments(final Stream<?> values, final DocumentImportOptions options)
+            throws ArangoDBException {
+        return importDocuments(values.iterator(), options);
+    }
+
+    @Override
+    public DocumentImportEntity importDocuments(final InputStream values, final DocumentImportOptions options)
+            throws ArangoDBException {
+        return importDocuments(ChunkedImport.lines(values), options);
+    }
+
+    @Override
+    public DocumentImportEntity importDocuments(final Path file, final DocumentImportOptions options)
+            throws ArangoDBException {
+        final DocumentImportOptions params = options != null ? options : new DocumentImportOptions();
+        final long offset = params.getOffset() != null ? params.getOffset() : 0L;
+        // HTTP/JSON connections send the mapped regions as they are, others need them transcoded to VelocyPack
+        final boolean raw = executor.supportsRawBody();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return ChunkedImport.run(ChunkedImport.fileChunks(channel, offset, ChunkedImport.chunkBytes(params)),
+                    Buffer::remaining, offset, chunk -> executor.execute(raw ? importDocumentsRequest(chunk, params)
+                            : importDocumentsRequest(ChunkedImport.lines(chunk), params), DocumentImportEntity.class),
+                    executor.backgroundExecutor(), params);
+        } catch (final IOException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
     @Override
     public <T> T getDocument(final String key, final Class<T> type) throws ArangoDBException {
         return getDocument(key, type, new DocumentReadOptions());
@@ -131,7 +185,31 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
     public <T> MultiDocumentEntity<T> getDocuments(
             final Collection<String> keys, final Class<T> type, final DocumentReadOptions options)
             throws ArangoDBException {
-        return executor.execute(getDocumentsRequest(keys, options), getDocumentsResponseDeserializer(type, options));
+        final DocumentReadOptions params = (options != null ? options : new DocumentReadOptions());
+        final List<Collection<String>> batches = getDocumentsBatches(keys, params);
+        if (batches.size() == 1) {
+            return executor.execute(getDocumentsRequest(keys, params), getDocumentsResponseDeserializer(type, params));
+        }
+        // each lane requests and deserializes every n-th batch on a thread of its own
+        final int lanes = getDocumentsParallelism(params, batches.size());
+        final List<MultiDocumentEntity<T>> results = new ArrayList<>(Collections.nCopies(batches.size(), null));
+        final CompletableFuture<?>[] requests = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            final int first = lane;
+            requests[lane] = CompletableFuture.runAsync(() -> {
+                for (int i = first; i < batches.size(); i += lanes) {
+                    results.set(i, executor.execute(getDocumentsRequest(batches.get(i), params),
+                            getDocumentsResponseDeserializer(type, params)));
+                }
+            }, executor.backgroundExecutor());
+        }
+        try {
+            CompletableFuture.allOf(requests).join();
+        } catch (final CompletionException e) {
+            throw e.getCause() instanceof ArangoDBException ? (ArangoDBException) e.getCause()
+                    : new ArangoDBException(e.getCause());
+        }
+        return mergeDocuments(results);
     }
 
     @Override
@@ -224,6 +302,18 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
         return executor.execute(deleteDocumentsRequest(values, options), deleteDocumentsResponseDeserializer(type));
     }
 
+    @Override
+    public <T> BulkWriter<T> bulkWriter(final Class<T> type) {
+        return bulkWriter(type, new BulkWriterOptions());
+    }
+
+    @Override
+    public <T> BulkWriter<T> bulkWriter(final Class<T> type, final BulkWriterOptions options) {
+        return new BulkWriterImpl<>(this, type, options != null ? options : new BulkWriterOptions(),
+                executor.backgroundExecutor(), value -> util(Serializer.CUSTOM).serialize(value,
+                new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true)).getByteSize());
+    }
+
     @Override
     public Boolean documentExists(final String key) {
         return documentExists(key, new DocumentExistsOptions());
@@ -59,10 +59,12 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
     private ArangoCursorInitializer cursorInitializer;
     private final CommunicationProtocol cp;
     private final HostHandler hostHandler;
+    private final CompressionMetrics compressionMetrics;
 
     public ArangoDBImpl(final VstCommunicationSync.Builder vstBuilder, final HttpCommunication.Builder httpBuilder,
                         final ArangoSerializationFactory util, final Protocol protocol, final HostResolver hostResolver,
-                        final HostHandler hostHandler, final ArangoContext context, int responseQueueTimeSamples, final int timeoutMs) {
+                        final HostHandler hostHandler, final ArangoContext context, int responseQueueTimeSamples, final int timeoutMs,
+                        final CompressionMetrics compressionMetrics) {
 
         super(new ArangoExecutorSync(
                         createProtocol(vstBuilder, httpBuilder, util.get(Serializer.INTERNAL), protocol),
@@ -77,6 +79,7 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
                 util.get(Serializer.INTERNAL),
                 protocol);
         this.hostHandler = hostHandler;
+        this.compressionMetrics = compressionMetrics;
 
         hostResolver.init(this.executor(), util());
 
@@ -91,7 +94,7 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
             final Protocol protocol) {
 
         return (protocol == null || Protocol.VST == protocol) ? createVST(vstBuilder, util)
-                : createHTTP(httpBuilder, util);
+                : createHTTP(httpBuilder, util, protocol);
     }
 
     private static CommunicationProtocol createVST(
@@ -102,8 +105,9 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
 
     private static CommunicationProtocol createHTTP(
             final HttpCommunication.Builder builder,
-            final ArangoSerialization util) {
-        return new HttpProtocol(builder.build(util));
+            final ArangoSerialization util,
+            final Protocol protocol) {
+        return new HttpProtocol(builder.build(util), protocol == Protocol.HTTP_JSON || protocol == Protocol.HTTP2_JSON);
     }
 
     @Override
@@ -143,7 +147,8 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
 
     @Override
     public ArangoMetrics metrics() {
-        return new ArangoMetricsImpl(executor.getQueueTimeMetrics());
+        return new ArangoMetricsImpl(executor.getQueueTimeMetrics(), compressionMetrics,
+                executor.getInFlightMetrics());
     }
 
     @Override
@@ -25,6 +25,7 @@ import com.arangodb.entity.*;
 import com.arangodb.entity.arangosearch.AnalyzerEntity;
 import com.arangodb.entity.arangosearch.analyzer.SearchAnalyzer;
 import com.arangodb.internal.cursor.ArangoCursorImpl;
+import com.arangodb.internal.cursor.ReadAheadCursorExecute;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.*;
@@ -206,7 +207,7 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
             final AqlQueryOptions options,
             final HostHandle hostHandle) {
 
-        final ArangoCursorExecute execute = new ArangoCursorExecute() {
+        final ArangoCursorExecute fetch = new ArangoCursorExecute() {
             @Override
             public CursorEntity next(final String id, Map<String, String> meta) {
                 return executor.execute(queryNextRequest(id, options, meta), CursorEntity.class, hostHandle);
@@ -217,6 +218,14 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
                 executor.execute(queryCloseRequest(id, options, meta), Void.class, hostHandle);
             }
         };
+        final Integer prefetchBatches = options != null ? options.getPrefetchBatches() : null;
+        // fetches ahead would run concurrently to the other requests of a stream transaction
+        final boolean readAhead = prefetchBatches != null && prefetchBatches > 0
+                && options.getStreamTransactionId() == null;
+        final ArangoCursorExecute execute = readAhead
+                ? new ReadAheadCursorExecute(fetch, executor.backgroundExecutor(), prefetchBatches,
+                options.getPrefetchMemoryLimit() != null ? options.getPrefetchMemoryLimit() : 0L, result)
+                : fetch;
 
         return cursorInitializer != null ?
                 cursorInitializer.createInstance(this, execute, type, result) :
@@ -20,7 +20,11 @@
 
 package com.arangodb.internal;
 
+import com.arangodb.BackpressurePolicy;
+import com.arangodb.Compression;
 import com.arangodb.Protocol;
+import com.arangodb.VstTransport;
+import com.arangodb.entity.ConnectionSelectionStrategy;
 import com.arangodb.entity.LoadBalancingStrategy;
 
 /**
@@ -44,12 +48,35 @@ public final class ArangoDefaults {
     public static final int CHUNK_MAX_HEADER_SIZE = CHUNK_MIN_HEADER_SIZE + LONG_BYTES;
     public static final int CHUNK_DEFAULT_CONTENT_SIZE = 30000;
     public static final int MAX_CONNECTIONS_VST_DEFAULT = 1;
+    public static final VstTransport DEFAULT_VST_TRANSPORT = VstTransport.BLOCKING;
+    public static final int DEFAULT_VST_EVENT_LOOP_THREADS = Runtime.getRuntime().availableProcessors();
+    public static final long DEFAULT_VST_BUFFER_POOL_SIZE = 32L * 1024 * 1024;
     public static final Integer CONNECTION_TTL_VST_DEFAULT = null;
     public static final int MAX_CONNECTIONS_HTTP_DEFAULT = 20;
+    public static final int MAX_CONNECTIONS_HTTP2_DEFAULT = 1;
+    public static final int DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS = 100;
+    public static final boolean DEFAULT_HTTP_SHARED_CONNECTION_POOL = false;
+    public static final Compression DEFAULT_COMPRESSION = Compression.NONE;
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+    public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+    public static final int DEFAULT_DESERIALIZATION_INLINE_THRESHOLD = 0;
+    public static final boolean DEFAULT_VIRTUAL_THREADS = false;
+    public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 0;
+    public static final long DEFAULT_MAX_IN_FLIGHT_BYTES = 0L;
+    public static final BackpressurePolicy DEFAULT_BACKPRESSURE_POLICY = BackpressurePolicy.WAIT;
+    public static final int DEFAULT_IMPORT_CHUNK_SIZE = 10_000;
+    public static final int DEFAULT_IMPORT_PARALLELISM = 1;
+    public static final int DEFAULT_IMPORT_CHUNK_BYTES = 8 * 1024 * 1024;
+    public static final int DEFAULT_BULK_WRITER_BATCH_SIZE = 1000;
+    public static final long DEFAULT_BULK_WRITER_BATCH_BYTES = 0L;
+    public static final long DEFAULT_BULK_WRITER_LINGER_MILLIS = 10L;
+    public static final int DEFAULT_BULK_WRITER_MAX_CONCURRENT_FLUSHES = 4;
+    public static final int DEFAULT_GET_DOCUMENTS_PARALLELISM = 4;
     public static final Protocol DEFAULT_NETWORK_PROTOCOL = Protocol.VST;
     public static final boolean DEFAULT_ACQUIRE_HOST_LIST = false;
     public static final int DEFAULT_ACQUIRE_HOST_LIST_INTERVAL = 60 * 60 * 1000; // hour
     public static final LoadBalancingStrategy DEFAULT_LOAD_BALANCING_STRATEGY = LoadBalancingStrategy.NONE;
+    public static final ConnectionSelectionStrategy DEFAULT_CONNECTION_SELECTION_STRATEGY = ConnectionSelectionStrategy.ROUND_ROBIN;
     public static final int DEFAULT_RESPONSE_QUEUE_TIME_SAMPLES = 10;
 
 }
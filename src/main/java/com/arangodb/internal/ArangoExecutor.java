@@ -24,32 +24,101 @@ import com.arangodb.QueueTimeMetrics;
 import com.arangodb.entity.Entity;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.Response;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Mark Vollmary
  */
 public abstract class ArangoExecutor {
 
+    private static final Map<Type, Boolean> DETACHED_TYPES = new ConcurrentHashMap<>();
+
     @SuppressWarnings("unchecked")
     protected <T> T createResult(final Type type, final Response response) {
         if (type != Void.class && response.getBody() != null) {
             if (isInternal(type)) {
-                return (T) util.get(Serializer.INTERNAL).deserialize(response.getBody(), type);
+                final T result = (T) util.get(Serializer.INTERNAL).deserialize(response.getBody(), type);
+                if (isDetached(type)) {
+                    response.release();
+                }
+                return result;
             } else {
                 return (T) util.get(Serializer.CUSTOM).deserialize(response.getBody(), type);
             }
         } else {
+            response.release();
             return null;
         }
     }
 
+    /**
+     * @return whether instances of the given type deserialized by the internal serializer are guaranteed not to
+     * reference the buffer they have been deserialized from, i.e. they do not contain any {@link VPackSlice}
+     */
+    private static boolean isDetached(final Type type) {
+        return DETACHED_TYPES.computeIfAbsent(type, t -> isDetached(t, new HashSet<>()));
+    }
+
+    private static boolean isDetached(final Type type, final Set<Class<?>> visited) {
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType pType = (ParameterizedType) type;
+            final Type rawType = pType.getRawType();
+            if (rawType instanceof Class<?> && (Map.class.isAssignableFrom((Class<?>) rawType)
+                    || Collection.class.isAssignableFrom((Class<?>) rawType))) {
+                for (final Type arg : pType.getActualTypeArguments()) {
+                    if (!isDetached(arg, visited)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return isDetached(rawType, visited);
+        }
+        if (type instanceof GenericArrayType) {
+            return isDetached(((GenericArrayType) type).getGenericComponentType(), visited);
+        }
+        if (!(type instanceof Class<?>)) {
+            return false;
+        }
+        final Class<?> clazz = (Class<?>) type;
+        if (clazz.isPrimitive() || clazz.isEnum() || clazz == String.class || clazz == Boolean.class
+                || clazz == Character.class || Number.class.isAssignableFrom(clazz) || Date.class.isAssignableFrom(clazz)) {
+            return true;
+        }
+        if (clazz.isArray()) {
+            return isDetached(clazz.getComponentType(), visited);
+        }
+        if (!clazz.getName().startsWith("com.arangodb.") || clazz.getName().startsWith("com.arangodb.velocypack.")) {
+            return false;
+        }
+        if (!visited.add(clazz)) {
+            return true;
+        }
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (final Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !isDetached(field.getGenericType(), visited)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     private boolean isInternal(final Type type) {
         if (type instanceof ParameterizedType) {
             ParameterizedType pType = ((ParameterizedType) type);
@@ -72,6 +141,7 @@ public abstract class ArangoExecutor {
 
     private final DocumentCache documentCache;
     private final QueueTimeMetricsImpl qtMetrics;
+    private final InFlightMetricsImpl inFlightMetrics = new InFlightMetricsImpl();
     private final ArangoSerializationFactory util;
     private final String timeoutS;
 
@@ -107,4 +177,16 @@ public abstract class ArangoExecutor {
     public QueueTimeMetrics getQueueTimeMetrics() {
         return qtMetrics;
     }
+
+    public InFlightMetricsImpl getInFlightMetrics() {
+        return inFlightMetrics;
+    }
+
+    protected static long bodySize(final Request request) {
+        if (request.getRawBody() != null) {
+            return request.getRawBody().remaining();
+        }
+        final VPackSlice body = request.getBody();
+        return body != null ? body.getByteSize() : 0L;
+    }
 }
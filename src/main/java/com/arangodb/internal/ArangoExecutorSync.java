@@ -33,6 +33,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Mark Vollmary
@@ -42,6 +46,7 @@ public class ArangoExecutorSync extends ArangoExecutor {
     private static final Logger LOG = LoggerFactory.getLogger(ArangoExecutorSync.class);
 
     private final CommunicationProtocol protocol;
+    private volatile ExecutorService backgroundExecutor;
 
     public ArangoExecutorSync(final CommunicationProtocol protocol, final ArangoSerializationFactory util,
                               final DocumentCache documentCache, final QueueTimeMetricsImpl qtMetrics, final int timeoutMs) {
@@ -68,7 +73,14 @@ public class ArangoExecutorSync extends ArangoExecutor {
 
         try {
 
-            final Response response = protocol.execute(interceptRequest(request), hostHandle);
+            final long size = bodySize(request);
+            final Response response;
+            getInFlightMetrics().started(size);
+            try {
+                response = protocol.execute(interceptRequest(request), hostHandle);
+            } finally {
+                getInFlightMetrics().finished(size);
+            }
             interceptResponse(response);
             T deserialize = responseDeserializer.deserialize(response);
 
@@ -84,11 +96,45 @@ public class ArangoExecutorSync extends ArangoExecutor {
         }
     }
 
+    /**
+     * @return whether requests may carry a {@link Request#getRawBody() raw JSON body}
+     */
+    public boolean supportsRawBody() {
+        return protocol.supportsRawBody();
+    }
+
+    /**
+     * @return daemon threads running background requests, like the fetches ahead of cursors, created on first use
+     */
+    public Executor backgroundExecutor() {
+        ExecutorService executor = backgroundExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = backgroundExecutor;
+                if (executor == null) {
+                    final AtomicInteger threads = new AtomicInteger();
+                    executor = Executors.newCachedThreadPool(r -> {
+                        final Thread thread = new Thread(r, "arangodb-background-" + threads.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    backgroundExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
     public void disconnect() {
         try {
             protocol.close();
         } catch (final IOException e) {
             throw new ArangoDBException(e);
+        } finally {
+            final ExecutorService executor = backgroundExecutor;
+            if (executor != null) {
+                executor.shutdown();
+            }
         }
     }
 
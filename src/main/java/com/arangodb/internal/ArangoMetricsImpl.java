@@ -21,6 +21,8 @@
 package com.arangodb.internal;
 
 import com.arangodb.ArangoMetrics;
+import com.arangodb.CompressionMetrics;
+import com.arangodb.InFlightMetrics;
 import com.arangodb.QueueTimeMetrics;
 
 /**
@@ -29,9 +31,14 @@ import com.arangodb.QueueTimeMetrics;
 public class ArangoMetricsImpl implements ArangoMetrics {
 
     private final QueueTimeMetrics queueTimeMetrics;
+    private final CompressionMetrics compressionMetrics;
+    private final InFlightMetrics inFlightMetrics;
 
-    public ArangoMetricsImpl(QueueTimeMetrics queueTimeMetrics) {
+    public ArangoMetricsImpl(QueueTimeMetrics queueTimeMetrics, CompressionMetrics compressionMetrics,
+                             InFlightMetrics inFlightMetrics) {
         this.queueTimeMetrics = queueTimeMetrics;
+        this.compressionMetrics = compressionMetrics;
+        this.inFlightMetrics = inFlightMetrics;
     }
 
     @Override
@@ -39,4 +46,14 @@ public class ArangoMetricsImpl implements ArangoMetrics {
         return queueTimeMetrics;
     }
 
+    @Override
+    public CompressionMetrics getCompression() {
+        return compressionMetrics;
+    }
+
+    @Override
+    public InFlightMetrics getInFlight() {
+        return inFlightMetrics;
+    }
+
 }
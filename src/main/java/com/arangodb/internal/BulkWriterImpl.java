@@ -0,0 +1,322 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoDBException;
+import com.arangodb.BulkWriter;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentDeleteEntity;
+import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.internal.util.HashedWheelTimer;
+import com.arangodb.model.BulkWriterOptions;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.DocumentDeleteOptions;
+import com.arangodb.model.DocumentReplaceOptions;
+import com.arangodb.model.DocumentUpdateOptions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+public class BulkWriterImpl<T> implements BulkWriter<T> {
+
+    private enum Operation {
+        INSERT, REPLACE, UPDATE, DELETE
+    }
+
+    private static final class Batch {
+        private final Operation operation;
+        private final List<Object> values = new ArrayList<>();
+        private final List<CompletableFuture<Object>> results = new ArrayList<>();
+        private long bytes;
+        private HashedWheelTimer.Timeout linger;
+
+        private Batch(final Operation operation) {
+            this.operation = operation;
+        }
+    }
+
+    private final ArangoCollection collection;
+    private final Class<T> type;
+    private final Executor executor;
+    private final ToLongFunction<Object> sizeOf;
+    private final int batchSize;
+    private final long batchBytes;
+    private final long lingerMillis;
+    private final int maxConcurrentFlushes;
+    private final DocumentCreateOptions insertOptions;
+    private final DocumentReplaceOptions replaceOptions;
+    private final DocumentUpdateOptions updateOptions;
+    private final DocumentDeleteOptions deleteOptions;
+    // set while a thread of the executor sends a batch and completes its results
+    private final ThreadLocal<Boolean> flushThread = new ThreadLocal<>();
+
+    // batches detached and not yet sent, in the order they were filled
+    private final Deque<Batch> queued = new ArrayDeque<>();
+    private Batch current;
+    private int flushing;
+    // batches sent whose results are being completed, after their flush slot has been released
+    private int completing;
+    private boolean closed;
+
+    /**
+     * @param collection collection to write to
+     * @param type       type of the documents
+     * @param options    options of the writer
+     * @param executor   executor sending the batches
+     * @param sizeOf     serialized size of a document, used if the batches are limited in bytes
+     */
+    public BulkWriterImpl(final ArangoCollection collection, final Class<T> type, final BulkWriterOptions options,
+                          final Executor executor, final ToLongFunction<Object> sizeOf) {
+        super();
+        this.collection = collection;
+        this.type = type;
+        this.executor = executor;
+        this.sizeOf = sizeOf;
+        batchSize = options.getBatchSize() != null ? options.getBatchSize() : ArangoDefaults.DEFAULT_BULK_WRITER_BATCH_SIZE;
+        batchBytes = options.getBatchBytes() != null ? options.getBatchBytes() : ArangoDefaults.DEFAULT_BULK_WRITER_BATCH_BYTES;
+        lingerMillis = options.getLingerMillis() != null ? options.getLingerMillis() : ArangoDefaults.DEFAULT_BULK_WRITER_LINGER_MILLIS;
+        maxConcurrentFlushes = options.getMaxConcurrentFlushes() != null ? options.getMaxConcurrentFlushes()
+                : ArangoDefaults.DEFAULT_BULK_WRITER_MAX_CONCURRENT_FLUSHES;
+        if (batchSize < 1 || maxConcurrentFlushes < 1) {
+            throw new IllegalArgumentException("batchSize and maxConcurrentFlushes must be at least 1");
+        }
+        insertOptions = options.getInsertOptions();
+        replaceOptions = options.getReplaceOptions();
+        updateOptions = options.getUpdateOptions();
+        deleteOptions = options.getDeleteOptions();
+    }
+
+    @Override
+    public CompletableFuture<DocumentCreateEntity<T>> insert(final T value) {
+        return add(Operation.INSERT, value);
+    }
+
+    @Override
+    public CompletableFuture<DocumentUpdateEntity<T>> replace(final T value) {
+        return add(Operation.REPLACE, value);
+    }
+
+    @Override
+    public CompletableFuture<DocumentUpdateEntity<T>> update(final T value) {
+        return add(Operation.UPDATE, value);
+    }
+
+    @Override
+    public CompletableFuture<DocumentDeleteEntity<T>> delete(final Object value) {
+        return add(Operation.DELETE, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> CompletableFuture<R> add(final Operation operation, final Object value) {
+        // measured before taking the lock, so that producers serialize in parallel
+        final long size = batchBytes > 0 ? sizeOf.applyAsLong(value) : 0L;
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        synchronized (this) {
+            // checked again after sending, since other producers may have started a batch meanwhile
+            while (true) {
+                if (closed) {
+                    throw new ArangoDBException("BulkWriter is closed");
+                }
+                if (current == null || current.operation == operation
+                        && (batchBytes <= 0 || current.bytes + size <= batchBytes)) {
+                    break;
+                }
+                send();
+            }
+            if (current == null) {
+                final Batch batch = new Batch(operation);
+                if (lingerMillis > 0) {
+                    batch.linger = HashedWheelTimer.getInstance().newTimeout(() -> lingerExpired(batch), lingerMillis,
+                            TimeUnit.MILLISECONDS);
+                }
+                current = batch;
+            }
+            current.values.add(value);
+            current.results.add(result);
+            current.bytes += size;
+            if (current.values.size() >= batchSize || batchBytes > 0 && current.bytes >= batchBytes) {
+                send();
+            }
+        }
+        return (CompletableFuture<R>) result;
+    }
+
+    /**
+     * Runs on the shared timer thread, which must not block: the batch is only handed to the executor.
+     */
+    private synchronized void lingerExpired(final Batch batch) {
+        if (current == batch) {
+            detach();
+        }
+    }
+
+    /**
+     * Detaches the current batch and queues it to be sent. Producers wait until their batch is sent, so that they are
+     * slowed down to the pace of the server while {@link #maxConcurrentFlushes} batches are outstanding. Callbacks of
+     * results, which run on the threads sending the batches, do not wait.
+     */
+    private void send() {
+        final Batch batch = detach();
+        if (flushThread.get() != null) {
+            return;
+        }
+        try {
+            while (queued.contains(batch)) {
+                wait();
+            }
+        } catch (final InterruptedException e) {
+            // the batch stays queued, only the waiting is given up
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Batch detach() {
+        final Batch batch = current;
+        current = null;
+        if (batch.linger != null) {
+            batch.linger.cancel();
+        }
+        queued.add(batch);
+        dispatch();
+        return batch;
+    }
+
+    private void dispatch() {
+        while (flushing < maxConcurrentFlushes && !queued.isEmpty()) {
+            final Batch batch = queued.poll();
+            flushing++;
+            try {
+                executor.execute(() -> flush(batch));
+            } catch (final RuntimeException e) {
+                flushing--;
+                batch.results.forEach(it -> it.completeExceptionally(e));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flush(final Batch batch) {
+        flushThread.set(Boolean.TRUE);
+        MultiDocumentEntity<?> result = null;
+        RuntimeException failure = null;
+        try {
+            switch (batch.operation) {
+                case INSERT:
+                    result = collection.insertDocuments((Collection<T>) batch.values, insertOptions);
+                    break;
+                case REPLACE:
+                    result = collection.replaceDocuments((Collection<T>) batch.values, replaceOptions);
+                    break;
+                case UPDATE:
+                    result = collection.updateDocuments((Collection<T>) batch.values, updateOptions);
+                    break;
+                default:
+                    result = collection.deleteDocuments(batch.values, type, deleteOptions);
+                    break;
+            }
+        } catch (final RuntimeException e) {
+            failure = e;
+        }
+        // the slot is released first, since callbacks of the results may add to the writer and fill a batch
+        flushed();
+        try {
+            if (failure != null) {
+                final RuntimeException e = failure;
+                batch.results.forEach(it -> it.completeExceptionally(e));
+            } else {
+                complete(batch, result.getDocumentsAndErrors());
+            }
+        } finally {
+            completed();
+            flushThread.remove();
+        }
+    }
+
+    private static void complete(final Batch batch, final Collection<Object> documentsAndErrors) {
+        if (documentsAndErrors == null || documentsAndErrors.size() != batch.results.size()) {
+            final ArangoDBException e = new ArangoDBException("Expected " + batch.results.size() + " results, got "
+                    + (documentsAndErrors != null ? documentsAndErrors.size() : 0));
+            batch.results.forEach(it -> it.completeExceptionally(e));
+            return;
+        }
+        final Iterator<CompletableFuture<Object>> results = batch.results.iterator();
+        for (final Object documentOrError : documentsAndErrors) {
+            final CompletableFuture<Object> result = results.next();
+            if (documentOrError instanceof ErrorEntity) {
+                result.completeExceptionally(new ArangoDBException((ErrorEntity) documentOrError));
+            } else {
+                result.complete(documentOrError);
+            }
+        }
+    }
+
+    private synchronized void flushed() {
+        flushing--;
+        completing++;
+        dispatch();
+        notifyAll();
+    }
+
+    private synchronized void completed() {
+        completing--;
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (current != null) {
+            send();
+        }
+        // callbacks of results flushing the writer do not wait for the results being completed, including their own
+        final boolean completingResults = flushThread.get() != null;
+        try {
+            while (flushing > 0 || !queued.isEmpty() || completing > 0 && !completingResults) {
+                wait();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArangoDBException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            // the open batch is sent by the flush below instead
+            if (current != null && current.linger != null) {
+                current.linger.cancel();
+            }
+        }
+        flush();
+    }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.ImportProgressListener;
+import com.arangodb.entity.DocumentImportEntity;
+import com.arangodb.model.DocumentImportOptions;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Imports documents in chunks read one after the other and sent in parallel, summing up the results.
+ */
+final class ChunkedImport {
+
+    private static final int LINE_END_WINDOW = 8192;
+
+    private ChunkedImport() {
+        super();
+    }
+
+    static int chunkSize(final DocumentImportOptions options) {
+        return options.getChunkSize() != null ? options.getChunkSize() : ArangoDefaults.DEFAULT_IMPORT_CHUNK_SIZE;
+    }
+
+    static int parallelism(final DocumentImportOptions options) {
+        return options.getParallelism() != null ? options.getParallelism() : ArangoDefaults.DEFAULT_IMPORT_PARALLELISM;
+    }
+
+    static int chunkBytes(final DocumentImportOptions options) {
+        return options.getChunkBytes() != null ? options.getChunkBytes() : ArangoDefaults.DEFAULT_IMPORT_CHUNK_BYTES;
+    }
+
+    /**
+     * Reads the chunks on the calling thread and sends them on the executor, at most
+     * {@link DocumentImportOptions#getParallelism()} at a time. The results are summed up in the order of the chunks,
+     * notifying the {@link DocumentImportOptions#getProgressListener() progress listener}. On failure, reading stops
+     * and the chunks already sent are awaited before the failure is thrown.
+     *
+     * @param chunks   chunks to import, read lazily
+     * @param length   length of a chunk in the unit of the offset
+     * @param offset   offset of the first chunk
+     * @param send     sends a chunk and returns its result
+     * @param executor executor sending the chunks
+     * @param options  import options
+     * @return the results of the chunks summed up
+     */
+    static <C> DocumentImportEntity run(final Iterator<C> chunks, final ToLongFunction<C> length, final long offset,
+                                        final Function<C, DocumentImportEntity> send, final Executor executor,
+                                        final DocumentImportOptions options) {
+        final int parallelism = parallelism(options);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        final ImportProgressListener listener = options.getProgressListener();
+        final DocumentImportEntity total = new DocumentImportEntity();
+        total.setCreated(0);
+        total.setErrors(0);
+        total.setEmpty(0);
+        total.setUpdated(0);
+        total.setIgnored(0);
+        final Deque<CompletableFuture<DocumentImportEntity>> sending = new ArrayDeque<>();
+        final Deque<Long> ends = new ArrayDeque<>();
+        long end = offset;
+        RuntimeException failure = null;
+        try {
+            while (chunks.hasNext()) {
+                if (sending.size() >= parallelism) {
+                    imported(total, sending.poll().join(), ends.poll(), listener);
+                }
+                final C chunk = chunks.next();
+                end += length.applyAsLong(chunk);
+                ends.add(end);
+                sending.add(CompletableFuture.supplyAsync(() -> send.apply(chunk), executor));
+            }
+        } catch (final RuntimeException e) {
+            failure = e;
+        }
+        while (!sending.isEmpty()) {
+            try {
+                final DocumentImportEntity chunk = sending.poll().join();
+                if (failure == null) {
+                    imported(total, chunk, ends.poll(), listener);
+                }
+            } catch (final RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            final Throwable cause = failure.getCause();
+            throw cause instanceof ArangoDBException ? (ArangoDBException) cause : new ArangoDBException(cause);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return total;
+    }
+
+    private static void imported(final DocumentImportEntity total, final DocumentImportEntity chunk, final long end,
+                                 final ImportProgressListener listener) {
+        add(total, chunk);
+        if (listener != null) {
+            listener.imported(chunk, total, end);
+        }
+    }
+
+    private static void add(final DocumentImportEntity total, final DocumentImportEntity chunk) {
+        total.setCreated(total.getCreated() + valueOf(chunk.getCreated()));
+        total.setErrors(total.getErrors() + valueOf(chunk.getErrors()));
+        total.setEmpty(total.getEmpty() + valueOf(chunk.getEmpty()));
+        total.setUpdated(total.getUpdated() + valueOf(chunk.getUpdated()));
+        total.setIgnored(total.getIgnored() + valueOf(chunk.getIgnored()));
+        if (chunk.getDetails() != null) {
+            total.getDetails().addAll(chunk.getDetails());
+        }
+    }
+
+    private static int valueOf(final Integer count) {
+        return count != null ? count : 0;
+    }
+
+    /**
+     * @return the values in lists of {@code size} elements, the last one possibly shorter
+     */
+    static <T> Iterator<List<T>> chunks(final Iterator<T> values, final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("chunkSize must be at least 1");
+        }
+        return new Iterator<List<T>>() {
+            @Override
+            public boolean hasNext() {
+                return values.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final List<T> chunk = new ArrayList<>(size);
+                while (chunk.size() < size && values.hasNext()) {
+                    chunk.add(values.next());
+                }
+                return chunk;
+            }
+        };
+    }
+
+    /**
+     * @return the UTF-8 encoded lines of the stream, skipping blank lines
+     */
+    static Iterator<String> lines(final InputStream in) {
+        return lines(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @return the UTF-8 encoded lines between position and limit of the buffer, skipping blank lines
+     */
+    static List<String> lines(final ByteBuffer chunk) {
+        final List<String> lines = new ArrayList<>();
+        lines(new BufferedReader(new StringReader(StandardCharsets.UTF_8.decode(chunk.duplicate()).toString())))
+                .forEachRemaining(lines::add);
+        return lines;
+    }
+
+    private static Iterator<String> lines(final BufferedReader reader) {
+        return new Iterator<String>() {
+            private String line = readLine();
+
+            private String readLine() {
+                try {
+                    String next;
+                    do {
+                        next = reader.readLine();
+                    } while (next != null && next.trim().isEmpty());
+                    return next;
+                } catch (final IOException e) {
+                    throw new ArangoDBException(e);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return line != null;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final String next = line;
+                line = readLine();
+                return next;
+            }
+        };
+    }
+
+    /**
+     * Splits the file from {@code offset} on into regions of about {@code chunkBytes} bytes ending with a line break,
+     * or the end of the file, and maps them into memory one after the other, without decoding them.
+     *
+     * @return the memory-mapped regions
+     */
+    static Iterator<ByteBuffer> fileChunks(final FileChannel file, final long offset, final int chunkBytes)
+            throws IOException {
+        if (chunkBytes < 1) {
+            throw new IllegalArgumentException("chunkBytes must be at least 1");
+        }
+        final long size = file.size();
+        return new Iterator<ByteBuffer>() {
+            private long position = offset;
+
+            @Override
+            public boolean hasNext() {
+                return position < size;
+            }
+
+            @Override
+            public ByteBuffer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    final long end = lineEnd(file, Math.min(size, position + chunkBytes), size);
+                    if (end - position > Integer.MAX_VALUE) {
+                        throw new ArangoDBException("Line at offset " + position + " exceeds 2 GB");
+                    }
+                    final ByteBuffer chunk = file.map(FileChannel.MapMode.READ_ONLY, position, end - position);
+                    position = end;
+                    return chunk;
+                } catch (final IOException e) {
+                    throw new ArangoDBException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * @return position after the first line feed from {@code from - 1} on, or the end of the file
+     */
+    private static long lineEnd(final FileChannel file, final long from, final long size) throws IOException {
+        if (from >= size) {
+            return size;
+        }
+        final ByteBuffer window = ByteBuffer.allocate(LINE_END_WINDOW);
+        long position = from - 1;
+        while (position < size) {
+            window.clear();
+            final int read = file.read(window, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.InFlightMetrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class InFlightMetricsImpl implements InFlightMetrics {
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong queuedRequests = new AtomicLong();
+    private final LongAdder rejectedRequests = new LongAdder();
+
+    public void started(final long size) {
+        requests.incrementAndGet();
+        bytes.addAndGet(size);
+    }
+
+    public void finished(final long size) {
+        requests.decrementAndGet();
+        bytes.addAndGet(-size);
+    }
+
+    public void queued() {
+        queuedRequests.incrementAndGet();
+    }
+
+    public void dequeued() {
+        queuedRequests.decrementAndGet();
+    }
+
+    public void rejected() {
+        rejectedRequests.increment();
+    }
+
+    @Override
+    public long getRequests() {
+        return requests.get();
+    }
+
+    @Override
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    @Override
+    public long getQueuedRequests() {
+        return queuedRequests.get();
+    }
+
+    @Override
+    public long getRejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
+}
@@ -34,6 +34,7 @@ import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.RequestType;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 
 /**
@@ -190,6 +191,10 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
                 .serialize(values, new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true)));
     }
 
+    protected Request importDocumentsRequest(final ByteBuffer values, final DocumentImportOptions options) {
+        return importDocumentsRequest(options).putQueryParam("type", ImportType.documents).setRawBody(values);
+    }
+
     protected Request importDocumentsRequest(final DocumentImportOptions options) {
         final DocumentImportOptions params = options != null ? options : new DocumentImportOptions();
         return request(db.dbName(), RequestType.POST, PATH_API_IMPORT).putQueryParam(COLLECTION, name)
@@ -254,6 +259,64 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         };
     }
 
+    /**
+     * @return the keys split into batches of {@link DocumentReadOptions#getBatchSize()} keys, or a single batch
+     */
+    protected static List<Collection<String>> getDocumentsBatches(
+            final Collection<String> keys, final DocumentReadOptions options) {
+        final Integer batchSize = options.getBatchSize();
+        if (batchSize == null || keys.size() <= batchSize) {
+            return Collections.singletonList(keys);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        final List<String> list = keys instanceof List ? (List<String>) keys : new ArrayList<>(keys);
+        final List<Collection<String>> batches = new ArrayList<>((list.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < list.size(); from += batchSize) {
+            batches.add(list.subList(from, Math.min(list.size(), from + batchSize)));
+        }
+        return batches;
+    }
+
+    /**
+     * @return number of batches to request concurrently, 1 within stream transactions which do not allow concurrent
+     * requests
+     */
+    protected static int getDocumentsParallelism(final DocumentReadOptions options, final int batches) {
+        if (options.getStreamTransactionId() != null) {
+            return 1;
+        }
+        final int parallelism = options.getParallelism() != null ? options.getParallelism()
+                : ArangoDefaults.DEFAULT_GET_DOCUMENTS_PARALLELISM;
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        return Math.min(parallelism, batches);
+    }
+
+    /**
+     * @return the results of the batches put together in the order of the batches
+     */
+    protected static <T> MultiDocumentEntity<T> mergeDocuments(final List<MultiDocumentEntity<T>> batches) {
+        final MultiDocumentEntity<T> multiDocument = new MultiDocumentEntity<>();
+        final Collection<T> docs = new ArrayList<>();
+        final Collection<ErrorEntity> errors = new ArrayList<>();
+        final Collection<Object> documentsAndErrors = new ArrayList<>();
+        boolean potentialDirtyRead = false;
+        for (final MultiDocumentEntity<T> batch : batches) {
+            docs.addAll(batch.getDocuments());
+            errors.addAll(batch.getErrors());
+            documentsAndErrors.addAll(batch.getDocumentsAndErrors());
+            potentialDirtyRead |= batch.isPotentialDirtyRead();
+        }
+        multiDocument.setPotentialDirtyRead(potentialDirtyRead);
+        multiDocument.setDocuments(docs);
+        multiDocument.setErrors(errors);
+        multiDocument.setDocumentsAndErrors(documentsAndErrors);
+        return multiDocument;
+    }
+
     protected <T> Request replaceDocumentRequest(
             final String key, final T value, final DocumentReplaceOptions options) {
         final Request request = request(db.dbName(), RequestType.PUT, PATH_API_DOCUMENT,
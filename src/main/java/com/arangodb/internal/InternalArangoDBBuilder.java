@@ -22,7 +22,11 @@ package com.arangodb.internal;
 
 import com.arangodb.ArangoDB;
 import com.arangodb.ArangoDBException;
+import com.arangodb.Compression;
+import com.arangodb.VstTransport;
+import com.arangodb.entity.ConnectionSelectionStrategy;
 import com.arangodb.entity.LoadBalancingStrategy;
+import com.arangodb.internal.http.HttpCompression;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.DirtyReadHostHandler;
@@ -37,6 +41,8 @@ import com.arangodb.internal.net.RoundRobinHostHandler;
 import com.arangodb.internal.net.SimpleHostResolver;
 import com.arangodb.internal.util.HostUtils;
 import com.arangodb.internal.velocypack.VPackDriverModule;
+import com.arangodb.internal.velocystream.internal.VstBufferPool;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 import com.arangodb.util.ArangoDeserializer;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.util.ArangoSerializer;
@@ -73,10 +79,17 @@ public abstract class InternalArangoDBBuilder {
     private static final String PROPERTY_KEY_MAX_CONNECTIONS = "arangodb.connections.max";
     private static final String PROPERTY_KEY_CONNECTION_TTL = "arangodb.connections.ttl";
     private static final String PROPERTY_KEEP_ALIVE_INTERVAL = "arangodb.connections.keepAlive.interval";
+    private static final String PROPERTY_KEY_VST_TRANSPORT = "arangodb.vst.transport";
+    private static final String PROPERTY_KEY_VST_EVENT_LOOP_THREADS = "arangodb.vst.eventLoopThreads";
+    private static final String PROPERTY_KEY_VST_BUFFER_POOL_SIZE = "arangodb.vst.bufferPoolSize";
     private static final String PROPERTY_KEY_ACQUIRE_HOST_LIST = "arangodb.acquireHostList";
     private static final String PROPERTY_KEY_ACQUIRE_HOST_LIST_INTERVAL = "arangodb.acquireHostList.interval";
     private static final String PROPERTY_KEY_LOAD_BALANCING_STRATEGY = "arangodb.loadBalancingStrategy";
+    private static final String PROPERTY_KEY_CONNECTION_SELECTION_STRATEGY = "arangodb.connections.selectionStrategy";
     private static final String PROPERTY_KEY_RESPONSE_QUEUE_TIME_SAMPLES = "arangodb.metrics.responseQueueTimeSamples";
+    private static final String PROPERTY_KEY_COMPRESSION = "arangodb.compression";
+    private static final String PROPERTY_KEY_COMPRESSION_THRESHOLD = "arangodb.compression.threshold";
+    private static final String PROPERTY_KEY_COMPRESSION_LEVEL = "arangodb.compression.level";
     private static final String DEFAULT_PROPERTY_FILE = "/arangodb.properties";
 
     protected final List<HostDescription> hosts;
@@ -94,6 +107,9 @@ public abstract class InternalArangoDBBuilder {
     protected Integer maxConnections;
     protected Long connectionTtl;
     protected Integer keepAliveInterval;
+    protected VstTransport vstTransport;
+    protected Integer vstEventLoopThreads;
+    protected Long vstBufferPoolSize;
     protected final VPack.Builder vpackBuilder;
     protected final VPackParser.Builder vpackParserBuilder;
     protected ArangoSerializer serializer;
@@ -101,8 +117,12 @@ public abstract class InternalArangoDBBuilder {
     protected Boolean acquireHostList;
     protected Integer acquireHostListInterval;
     protected LoadBalancingStrategy loadBalancingStrategy;
+    protected ConnectionSelectionStrategy connectionSelectionStrategy;
     protected ArangoSerialization customSerializer;
     protected Integer responseQueueTimeSamples;
+    protected Compression compression;
+    protected Integer compressionThreshold;
+    protected Integer compressionLevel;
     protected Map<String, String> headerParam;
 
 
@@ -153,10 +173,17 @@ public abstract class InternalArangoDBBuilder {
         maxConnections = loadMaxConnections(properties, maxConnections);
         connectionTtl = loadConnectionTtl(properties, connectionTtl);
         keepAliveInterval = loadKeepAliveInterval(properties, keepAliveInterval);
+        vstTransport = loadVstTransport(properties, vstTransport);
+        vstEventLoopThreads = loadVstEventLoopThreads(properties, vstEventLoopThreads);
+        vstBufferPoolSize = loadVstBufferPoolSize(properties, vstBufferPoolSize);
         acquireHostList = loadAcquireHostList(properties, acquireHostList);
         acquireHostListInterval = loadAcquireHostListInterval(properties, acquireHostListInterval);
         loadBalancingStrategy = loadLoadBalancingStrategy(properties, loadBalancingStrategy);
+        connectionSelectionStrategy = loadConnectionSelectionStrategy(properties, connectionSelectionStrategy);
         responseQueueTimeSamples = loadResponseQueueTimeSamples(properties, responseQueueTimeSamples);
+        compression = loadCompression(properties, compression);
+        compressionThreshold = loadCompressionThreshold(properties, compressionThreshold);
+        compressionLevel = loadCompressionLevel(properties, compressionLevel);
     }
 
     protected void setHost(final String host, final int port) {
@@ -219,6 +246,18 @@ public abstract class InternalArangoDBBuilder {
         this.keepAliveInterval = keepAliveInterval;
     }
 
+    protected void setVstTransport(final VstTransport vstTransport) {
+        this.vstTransport = vstTransport;
+    }
+
+    protected void setVstEventLoopThreads(final Integer vstEventLoopThreads) {
+        this.vstEventLoopThreads = vstEventLoopThreads;
+    }
+
+    protected void setVstBufferPoolSize(final Long vstBufferPoolSize) {
+        this.vstBufferPoolSize = vstBufferPoolSize;
+    }
+
     protected void setAcquireHostList(final Boolean acquireHostList) {
         this.acquireHostList = acquireHostList;
     }
@@ -231,10 +270,30 @@ public abstract class InternalArangoDBBuilder {
         this.loadBalancingStrategy = loadBalancingStrategy;
     }
 
+    protected void setConnectionSelectionStrategy(final ConnectionSelectionStrategy connectionSelectionStrategy) {
+        this.connectionSelectionStrategy = connectionSelectionStrategy;
+    }
+
     protected void setResponseQueueTimeSamples(final Integer responseQueueTimeSamples) {
         this.responseQueueTimeSamples = responseQueueTimeSamples;
     }
 
+    protected void setCompression(final Compression compression) {
+        this.compression = compression;
+    }
+
+    protected void setCompressionThreshold(final Integer compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    protected void setCompressionLevel(final Integer compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    protected HttpCompression createHttpCompression(final CompressionMetricsImpl metrics) {
+        return new HttpCompression(compression, compressionThreshold, compressionLevel, metrics);
+    }
+
     protected void serializer(final ArangoSerializer serializer) {
         this.serializer = serializer;
     }
@@ -290,11 +349,38 @@ public abstract class InternalArangoDBBuilder {
         return new DirtyReadHostHandler(hostHandler, new RoundRobinHostHandler(hostResolver));
     }
 
+    /**
+     * @return the event loop group shared by all VST connections, or {@code null} if the blocking transport is used
+     */
+    protected VstEventLoopGroup createVstEventLoopGroup() {
+        if (vstTransport != VstTransport.NIO) {
+            return null;
+        }
+        if (Boolean.TRUE == useSsl) {
+            LOG.warn("VstTransport.NIO does not support SSL, falling back to VstTransport.BLOCKING");
+            return null;
+        }
+        final int threads = vstEventLoopThreads != null ? vstEventLoopThreads
+                : ArangoDefaults.DEFAULT_VST_EVENT_LOOP_THREADS;
+        LOG.debug("Use VstTransport.NIO with " + threads + " event loop threads");
+        return new VstEventLoopGroup(threads);
+    }
+
+    /**
+     * @return the pool shared by all VST connections to receive messages into, or {@code null} if pooling is disabled
+     */
+    protected VstBufferPool createVstBufferPool() {
+        final long poolSize = vstBufferPoolSize != null ? vstBufferPoolSize
+                : ArangoDefaults.DEFAULT_VST_BUFFER_POOL_SIZE;
+        return poolSize > 0 ? new VstBufferPool(poolSize) : null;
+    }
+
     protected HostResolver createHostResolver(final Collection<Host> hosts, final int maxConnections, final ConnectionFactory connectionFactory) {
 
         if (acquireHostList != null && acquireHostList) {
             LOG.debug("acquireHostList -> Use ExtendedHostResolver");
-            return new ExtendedHostResolver(new ArrayList<>(hosts), maxConnections, connectionFactory, acquireHostListInterval);
+            return new ExtendedHostResolver(new ArrayList<>(hosts), maxConnections, connectionFactory,
+                    connectionSelectionStrategy, acquireHostListInterval);
         } else {
             LOG.debug("Use SimpleHostResolver");
             return new SimpleHostResolver(new ArrayList<>(hosts));
@@ -364,6 +450,21 @@ public abstract class InternalArangoDBBuilder {
         return keepAliveInterval != null ? Integer.parseInt(keepAliveInterval) : null;
     }
 
+    private static VstTransport loadVstTransport(final Properties properties, final VstTransport currentValue) {
+        return VstTransport.valueOf(getProperty(properties, PROPERTY_KEY_VST_TRANSPORT, currentValue,
+                ArangoDefaults.DEFAULT_VST_TRANSPORT).toUpperCase(Locale.ENGLISH));
+    }
+
+    private static Integer loadVstEventLoopThreads(final Properties properties, final Integer currentValue) {
+        return Integer.parseInt(getProperty(properties, PROPERTY_KEY_VST_EVENT_LOOP_THREADS, currentValue,
+                ArangoDefaults.DEFAULT_VST_EVENT_LOOP_THREADS));
+    }
+
+    private static Long loadVstBufferPoolSize(final Properties properties, final Long currentValue) {
+        return Long.parseLong(getProperty(properties, PROPERTY_KEY_VST_BUFFER_POOL_SIZE, currentValue,
+                ArangoDefaults.DEFAULT_VST_BUFFER_POOL_SIZE));
+    }
+
     private static Boolean loadAcquireHostList(final Properties properties, final Boolean currentValue) {
         return Boolean.parseBoolean(getProperty(properties, PROPERTY_KEY_ACQUIRE_HOST_LIST, currentValue,
                 ArangoDefaults.DEFAULT_ACQUIRE_HOST_LIST));
@@ -379,6 +480,21 @@ public abstract class InternalArangoDBBuilder {
                 ArangoDefaults.DEFAULT_RESPONSE_QUEUE_TIME_SAMPLES));
     }
 
+    private static Compression loadCompression(final Properties properties, final Compression currentValue) {
+        return Compression.valueOf(getProperty(properties, PROPERTY_KEY_COMPRESSION, currentValue,
+                ArangoDefaults.DEFAULT_COMPRESSION).toUpperCase(Locale.ENGLISH));
+    }
+
+    private static Integer loadCompressionThreshold(final Properties properties, final Integer currentValue) {
+        return Integer.parseInt(getProperty(properties, PROPERTY_KEY_COMPRESSION_THRESHOLD, currentValue,
+                ArangoDefaults.DEFAULT_COMPRESSION_THRESHOLD));
+    }
+
+    private static Integer loadCompressionLevel(final Properties properties, final Integer currentValue) {
+        return Integer.parseInt(getProperty(properties, PROPERTY_KEY_COMPRESSION_LEVEL, currentValue,
+                ArangoDefaults.DEFAULT_COMPRESSION_LEVEL));
+    }
+
     private static LoadBalancingStrategy loadLoadBalancingStrategy(
             final Properties properties,
             final LoadBalancingStrategy currentValue) {
@@ -386,6 +502,13 @@ public abstract class InternalArangoDBBuilder {
                 ArangoDefaults.DEFAULT_LOAD_BALANCING_STRATEGY).toUpperCase(Locale.ENGLISH));
     }
 
+    private static ConnectionSelectionStrategy loadConnectionSelectionStrategy(
+            final Properties properties,
+            final ConnectionSelectionStrategy currentValue) {
+        return ConnectionSelectionStrategy.valueOf(getProperty(properties, PROPERTY_KEY_CONNECTION_SELECTION_STRATEGY,
+                currentValue, ArangoDefaults.DEFAULT_CONNECTION_SELECTION_STRATEGY).toUpperCase(Locale.ENGLISH));
+    }
+
     protected static <T> String getProperty(
             final Properties properties,
             final String key,
@@ -408,7 +531,7 @@ public abstract class InternalArangoDBBuilder {
             final ConnectionFactory connectionFactory) {
         final Collection<Host> hostList = new ArrayList<>();
         for (final HostDescription host : hosts) {
-            hostList.add(HostUtils.createHost(host, maxConnections, connectionFactory));
+            hostList.add(HostUtils.createHost(host, maxConnections, connectionFactory, connectionSelectionStrategy));
         }
         return hostList;
     }
@@ -23,6 +23,7 @@ package com.arangodb.internal.cursor;
 import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoIterator;
 import com.arangodb.Consumer;
+import com.arangodb.RawCursorBatch;
 import com.arangodb.entity.CursorEntity;
 import com.arangodb.entity.CursorEntity.Extras;
 import com.arangodb.entity.CursorEntity.Stats;
@@ -33,6 +34,7 @@ import com.arangodb.internal.InternalArangoDatabase;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Spliterator;
 
 /**
  * @author Mark Vollmary
@@ -122,6 +124,11 @@ public class ArangoCursorImpl<T> extends AbstractArangoIterable<T> implements Ar
         return remaining;
     }
 
+    @Override
+    public RawCursorBatch nextRawBatch() {
+        return iterator.nextRawBatch();
+    }
+
     @Override
     public boolean isPotentialDirtyRead() {
         return isPontentialDirtyRead;
@@ -137,6 +144,11 @@ public class ArangoCursorImpl<T> extends AbstractArangoIterable<T> implements Ar
         return iterator;
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArangoCursorSpliterator<>(iterator);
+    }
+
     @Override
     public void foreach(final Consumer<? super T> action) {
         while (hasNext()) {
@@ -22,14 +22,17 @@ package com.arangodb.internal.cursor;
 
 import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoIterator;
+import com.arangodb.RawCursorBatch;
 import com.arangodb.entity.CursorEntity;
 import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.velocypack.ArrayIterator;
 import com.arangodb.velocypack.VPackSlice;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 /**
  * @param <T>
@@ -38,7 +41,8 @@ import java.util.NoSuchElementException;
 public class ArangoCursorIterator<T> implements ArangoIterator<T> {
 
     private CursorEntity result;
-    private Iterator<VPackSlice> arrayIterator;
+    private BatchArrayIterator arrayIterator;
+    private long batchOffset;
 
     private final ArangoCursor<T> cursor;
     private final InternalArangoDatabase<?, ?> db;
@@ -51,13 +55,71 @@ public class ArangoCursorIterator<T> implements ArangoIterator<T> {
         this.execute = execute;
         this.db = db;
         this.result = result;
-        arrayIterator = result.getResult().arrayIterator();
+        arrayIterator = new BatchArrayIterator(result.getResult());
     }
 
     public CursorEntity getResult() {
         return result;
     }
 
+    /**
+     * @param result next batch, replacing the current one
+     */
+    protected void setResult(final CursorEntity result) {
+        batchOffset += arrayIterator.size();
+        this.result = result;
+        arrayIterator = new BatchArrayIterator(result.getResult());
+    }
+
+    /**
+     * @return iterator over the elements of the current batch not yet returned
+     */
+    protected Iterator<VPackSlice> batchIterator() {
+        return arrayIterator;
+    }
+
+    /**
+     * @return number of elements returned or split off so far
+     */
+    long consumed() {
+        return batchOffset + arrayIterator.position();
+    }
+
+    /**
+     * Fetches the next batch if the current one is exhausted and splits off the elements of the current batch not
+     * yet returned, so that they can be deserialized on another thread.
+     *
+     * @return spliterator over the split off elements, or {@code null} if the cursor is exhausted
+     */
+    Spliterator<T> trySplitBatch() {
+        if (!arrayIterator.hasNext() && result.getHasMore()) {
+            setResult(execute.next(cursor.getId(), result.getMeta()));
+        }
+        if (!arrayIterator.hasNext()) {
+            return null;
+        }
+        final Spliterator<T> batch = new ArangoCursorSpliterator.BatchSpliterator<>(this, cursor.getType(),
+                result.getResult(), (int) arrayIterator.position(), (int) arrayIterator.size());
+        arrayIterator.skipRemaining();
+        return batch;
+    }
+
+    /**
+     * Fetches the next batch if the current one is exhausted and returns the elements of the current batch not yet
+     * returned without deserializing them.
+     *
+     * @return the raw elements, empty if the cursor is exhausted
+     */
+    RawCursorBatch nextRawBatch() {
+        if (!arrayIterator.hasNext() && result.getHasMore()) {
+            setResult(execute.next(cursor.getId(), result.getMeta()));
+        }
+        final RawCursorBatch batch = new RawCursorBatchImpl(result.getResult(), (int) arrayIterator.position(),
+                (int) arrayIterator.size());
+        arrayIterator.skipRemaining();
+        return batch;
+    }
+
     @Override
     public boolean hasNext() {
         return arrayIterator.hasNext() || result.getHasMore();
@@ -66,8 +128,7 @@ public class ArangoCursorIterator<T> implements ArangoIterator<T> {
     @Override
     public T next() {
         if (!arrayIterator.hasNext() && result.getHasMore()) {
-            result = execute.next(cursor.getId(), result.getMeta());
-            arrayIterator = result.getResult().arrayIterator();
+            setResult(execute.next(cursor.getId(), result.getMeta()));
         }
         if (!hasNext()) {
             throw new NoSuchElementException();
@@ -84,4 +145,23 @@ public class ArangoCursorIterator<T> implements ArangoIterator<T> {
         throw new UnsupportedOperationException();
     }
 
+    private static final class BatchArrayIterator extends ArrayIterator {
+
+        private BatchArrayIterator(final VPackSlice array) {
+            super(array);
+        }
+
+        private long position() {
+            return position;
+        }
+
+        private long size() {
+            return size;
+        }
+
+        private void skipRemaining() {
+            position = size;
+        }
+    }
+
 }
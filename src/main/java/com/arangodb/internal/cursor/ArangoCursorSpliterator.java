@@ -0,0 +1,138 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal.cursor;
+
+import com.arangodb.velocypack.VPackSlice;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the remaining elements of a cursor. Splitting hands the elements of the current batch over to
+ * {@link BatchSpliterator}s, which split further by index ranges, so that a parallel stream deserializes the elements
+ * across threads while the batches are still fetched by one thread and in order. Reports {@link #SIZED} and
+ * {@link #SUBSIZED} if the cursor was created with {@code count(true)}.
+ *
+ * @param <T>
+ */
+public class ArangoCursorSpliterator<T> implements Spliterator<T> {
+
+    private final ArangoCursorIterator<T> iterator;
+    private final Integer count;
+
+    public ArangoCursorSpliterator(final ArangoCursorIterator<T> iterator) {
+        super();
+        this.iterator = iterator;
+        count = iterator.getResult().getCount();
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        action.accept(iterator.next());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        while (iterator.hasNext()) {
+            action.accept(iterator.next());
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        return iterator.trySplitBatch();
+    }
+
+    @Override
+    public long estimateSize() {
+        return count != null ? Math.max(0L, count - iterator.consumed()) : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return count != null ? ORDERED | SIZED | SUBSIZED : ORDERED;
+    }
+
+    /**
+     * Spliterator over the elements {@code [from, to)} of a fetched batch.
+     *
+     * @param <T>
+     */
+    static final class BatchSpliterator<T> implements Spliterator<T> {
+
+        private final ArangoCursorIterator<T> iterator;
+        private final Class<T> type;
+        private final VPackSlice array;
+        private int from;
+        private final int to;
+        // element at index from, located from its predecessor instead of the array index
+        private VPackSlice current;
+
+        BatchSpliterator(final ArangoCursorIterator<T> iterator, final Class<T> type, final VPackSlice array,
+                         final int from, final int to) {
+            super();
+            this.iterator = iterator;
+            this.type = type;
+            this.array = array;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (from >= to) {
+                return false;
+            }
+            final VPackSlice element = current != null ? current : array.get(from);
+            from++;
+            current = from < to ? new VPackSlice(element.getBuffer(), element.getStart() + element.getByteSize())
+                    : null;
+            action.accept(iterator.deserialize(element, type));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final int mid = (from + to) >>> 1;
+            if (mid <= from) {
+                return null;
+            }
+            final Spliterator<T> prefix = new BatchSpliterator<>(iterator, type, array, from, mid);
+            from = mid;
+            current = null;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal.cursor;
+
+import com.arangodb.RawCursorBatch;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+public class RawCursorBatchImpl implements RawCursorBatch {
+
+    private final byte[] buffer;
+    // offsets[i] is the start of element i, offsets[size] the end of the last one
+    private final int[] offsets;
+
+    /**
+     * @param array the array of a fetched batch
+     * @param from  index of the first element to include
+     * @param to    index after the last element to include
+     */
+    public RawCursorBatchImpl(final VPackSlice array, final int from, final int to) {
+        super();
+        buffer = array.getBuffer();
+        offsets = new int[Math.max(0, to - from) + 1];
+        if (from < to) {
+            // elements of an array are stored one after the other, only their offsets are kept
+            int offset = array.get(from).getStart();
+            for (int i = 0; i < to - from; i++) {
+                offsets[i] = offset;
+                offset += new VPackSlice(buffer, offset).getByteSize();
+            }
+            offsets[to - from] = offset;
+        }
+    }
+
+    @Override
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    @Override
+    public ByteBuffer buffer() {
+        return ByteBuffer.wrap(buffer).asReadOnlyBuffer();
+    }
+
+    @Override
+    public int offset(final int index) {
+        checkIndex(index);
+        return offsets[index];
+    }
+
+    @Override
+    public int length(final int index) {
+        checkIndex(index);
+        return offsets[index + 1] - offsets[index];
+    }
+
+    @Override
+    public VPackSlice get(final int index) {
+        checkIndex(index);
+        return new VPackSlice(buffer, offsets[index]);
+    }
+
+    @Override
+    public void writeTo(final int index, final OutputStream out) throws IOException {
+        out.write(buffer, offset(index), length(index));
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Fetches up to {@code depth} batches of a cursor ahead on a background thread while the current batch is consumed.
+ * The batches are fetched one after the other, as the server serves them, and fetching ahead pauses once the batches
+ * not yet consumed reach the memory limit.
+ */
+public class ReadAheadCursorExecute implements ArangoCursorExecute {
+
+    private final ArangoCursorExecute execute;
+    private final Executor executor;
+    private final int depth;
+    private final long memoryLimit;
+    private final String id;
+    private final Deque<CursorEntity> fetched = new ArrayDeque<>();
+    private long fetchedBytes;
+    private Map<String, String> meta;
+    private boolean fetching;
+    private boolean exhausted;
+    private boolean closed;
+    private RuntimeException failure;
+
+    /**
+     * @param execute     fetches the batches, blocking
+     * @param executor    runs the fetches ahead
+     * @param depth       max number of batches fetched ahead
+     * @param memoryLimit max total size of the batches fetched ahead, 0 for no limit
+     * @param first       first batch of the cursor, the fetches ahead start right away
+     */
+    public ReadAheadCursorExecute(final ArangoCursorExecute execute, final Executor executor, final int depth,
+                                  final long memoryLimit, final CursorEntity first) {
+        super();
+        this.execute = execute;
+        this.executor = executor;
+        this.depth = Math.max(1, depth);
+        this.memoryLimit = Math.max(0L, memoryLimit);
+        id = first.getId();
+        meta = first.getMeta();
+        exhausted = id == null || !Boolean.TRUE.equals(first.getHasMore());
+        synchronized (this) {
+            fetchAhead();
+        }
+    }
+
+    private static long size(final CursorEntity batch) {
+        return batch.getResult() != null ? batch.getResult().getByteSize() : 0L;
+    }
+
+    private void fetchAhead() {
+        if (fetching || exhausted || closed || failure != null || fetched.size() >= depth
+                || (memoryLimit != 0 && fetchedBytes >= memoryLimit)) {
+            return;
+        }
+        fetching = true;
+        try {
+            executor.execute(this::fetch);
+        } catch (final RejectedExecutionException e) {
+            fetching = false;
+            failure = new ArangoDBException(e);
+        }
+    }
+
+    private void fetch() {
+        final Map<String, String> batchMeta;
+        synchronized (this) {
+            batchMeta = meta;
+        }
+        CursorEntity batch = null;
+        RuntimeException error = null;
+        try {
+            batch = execute.next(id, batchMeta);
+        } catch (final RuntimeException e) {
+            error = e;
+        }
+        synchronized (this) {
+            fetching = false;
+            if (error != null) {
+                failure = error;
+            } else {
+                fetched.add(batch);
+                fetchedBytes += size(batch);
+                meta = batch.getMeta();
+                exhausted = !Boolean.TRUE.equals(batch.getHasMore());
+                fetchAhead();
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Returns the next batch fetched ahead, waiting for it if necessary. The arguments are ignored, the batches are
+     * fetched with the id of the cursor and the metadata of the batch preceding them.
+     */
+    @Override
+    public synchronized CursorEntity next(final String id, final Map<String, String> meta) {
+        while (fetched.isEmpty()) {
+            if (closed) {
+                throw new ArangoDBException("Cursor " + id + " is closed");
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            if (exhausted) {
+                throw new ArangoDBException("Cursor " + id + " has no more batches");
+            }
+            fetchAhead();
+            try {
+                wait();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ArangoDBException(e);
+            }
+        }
+        final CursorEntity batch = fetched.poll();
+        fetchedBytes -= size(batch);
+        fetchAhead();
+        return batch;
+    }
+
+    /**
+     * Stops fetching ahead, waits for a batch being fetched and deletes the cursor on the server unless its last batch
+     * has been fetched already.
+     */
+    @Override
+    public void close(final String id, final Map<String, String> meta) {
+        final Map<String, String> closeMeta;
+        synchronized (this) {
+            closed = true;
+            while (fetching) {
+                try {
+                    wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ArangoDBException(e);
+                }
+            }
+            fetched.clear();
+            fetchedBytes = 0L;
+            if (exhausted) {
+                return;
+            }
+            closeMeta = this.meta;
+        }
+        execute.close(id, closeMeta);
+    }
+
+}
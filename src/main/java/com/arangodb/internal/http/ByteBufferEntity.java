@@ -0,0 +1,84 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal.http;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Request entity writing the bytes between position and limit of a buffer, e.g. a memory-mapped file region, to the
+ * connection. Buffers without backing array are copied through a small transfer buffer.
+ */
+class ByteBufferEntity extends AbstractHttpEntity {
+
+    private static final int TRANSFER_BUFFER_SIZE = 8192;
+
+    private final ByteBuffer body;
+
+    ByteBufferEntity(final ByteBuffer body, final ContentType contentType) {
+        super();
+        this.body = body;
+        setContentType(contentType.toString());
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return body.remaining();
+    }
+
+    @Override
+    public InputStream getContent() {
+        final byte[] bytes = new byte[body.remaining()];
+        body.duplicate().get(bytes);
+        return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public void writeTo(final OutputStream outStream) throws IOException {
+        if (body.hasArray()) {
+            outStream.write(body.array(), body.arrayOffset() + body.position(), body.remaining());
+            return;
+        }
+        final ByteBuffer source = body.duplicate();
+        final byte[] transfer = new byte[Math.min(TRANSFER_BUFFER_SIZE, source.remaining())];
+        while (source.hasRemaining()) {
+            final int length = Math.min(transfer.length, source.remaining());
+            source.get(transfer, 0, length);
+            outStream.write(transfer, 0, length);
+        }
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal.http;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Asynchronous counterpart of {@link ByteBufferEntity}, handing the bytes between position and limit of a buffer,
+ * e.g. a memory-mapped file region, to the data channel of the asynchronous Apache HTTP client without copying them
+ * into an array first.
+ */
+class ByteBufferEntityProducer implements AsyncEntityProducer {
+
+    private final ByteBuffer body;
+    private final ContentType contentType;
+    private volatile ByteBuffer remaining;
+
+    ByteBufferEntityProducer(final ByteBuffer body, final ContentType contentType) {
+        super();
+        this.body = body;
+        this.contentType = contentType;
+        remaining = body.duplicate();
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return body.remaining();
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType.toString();
+    }
+
+    @Override
+    public String getContentEncoding() {
+        return null;
+    }
+
+    @Override
+    public boolean isChunked() {
+        return false;
+    }
+
+    @Override
+    public Set<String> getTrailerNames() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public int available() {
+        return remaining.remaining();
+    }
+
+    @Override
+    public void produce(final DataStreamChannel channel) throws IOException {
+        final ByteBuffer source = remaining;
+        if (source.hasRemaining()) {
+            channel.write(source);
+        }
+        if (!source.hasRemaining()) {
+            channel.endStream();
+        }
+    }
+
+    @Override
+    public void failed(final Exception cause) {
+        releaseResources();
+    }
+
+    @Override
+    public void releaseResources() {
+        // rewinds for the next attempt of repeated requests
+        remaining = body.duplicate();
+    }
+
+}
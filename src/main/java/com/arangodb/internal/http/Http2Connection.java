@@ -0,0 +1,277 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.Protocol;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.util.ResponseUtils;
+import com.arangodb.util.ArangoSerialization;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.Response;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.H2AsyncClientBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.http2.config.H2Config;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP/2 connection to a single host. Concurrent requests are multiplexed as streams over one TCP connection, up to
+ * the configured number of concurrent streams; further requests wait for a stream to be released.
+ */
+public class Http2Connection implements HttpExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Http2Connection.class);
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; ArangoDB-JavaDriver/1.1; +http://mt.orz.at/)";
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    public static class Builder {
+        private String user;
+        private String password;
+        private ArangoSerialization util;
+        private Boolean useSsl;
+        private Protocol contentType;
+        private HostDescription host;
+        private SSLContext sslContext;
+        private HostnameVerifier hostnameVerifier;
+        private Integer timeout;
+        private int maxConcurrentStreams;
+        private HttpCompression compression = HttpCompression.none();
+
+        public Builder user(final String user) {
+            this.user = user;
+            return this;
+        }
+
+        public Builder password(final String password) {
+            this.password = password;
+            return this;
+        }
+
+        public Builder serializationUtil(final ArangoSerialization util) {
+            this.util = util;
+            return this;
+        }
+
+        public Builder useSsl(final Boolean useSsl) {
+            this.useSsl = useSsl;
+            return this;
+        }
+
+        public Builder contentType(final Protocol contentType) {
+            this.contentType = contentType;
+            return this;
+        }
+
+        public Builder host(final HostDescription host) {
+            this.host = host;
+            return this;
+        }
+
+        public Builder sslContext(final SSLContext sslContext) {
+            this.sslContext = sslContext;
+            return this;
+        }
+
+        public Builder hostnameVerifier(final HostnameVerifier hostnameVerifier) {
+            this.hostnameVerifier = hostnameVerifier;
+            return this;
+        }
+
+        public Builder timeout(final Integer timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Builder maxConcurrentStreams(final int maxConcurrentStreams) {
+            this.maxConcurrentStreams = maxConcurrentStreams;
+            return this;
+        }
+
+        public Builder compression(final HttpCompression compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        public Http2Connection build() {
+            return new Http2Connection(host, timeout, user, password, useSsl, sslContext, hostnameVerifier, util,
+                    contentType, maxConcurrentStreams, compression);
+        }
+    }
+
+    private final CloseableHttpAsyncClient client;
+    private final ArangoSerialization util;
+    private final Protocol contentType;
+    private final HttpRequestTemplate template;
+    private final HttpCompression compression;
+    private final Integer timeout;
+    private final Semaphore streams;
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+    private Http2Connection(final HostDescription host, final Integer timeout, final String user,
+                            final String password, final Boolean useSsl, final SSLContext sslContext,
+                            final HostnameVerifier hostnameVerifier, final ArangoSerialization util,
+                            final Protocol contentType, final int maxConcurrentStreams,
+                            final HttpCompression compression) {
+        super();
+        this.timeout = timeout;
+        template = new HttpRequestTemplate(host, useSsl, user, password);
+        this.compression = compression;
+        this.util = util;
+        this.contentType = contentType;
+        streams = new Semaphore(Math.max(1, maxConcurrentStreams));
+
+        final RequestConfig.Builder requestConfig = RequestConfig.custom();
+        if (timeout != null && timeout > 0) {
+            requestConfig.setConnectTimeout(Timeout.ofMilliseconds(timeout));
+            requestConfig.setResponseTimeout(Timeout.ofMilliseconds(timeout));
+        }
+        final H2AsyncClientBuilder builder = H2AsyncClientBuilder.create()
+                .setH2Config(H2Config.custom().setPushEnabled(false)
+                        .setMaxConcurrentStreams(Math.max(1, maxConcurrentStreams)).build())
+                .setIOReactorConfig(IOReactorConfig.custom().setIoThreadCount(1).setTcpNoDelay(true).build())
+                .setDefaultRequestConfig(requestConfig.build())
+                .setUserAgent(USER_AGENT)
+                .setThreadFactory(r -> {
+                    final Thread thread = new Thread(r, "arangodb-http2-" + THREAD_COUNTER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                .disableRedirectHandling()
+                .disableAutomaticRetries()
+                .disableCookieManagement()
+                .disableAuthCaching();
+        if (Boolean.TRUE == useSsl) {
+            final ClientTlsStrategyBuilder tls = ClientTlsStrategyBuilder.create()
+                    .setSslContext(sslContext != null ? sslContext : createDefaultSslContext());
+            if (hostnameVerifier != null) {
+                tls.setHostnameVerifier(hostnameVerifier);
+            }
+            builder.setTlsStrategy(tls.build());
+        }
+        client = builder.build();
+        client.start();
+    }
+
+    private static SSLContext createDefaultSslContext() {
+        try {
+            return SSLContext.getDefault();
+        } catch (final Exception e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        client.close(CloseMode.GRACEFUL);
+    }
+
+    @Override
+    public Response execute(final Request request) throws ArangoDBException, IOException {
+        final String url = template.url(request);
+        final SimpleHttpRequest httpRequest = SimpleHttpMessages.request(request, url, contentType,
+                template.authorization(), compression);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("{} {}", httpRequest.getMethod(), url);
+        }
+        acquireStream();
+        inFlightRequests.incrementAndGet();
+        final Response response;
+        try {
+            final SimpleHttpResponse httpResponse = await(client.execute(
+                    SimpleHttpMessages.producer(httpRequest, request), SimpleResponseConsumer.create(), null));
+            response = SimpleHttpMessages.response(httpResponse, contentType, compression);
+        } finally {
+            inFlightRequests.decrementAndGet();
+            streams.release();
+        }
+        checkError(response);
+        return response;
+    }
+
+    private void acquireStream() throws SocketTimeoutException {
+        try {
+            if (timeout != null && timeout > 0) {
+                if (!streams.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                    throw new SocketTimeoutException("No HTTP/2 stream available within " + timeout + "ms");
+                }
+            } else {
+                streams.acquire();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArangoDBException(e);
+        }
+    }
+
+    private SimpleHttpResponse await(final Future<SimpleHttpResponse> future) throws IOException {
+        try {
+            return timeout != null && timeout > 0 ? future.get(timeout, TimeUnit.MILLISECONDS) : future.get();
+        } catch (final TimeoutException e) {
+            future.cancel(true);
+            throw new SocketTimeoutException("Response not received within " + timeout + "ms");
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new ArangoDBException(cause);
+        } catch (final InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ArangoDBException(e);
+        }
+    }
+
+    protected void checkError(final Response response) throws ArangoDBException {
+        ResponseUtils.checkError(util, response);
+    }
+
+    @Override
+    public void setJwt(final String jwt) {
+        template.setJwt(jwt);
+    }
+
+    @Override
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+}
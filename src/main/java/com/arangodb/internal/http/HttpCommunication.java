@@ -84,14 +84,15 @@ public class HttpCommunication implements Closeable {
 
     private Response execute(final Request request, final HostHandle hostHandle, final int attemptCount) throws ArangoDBException {
         final AccessType accessType = RequestUtils.determineAccessType(request);
+        // copied once per request, not on every retry
+        for (Map.Entry<String, String> entry : this.headerParam.entrySet()) {
+            request.putHeaderParam(entry.getKey(), entry.getValue());
+        }
         Host host = hostHandler.get(hostHandle, accessType);
         try {
             while (true) {
                 try {
-                    final HttpConnection connection = (HttpConnection) host.connection();
-                    for (Map.Entry<String, String> entry : this.headerParam.entrySet()) {
-                        request.putHeaderParam(entry.getKey(), entry.getValue());
-                    }
+                    final HttpExecutor connection = (HttpExecutor) host.connection();
                     final Response response = connection.execute(request);
                     hostHandler.success();
                     hostHandler.confirm();
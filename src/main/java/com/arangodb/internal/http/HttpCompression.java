@@ -0,0 +1,247 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.Compression;
+import com.arangodb.internal.CompressionMetricsImpl;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compression settings of the HTTP connections. Request bodies of at least {@code threshold} bytes are compressed
+ * with the configured encoding, responses are requested in any supported encoding and inflated while they are
+ * decoded. The sizes before and after are recorded in the shared {@link CompressionMetricsImpl}.
+ */
+public final class HttpCompression {
+
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+    private static final int MAX_INITIAL_DECOMPRESS_CAPACITY = 1024 * 1024;
+
+    private final Compression compression;
+    private final int threshold;
+    private final int level;
+    private final CompressionMetricsImpl metrics;
+
+    public HttpCompression(final Compression compression, final int threshold, final int level,
+                           final CompressionMetricsImpl metrics) {
+        super();
+        this.compression = compression != null ? compression : Compression.NONE;
+        this.threshold = Math.max(0, threshold);
+        this.level = level;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return settings leaving all the bodies uncompressed
+     */
+    public static HttpCompression none() {
+        return new HttpCompression(Compression.NONE, 0, Deflater.DEFAULT_COMPRESSION, new CompressionMetricsImpl());
+    }
+
+    public boolean isEnabled() {
+        return compression != Compression.NONE;
+    }
+
+    /**
+     * @return whether the request body is compressed, compared against the threshold by its VelocyPack size
+     */
+    public boolean compresses(final VPackSlice body) {
+        return isEnabled() && body.getByteSize() >= threshold;
+    }
+
+    /**
+     * @return value of the {@code Content-Encoding} header of compressed request bodies
+     */
+    public String contentEncoding() {
+        return compression == Compression.GZIP ? GZIP : DEFLATE;
+    }
+
+    /**
+     * @param body request body
+     * @param json whether the body is sent as JSON instead of VelocyPack
+     * @return the compressed body
+     */
+    public byte[] compress(final VPackSlice body, final boolean json) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, body.getByteSize() / 4));
+        final long size;
+        try (DeflaterOutputStream out = compression == Compression.GZIP
+                ? new LevelGZIPOutputStream(bytes, level) : new LevelDeflaterOutputStream(bytes, level)) {
+            if (json) {
+                final CountingOutputStream counting = new CountingOutputStream(out);
+                VPackJsonWriter.write(body, counting);
+                size = counting.count;
+            } else {
+                out.write(body.getBuffer(), body.getStart(), body.getByteSize());
+                size = body.getByteSize();
+            }
+        } catch (final IOException e) {
+            // not thrown by in-memory streams
+            throw new IllegalStateException(e);
+        }
+        final byte[] compressed = bytes.toByteArray();
+        metrics.requestCompressed(size, compressed.length);
+        return compressed;
+    }
+
+    /**
+     * @param content         response body as received
+     * @param contentEncoding value of the {@code Content-Encoding} header of the response, or {@code null}
+     * @return stream inflating the body, or {@code content} itself if it is not encoded with a supported encoding
+     */
+    public InputStream decompress(final InputStream content, final String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return content;
+        }
+        final String encoding = contentEncoding.trim();
+        final boolean gzip = GZIP.equalsIgnoreCase(encoding) || "x-gzip".equalsIgnoreCase(encoding);
+        if (!gzip && !DEFLATE.equalsIgnoreCase(encoding)) {
+            return content;
+        }
+        final PushbackInputStream source = new PushbackInputStream(content, 1);
+        final int first = source.read();
+        if (first == -1) {
+            // e.g. responses to HEAD requests
+            return source;
+        }
+        source.unread(first);
+        final CountingInputStream compressed = new CountingInputStream(source);
+        final InputStream inflating = gzip ? new GZIPInputStream(compressed) : new InflaterInputStream(compressed);
+        return new CountingInputStream(inflating) {
+            @Override
+            public void close() throws IOException {
+                metrics.responseDecompressed(compressed.count, count);
+                super.close();
+            }
+        };
+    }
+
+    /**
+     * @see #decompress(InputStream, String)
+     */
+    public byte[] decompress(final byte[] content, final String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return content;
+        }
+        try (InputStream in = decompress(new ByteArrayInputStream(content), contentEncoding)) {
+            // grows with the data inflated, the initial guess is capped so that large responses do not allocate upfront
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(
+                    (int) Math.min(MAX_INITIAL_DECOMPRESS_CAPACITY, content.length * 2L));
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static final class LevelGZIPOutputStream extends GZIPOutputStream {
+        LevelGZIPOutputStream(final ByteArrayOutputStream out, final int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+    }
+
+    private static final class LevelDeflaterOutputStream extends DeflaterOutputStream {
+        LevelDeflaterOutputStream(final ByteArrayOutputStream out, final int level) {
+            super(out, new Deflater(level));
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                // not owned by DeflaterOutputStream when passed in
+                def.end();
+            }
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        long count;
+
+        CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+}
@@ -21,25 +21,21 @@
 package com.arangodb.internal.http;
 
 import com.arangodb.ArangoDBException;
-import com.arangodb.DbName;
 import com.arangodb.Protocol;
-import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.util.HashedWheelTimer;
 import com.arangodb.internal.util.IOUtils;
 import com.arangodb.internal.util.ResponseUtils;
 import com.arangodb.util.ArangoSerialization;
-import com.arangodb.util.ArangoSerializer.Options;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.Response;
 import org.apache.http.*;
-import org.apache.http.auth.AuthenticationException;
 import org.apache.http.auth.Credentials;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.HttpRequestRetryHandler;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.*;
-import org.apache.http.client.utils.URLEncodedUtils;
 import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
@@ -47,14 +43,12 @@ import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.auth.BasicScheme;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHeader;
 import org.apache.http.message.BasicHeaderElementIterator;
-import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.protocol.HTTP;
 import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
@@ -63,27 +57,31 @@ import org.slf4j.LoggerFactory;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.http.HttpHeaders.AUTHORIZATION;
 
 /**
  * @author Mark Vollmary
  */
-public class HttpConnection implements Connection {
+public class HttpConnection implements HttpExecutor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpCommunication.class);
     private static final ContentType CONTENT_TYPE_APPLICATION_JSON_UTF8 = ContentType.create("application/json",
             "utf-8");
     private static final ContentType CONTENT_TYPE_VPACK = ContentType.create("application/x-velocypack");
+    private static final Header USER_AGENT = new BasicHeader("User-Agent",
+            "Mozilla/5.0 (compatible; ArangoDB-JavaDriver/1.1; +http://mt.orz.at/)");
+    private static final Header ACCEPT_VPACK = new BasicHeader("Accept", "application/x-velocypack");
+    private static final Header ACCEPT_ENCODING = new BasicHeader("Accept-Encoding", HttpCompression.ACCEPT_ENCODING);
 
-    // max safe UTF-8 json string length, so that it can be converted to byte array
-    private static final int MAX_JSON_LENGTH = (Integer.MAX_VALUE - 8) / 4;
+    private static final long IDLE_SWEEP_INTERVAL_MS = 5000L;
+    private static final long MAX_IDLE_TIME_MS = 30L * 1000L;
+    private static final int VALIDATE_AFTER_INACTIVITY_MS = 2000;
 
     public static class Builder {
         private String user;
@@ -98,6 +96,8 @@ public class HttpConnection implements Connection {
         private HostnameVerifier hostnameVerifier;
         private Integer timeout;
         private HttpRequestRetryHandler httpRequestRetryHandler;
+        private int poolSize = 1;
+        private HttpCompression compression = HttpCompression.none();
 
         public Builder user(final String user) {
             this.user = user;
@@ -159,9 +159,23 @@ public class HttpConnection implements Connection {
             return this;
         }
 
+        /**
+         * @param poolSize number of sockets the connection keeps to its host. With more than one socket, requests of
+         *                 concurrent threads lease a socket each and idle sockets are evicted in the background.
+         */
+        public Builder poolSize(final int poolSize) {
+            this.poolSize = poolSize;
+            return this;
+        }
+
+        public Builder compression(final HttpCompression compression) {
+            this.compression = compression;
+            return this;
+        }
+
         public HttpConnection build() {
             return new HttpConnection(host, timeout, user, password, useSsl, sslContext, hostnameVerifier, util,
-                    contentType, ttl, httpCookieSpec, httpRequestRetryHandler);
+                    contentType, ttl, httpCookieSpec, httpRequestRetryHandler, poolSize, compression);
         }
     }
 
@@ -171,20 +185,24 @@ public class HttpConnection implements Connection {
     private final String password;
     private volatile String jwt = null;
     private final ArangoSerialization util;
-    private final Boolean useSsl;
     private final Protocol contentType;
-    private final HostDescription host;
+    private final HttpRequestTemplate template;
+    private final HttpCompression compression;
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private volatile HashedWheelTimer.Timeout idleSweep;
+    private volatile boolean closed = false;
 
     private HttpConnection(final HostDescription host, final Integer timeout, final String user, final String password,
                            final Boolean useSsl, final SSLContext sslContext, final HostnameVerifier hostnameVerifier, final ArangoSerialization util, final Protocol contentType,
-                           final Long ttl, final String httpCookieSpec, final HttpRequestRetryHandler httpRequestRetryHandler) {
+                           final Long ttl, final String httpCookieSpec, final HttpRequestRetryHandler httpRequestRetryHandler,
+                           final int poolSize, final HttpCompression compression) {
         super();
-        this.host = host;
         this.user = user;
         this.password = password;
-        this.useSsl = useSsl;
         this.util = util;
         this.contentType = contentType;
+        this.compression = compression;
+        template = new HttpRequestTemplate(host, useSsl, user, password);
         final RegistryBuilder<ConnectionSocketFactory> registryBuilder = RegistryBuilder
                 .create();
         if (Boolean.TRUE == useSsl) {
@@ -196,8 +214,12 @@ public class HttpConnection implements Connection {
             registryBuilder.register("http", new PlainConnectionSocketFactory());
         }
         cm = new PoolingHttpClientConnectionManager(registryBuilder.build());
-        cm.setDefaultMaxPerRoute(1);
-        cm.setMaxTotal(1);
+        final int maxConnections = Math.max(1, poolSize);
+        cm.setDefaultMaxPerRoute(maxConnections);
+        cm.setMaxTotal(maxConnections);
+        if (maxConnections > 1) {
+            cm.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MS);
+        }
         final RequestConfig.Builder requestConfig = RequestConfig.custom();
         if (timeout != null && timeout >= 0) {
             requestConfig.setConnectTimeout(timeout);
@@ -216,7 +238,25 @@ public class HttpConnection implements Connection {
         if (ttl != null) {
             builder.setConnectionTimeToLive(ttl, TimeUnit.MILLISECONDS);
         }
+        if (compression.isEnabled()) {
+            // responses are inflated while they are decoded, see buildResponse
+            builder.disableContentCompression();
+        }
         client = builder.build();
+        if (maxConnections > 1) {
+            scheduleIdleSweep();
+        }
+    }
+
+    private void scheduleIdleSweep() {
+        idleSweep = HashedWheelTimer.getInstance().newTimeout(() -> {
+            if (closed) {
+                return;
+            }
+            cm.closeExpiredConnections();
+            cm.closeIdleConnections(MAX_IDLE_TIME_MS, TimeUnit.MILLISECONDS);
+            scheduleIdleSweep();
+        }, IDLE_SWEEP_INTERVAL_MS, TimeUnit.MILLISECONDS);
     }
 
     private long getKeepAliveDuration(final HttpResponse response) {
@@ -237,29 +277,15 @@ public class HttpConnection implements Connection {
 
     @Override
     public void close() throws IOException {
+        closed = true;
+        final HashedWheelTimer.Timeout sweep = idleSweep;
+        if (sweep != null) {
+            sweep.cancel();
+        }
         cm.shutdown();
         client.close();
     }
 
-    private static String buildUrl(final String baseUrl, final Request request) {
-        StringBuilder sb = new StringBuilder().append(baseUrl);
-        DbName dbName = request.getDbName();
-        if (dbName != null && !dbName.get().isEmpty()) {
-            sb.append("/_db/").append(dbName.getEncoded());
-        }
-        sb.append(request.getRequest());
-        if (!request.getQueryParam().isEmpty()) {
-            if (request.getRequest().contains("?")) {
-                sb.append("&");
-            } else {
-                sb.append("?");
-            }
-            final String paramString = URLEncodedUtils.format(toList(request.getQueryParam()), "utf-8");
-            sb.append(paramString);
-        }
-        return sb.toString();
-    }
-
     private HttpRequestBase buildHttpRequestBase(final Request request, final String url) {
         final HttpRequestBase httpRequest;
         switch (request.getRequestType()) {
@@ -288,67 +314,54 @@ public class HttpConnection implements Connection {
 
     private HttpRequestBase requestWithBody(final HttpEntityEnclosingRequestBase httpRequest, final Request request) {
         final VPackSlice body = request.getBody();
-        if (body != null) {
-            if (contentType == Protocol.HTTP_VPACK) {
-                httpRequest.setEntity(new ByteArrayEntity(
-                        Arrays.copyOfRange(body.getBuffer(), body.getStart(), body.getStart() + body.getByteSize()),
+        if (request.getRawBody() != null) {
+            httpRequest.setEntity(new ByteBufferEntity(request.getRawBody(), CONTENT_TYPE_APPLICATION_JSON_UTF8));
+        } else if (body != null) {
+            if (compression.compresses(body)) {
+                final ByteArrayEntity entity = new ByteArrayEntity(
+                        compression.compress(body, contentType != Protocol.HTTP_VPACK),
+                        contentType == Protocol.HTTP_VPACK ? CONTENT_TYPE_VPACK : CONTENT_TYPE_APPLICATION_JSON_UTF8);
+                entity.setContentEncoding(compression.contentEncoding());
+                httpRequest.setEntity(entity);
+            } else if (contentType == Protocol.HTTP_VPACK) {
+                // sent straight from the buffer backing the slice
+                httpRequest.setEntity(new ByteArrayEntity(body.getBuffer(), body.getStart(), body.getByteSize(),
                         CONTENT_TYPE_VPACK));
             } else {
-                String json = body.toString();
-                if (json.length() > MAX_JSON_LENGTH) {
-                    LOGGER.warn("Json string length is greater than safe threshold (" + MAX_JSON_LENGTH + "). " +
-                            "This could cause memory allocation errors.");
-                }
-                httpRequest.setEntity(new StringEntity(json, CONTENT_TYPE_APPLICATION_JSON_UTF8));
+                httpRequest.setEntity(new VPackJsonEntity(body, CONTENT_TYPE_APPLICATION_JSON_UTF8));
             }
         }
         return httpRequest;
     }
 
-    private String buildBaseUrl(final HostDescription host) {
-        StringBuilder builder = new StringBuilder(Boolean.TRUE == useSsl ? "https://" : "http://");
-        if (host.getHost().contains("/")) {
-            builder.append(host.getHost().replaceFirst("/", ":" + host.getPort() + "/"));
-        } else {
-            builder.append(host.getHost()).append(":").append(host.getPort());
-        }
-        return builder.toString();
-    }
-
-    private static List<NameValuePair> toList(final Map<String, String> parameters) {
-        final ArrayList<NameValuePair> paramList = new ArrayList<>(parameters.size());
-        for (final Entry<String, String> param : parameters.entrySet()) {
-            if (param.getValue() != null) {
-                paramList.add(new BasicNameValuePair(param.getKey(), param.getValue()));
-            }
-        }
-        return paramList;
-    }
-
+    @Override
     public Response execute(final Request request) throws ArangoDBException, IOException {
-        final String url = buildUrl(buildBaseUrl(host), request);
+        final String url = template.url(request);
         final HttpRequestBase httpRequest = buildHttpRequestBase(request, url);
-        httpRequest.setHeader("User-Agent", "Mozilla/5.0 (compatible; ArangoDB-JavaDriver/1.1; +http://mt.orz.at/)");
+        httpRequest.setHeader(USER_AGENT);
         if (contentType == Protocol.HTTP_VPACK) {
-            httpRequest.setHeader("Accept", "application/x-velocypack");
+            httpRequest.setHeader(ACCEPT_VPACK);
+        }
+        if (compression.isEnabled()) {
+            httpRequest.setHeader(ACCEPT_ENCODING);
         }
         addHeader(request, httpRequest);
-        Credentials credentials = null;
-        if (jwt != null) {
-            httpRequest.addHeader(AUTHORIZATION, "Bearer " + jwt);
-        } else if (user != null) {
-            credentials = new UsernamePasswordCredentials(user, password != null ? password : "");
-            try {
-                httpRequest.addHeader(new BasicScheme().authenticate(credentials, httpRequest, null));
-            } catch (final AuthenticationException e) {
-                throw new ArangoDBException(e);
-            }
+        final String authorization = template.authorization();
+        if (authorization != null) {
+            httpRequest.addHeader(AUTHORIZATION, authorization);
         }
         if (LOGGER.isDebugEnabled()) {
+            final Credentials credentials = jwt == null && user != null
+                    ? new UsernamePasswordCredentials(user, password != null ? password : "") : null;
             CURLLogger.log(url, request, credentials, jwt, util);
         }
         Response response;
-        response = buildResponse(client.execute(httpRequest));
+        inFlightRequests.incrementAndGet();
+        try {
+            response = buildResponse(client.execute(httpRequest));
+        } finally {
+            inFlightRequests.decrementAndGet();
+        }
         checkError(response);
         return response;
     }
@@ -364,18 +377,25 @@ public class HttpConnection implements Connection {
         final Response response = new Response();
         response.setResponseCode(httpResponse.getStatusLine().getStatusCode());
         final HttpEntity entity = httpResponse.getEntity();
-        if (entity != null && entity.getContent() != null) {
-            if (contentType == Protocol.HTTP_VPACK) {
-                final byte[] content = IOUtils.toByteArray(entity.getContent());
-                if (content.length > 0) {
-                    response.setBody(new VPackSlice(content));
-                }
-            } else {
-                final String content = IOUtils.toString(entity.getContent());
-                if (!content.isEmpty()) {
-                    response.setBody(
-                            util.serialize(content, new Options().stringAsJson(true).serializeNullValues(true)));
+        final Header contentEncoding = entity != null ? entity.getContentEncoding() : null;
+        final InputStream content = entity != null ? compression.decompress(entity.getContent(),
+                contentEncoding != null ? contentEncoding.getValue() : null) : null;
+        if (content != null) {
+            try {
+                if (contentType == Protocol.HTTP_VPACK) {
+                    final byte[] bytes = IOUtils.toByteArray(content,
+                            contentEncoding == null ? entity.getContentLength() : -1L);
+                    if (bytes.length > 0) {
+                        response.setBody(new VPackSlice(bytes));
+                    }
+                } else {
+                    final VPackSlice body = JsonVPackReader.read(content);
+                    if (body != null) {
+                        response.setBody(body);
+                    }
                 }
+            } finally {
+                content.close();
             }
         }
         final Header[] headers = httpResponse.getAllHeaders();
@@ -393,6 +413,12 @@ public class HttpConnection implements Connection {
     @Override
     public void setJwt(String jwt) {
         this.jwt = jwt;
+        template.setJwt(jwt);
+    }
+
+    @Override
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
     }
 
 }
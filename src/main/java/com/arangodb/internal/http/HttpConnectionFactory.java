@@ -36,21 +36,33 @@ import javax.net.ssl.SSLContext;
 public class HttpConnectionFactory implements ConnectionFactory {
 
     private final HttpConnection.Builder builder;
+    private final Http2Connection.Builder http2Builder;
 
     public HttpConnectionFactory(final Integer timeout, final String user, final String password, final Boolean useSsl,
                                  final SSLContext sslContext, final HostnameVerifier hostnameVerifier,
                                  final ArangoSerialization util, final Protocol protocol, final Long connectionTtl,
-                                 final String httpCookieSpec, final HttpRequestRetryHandler httpRequestRetryHandler) {
+                                 final String httpCookieSpec, final HttpRequestRetryHandler httpRequestRetryHandler,
+                                 final int http2MaxConcurrentStreams, final int httpPoolSize,
+                                 final HttpCompression compression) {
         super();
-        builder = new HttpConnection.Builder().timeout(timeout).user(user).password(password).useSsl(useSsl)
-                .sslContext(sslContext).hostnameVerifier(hostnameVerifier).serializationUtil(util).contentType(protocol)
-                .ttl(connectionTtl).httpCookieSpec(httpCookieSpec).httpRequestRetryHandler(httpRequestRetryHandler);
-
+        if (protocol == Protocol.HTTP2_JSON || protocol == Protocol.HTTP2_VPACK) {
+            builder = null;
+            http2Builder = new Http2Connection.Builder().timeout(timeout).user(user).password(password).useSsl(useSsl)
+                    .sslContext(sslContext).hostnameVerifier(hostnameVerifier).serializationUtil(util)
+                    .contentType(protocol).maxConcurrentStreams(http2MaxConcurrentStreams).compression(compression);
+        } else {
+            builder = new HttpConnection.Builder().timeout(timeout).user(user).password(password).useSsl(useSsl)
+                    .sslContext(sslContext).hostnameVerifier(hostnameVerifier).serializationUtil(util)
+                    .contentType(protocol).ttl(connectionTtl).httpCookieSpec(httpCookieSpec)
+                    .httpRequestRetryHandler(httpRequestRetryHandler).poolSize(httpPoolSize)
+                    .compression(compression);
+            http2Builder = null;
+        }
     }
 
     @Override
     public Connection create(final HostDescription host) {
-        return builder.host(host).build();
+        return builder != null ? builder.host(host).build() : http2Builder.host(host).build();
     }
 
 }
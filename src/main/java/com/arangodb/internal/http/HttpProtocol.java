@@ -34,10 +34,21 @@ import java.io.IOException;
 public class HttpProtocol implements CommunicationProtocol {
 
     private final HttpCommunication httpCommunitaction;
+    private final boolean rawBody;
 
     public HttpProtocol(final HttpCommunication httpCommunitaction) {
+        this(httpCommunitaction, false);
+    }
+
+    /**
+     * @param httpCommunitaction communication
+     * @param rawBody            whether the connections send JSON, so that they can send
+     *                           {@link Request#getRawBody() raw bodies}
+     */
+    public HttpProtocol(final HttpCommunication httpCommunitaction, final boolean rawBody) {
         super();
         this.httpCommunitaction = httpCommunitaction;
+        this.rawBody = rawBody;
     }
 
     @Override
@@ -45,6 +56,11 @@ public class HttpProtocol implements CommunicationProtocol {
         return httpCommunitaction.execute(request, hostHandle);
     }
 
+    @Override
+    public boolean supportsRawBody() {
+        return rawBody;
+    }
+
     @Override
     public void setJwt(String jwt) {
         // no-op: jwt is updated in the host handlers
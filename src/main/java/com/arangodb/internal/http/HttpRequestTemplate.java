@@ -0,0 +1,173 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.DbName;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.velocystream.Request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pre-rendered parts of the HTTP requests sent to one host: the base url, the url prefix of each database and the
+ * {@code Authorization} header. Only the path and the query parameters of a request are rendered per call, into a
+ * buffer reused by the calling thread.
+ */
+public final class HttpRequestTemplate {
+
+    private static final int MAX_CACHED_DATABASES = 64;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 8 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private final String baseUrl;
+    private final ConcurrentMap<DbName, String> databasePrefixes = new ConcurrentHashMap<>();
+    private final String basicAuthorization;
+    private volatile String authorization;
+
+    public HttpRequestTemplate(final HostDescription host, final Boolean useSsl, final String user,
+                               final String password) {
+        super();
+        baseUrl = buildBaseUrl(host, useSsl);
+        if (user != null) {
+            final String credentials = user + ":" + (password != null ? password : "");
+            basicAuthorization = "Basic "
+                    + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+        } else {
+            basicAuthorization = null;
+        }
+        authorization = basicAuthorization;
+    }
+
+    private static String buildBaseUrl(final HostDescription host, final Boolean useSsl) {
+        final StringBuilder builder = new StringBuilder(Boolean.TRUE == useSsl ? "https://" : "http://");
+        final String hostName = host.getHost();
+        final int slash = hostName.indexOf('/');
+        if (slash >= 0) {
+            builder.append(hostName, 0, slash).append(':').append(host.getPort()).append(hostName, slash,
+                    hostName.length());
+        } else {
+            builder.append(hostName).append(':').append(host.getPort());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Switches the {@code Authorization} header to the given token, or back to the basic credentials if it is
+     * {@code null}.
+     */
+    public void setJwt(final String jwt) {
+        authorization = jwt != null ? "Bearer " + jwt : basicAuthorization;
+    }
+
+    /**
+     * @return the value of the {@code Authorization} header, or {@code null} if there are no credentials
+     */
+    public String authorization() {
+        return authorization;
+    }
+
+    /**
+     * @return the absolute url of the request, with its query parameters encoded as
+     * {@code application/x-www-form-urlencoded}
+     */
+    public String url(final Request request) {
+        StringBuilder sb = BUFFER.get();
+        if (sb.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            sb = new StringBuilder(256);
+            BUFFER.set(sb);
+        }
+        sb.setLength(0);
+        sb.append(databasePrefix(request.getDbName()));
+        final String path = request.getRequest();
+        sb.append(path);
+        char separator = path.indexOf('?') >= 0 ? '&' : '?';
+        for (final Map.Entry<String, String> param : request.getQueryParam().entrySet()) {
+            if (param.getValue() != null) {
+                sb.append(separator);
+                separator = '&';
+                encode(param.getKey(), sb);
+                sb.append('=');
+                encode(param.getValue(), sb);
+            }
+        }
+        return sb.toString();
+    }
+
+    private String databasePrefix(final DbName dbName) {
+        if (dbName == null || dbName.get().isEmpty()) {
+            return baseUrl;
+        }
+        final String cached = databasePrefixes.get(dbName);
+        if (cached != null) {
+            return cached;
+        }
+        final String prefix = baseUrl + "/_db/" + dbName.getEncoded();
+        if (databasePrefixes.size() < MAX_CACHED_DATABASES) {
+            databasePrefixes.putIfAbsent(dbName, prefix);
+        }
+        return prefix;
+    }
+
+    /**
+     * Form-encodes the value like {@code URLEncodedUtils.format(params, "utf-8")}: letters, digits and {@code _-.*}
+     * are kept, blanks become {@code +} and everything else is percent-encoded as UTF-8.
+     */
+    private static void encode(final String value, final StringBuilder sb) {
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '_' || c == '-' || c == '.' || c == '*') {
+                sb.append(c);
+            } else if (c == ' ') {
+                sb.append('+');
+            } else if (c < 0x80) {
+                percent(c, sb);
+            } else if (c < 0x800) {
+                percent(0xc0 | (c >> 6), sb);
+                percent(0x80 | (c & 0x3f), sb);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                percent(0xf0 | (codePoint >> 18), sb);
+                percent(0x80 | ((codePoint >> 12) & 0x3f), sb);
+                percent(0x80 | ((codePoint >> 6) & 0x3f), sb);
+                percent(0x80 | (codePoint & 0x3f), sb);
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogates are replaced like String.getBytes does
+                percent('?', sb);
+            } else {
+                percent(0xe0 | (c >> 12), sb);
+                percent(0x80 | ((c >> 6) & 0x3f), sb);
+                percent(0x80 | (c & 0x3f), sb);
+            }
+        }
+    }
+
+    private static void percent(final int b, final StringBuilder sb) {
+        sb.append('%').append(HEX_DIGITS[(b >> 4) & 0xf]).append(HEX_DIGITS[b & 0xf]);
+    }
+
+}
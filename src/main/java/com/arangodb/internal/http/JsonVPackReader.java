@@ -0,0 +1,356 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Decodes a UTF-8 encoded JSON document from an {@link InputStream} straight into a {@link VPackBuilder}, without
+ * reading the whole document into a {@link String} first. Null values are kept, numbers without fraction or exponent
+ * become integers and all other numbers doubles.
+ */
+public final class JsonVPackReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private byte[] scratch = new byte[64];
+    private int scratchLength;
+    private final VPackBuilder builder = new VPackBuilder();
+
+    private JsonVPackReader(final InputStream in) {
+        super();
+        this.in = in;
+    }
+
+    /**
+     * @return the decoded document, or {@code null} if the stream contains nothing but whitespace
+     * @throws ArangoDBException if the stream does not contain a valid JSON document
+     */
+    public static VPackSlice read(final InputStream in) throws IOException {
+        final JsonVPackReader reader = new JsonVPackReader(in);
+        final int first = reader.nextNonWhitespace();
+        if (first < 0) {
+            return null;
+        }
+        reader.value(null, first);
+        if (reader.nextNonWhitespace() >= 0) {
+            throw new ArangoDBException("Unexpected content after JSON document");
+        }
+        return reader.builder.slice();
+    }
+
+    private void value(final String key, final int c) throws IOException {
+        switch (c) {
+            case '{':
+                builder.add(key, ValueType.OBJECT);
+                object();
+                builder.close();
+                break;
+            case '[':
+                builder.add(key, ValueType.ARRAY);
+                array();
+                builder.close();
+                break;
+            case '"':
+                builder.add(key, string());
+                break;
+            case 't':
+                literal("rue");
+                builder.add(key, Boolean.TRUE);
+                break;
+            case 'f':
+                literal("alse");
+                builder.add(key, Boolean.FALSE);
+                break;
+            case 'n':
+                literal("ull");
+                builder.add(key, ValueType.NULL);
+                break;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    number(key, c);
+                } else {
+                    throw unexpected(c);
+                }
+                break;
+        }
+    }
+
+    private void object() throws IOException {
+        int c = nextNonWhitespace();
+        if (c == '}') {
+            return;
+        }
+        while (true) {
+            if (c != '"') {
+                throw unexpected(c);
+            }
+            final String key = string();
+            c = nextNonWhitespace();
+            if (c != ':') {
+                throw unexpected(c);
+            }
+            value(key, nextNonWhitespace());
+            c = nextNonWhitespace();
+            if (c == '}') {
+                return;
+            }
+            if (c != ',') {
+                throw unexpected(c);
+            }
+            c = nextNonWhitespace();
+        }
+    }
+
+    private void array() throws IOException {
+        int c = nextNonWhitespace();
+        if (c == ']') {
+            return;
+        }
+        while (true) {
+            value(null, c);
+            c = nextNonWhitespace();
+            if (c == ']') {
+                return;
+            }
+            if (c != ',') {
+                throw unexpected(c);
+            }
+            c = nextNonWhitespace();
+        }
+    }
+
+    /**
+     * Reads the rest of a string after its opening quote. The raw UTF-8 bytes are collected and decoded at once,
+     * escape sequences are converted to UTF-8 on the way.
+     */
+    private String string() throws IOException {
+        scratchLength = 0;
+        while (true) {
+            // copy runs of plain bytes from the buffer in one go
+            int i = position;
+            while (i < limit) {
+                final byte b = buffer[i];
+                if (b == '"' || b == '\\') {
+                    break;
+                }
+                i++;
+            }
+            appendScratch(buffer, position, i - position);
+            position = i;
+            final int c = next();
+            if (c == '"') {
+                return new String(scratch, 0, scratchLength, StandardCharsets.UTF_8);
+            } else if (c == '\\') {
+                escape();
+            } else if (c < 0) {
+                throw new ArangoDBException("Unterminated JSON string");
+            } else {
+                // buffer exhausted, the byte read belongs to the string
+                appendScratch((byte) c);
+            }
+        }
+    }
+
+    private void escape() throws IOException {
+        final int c = next();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                appendScratch((byte) c);
+                break;
+            case 'n':
+                appendScratch((byte) '\n');
+                break;
+            case 'r':
+                appendScratch((byte) '\r');
+                break;
+            case 't':
+                appendScratch((byte) '\t');
+                break;
+            case 'b':
+                appendScratch((byte) '\b');
+                break;
+            case 'f':
+                appendScratch((byte) '\f');
+                break;
+            case 'u':
+                int codePoint = hex4();
+                if (Character.isHighSurrogate((char) codePoint)) {
+                    if (next() != '\\' || next() != 'u') {
+                        throw new ArangoDBException("Unpaired surrogate in JSON string");
+                    }
+                    codePoint = Character.toCodePoint((char) codePoint, (char) hex4());
+                }
+                appendCodePoint(codePoint);
+                break;
+            default:
+                throw unexpected(c);
+        }
+    }
+
+    private int hex4() throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            final int c = next();
+            final int digit = Character.digit(c, 16);
+            if (c < 0 || digit < 0) {
+                throw unexpected(c);
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private void appendCodePoint(final int codePoint) {
+        if (codePoint < 0x80) {
+            appendScratch((byte) codePoint);
+        } else if (codePoint < 0x800) {
+            appendScratch((byte) (0xc0 | (codePoint >> 6)));
+            appendScratch((byte) (0x80 | (codePoint & 0x3f)));
+        } else if (codePoint < 0x10000) {
+            appendScratch((byte) (0xe0 | (codePoint >> 12)));
+            appendScratch((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+            appendScratch((byte) (0x80 | (codePoint & 0x3f)));
+        } else {
+            appendScratch((byte) (0xf0 | (codePoint >> 18)));
+            appendScratch((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+            appendScratch((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+            appendScratch((byte) (0x80 | (codePoint & 0x3f)));
+        }
+    }
+
+    private void number(final String key, final int first) throws IOException {
+        scratchLength = 0;
+        appendScratch((byte) first);
+        boolean integral = true;
+        while (true) {
+            final int c = peek();
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+') {
+                appendScratch((byte) c);
+            } else if (c == '.' || c == 'e' || c == 'E') {
+                integral = false;
+                appendScratch((byte) c);
+            } else {
+                break;
+            }
+            position++;
+        }
+        final String number = new String(scratch, 0, scratchLength, StandardCharsets.US_ASCII);
+        try {
+            if (!integral) {
+                builder.add(key, Double.parseDouble(number));
+            } else if (scratchLength < 19) {
+                builder.add(key, Long.parseLong(number));
+            } else {
+                final BigInteger value = new BigInteger(number);
+                if (value.bitLength() < 64) {
+                    builder.add(key, value.longValue());
+                } else if (value.signum() > 0 && value.bitLength() == 64) {
+                    builder.add(key, value, ValueType.UINT);
+                } else {
+                    builder.add(key, value.doubleValue());
+                }
+            }
+        } catch (final NumberFormatException e) {
+            throw new ArangoDBException("Invalid JSON number: " + number);
+        }
+    }
+
+    private void literal(final String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++) {
+            final int c = next();
+            if (c != rest.charAt(i)) {
+                throw unexpected(c);
+            }
+        }
+    }
+
+    private void appendScratch(final byte b) {
+        if (scratchLength == scratch.length) {
+            scratch = Arrays.copyOf(scratch, scratch.length * 2);
+        }
+        scratch[scratchLength++] = b;
+    }
+
+    private void appendScratch(final byte[] bytes, final int offset, final int length) {
+        if (scratchLength + length > scratch.length) {
+            scratch = Arrays.copyOf(scratch, Math.max(scratch.length * 2, scratchLength + length));
+        }
+        System.arraycopy(bytes, offset, scratch, scratchLength, length);
+        scratchLength += length;
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            final int c = next();
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    private int next() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++] & 0xff;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position] & 0xff;
+    }
+
+    private boolean fill() throws IOException {
+        final int read = in.read(buffer, 0, BUFFER_SIZE);
+        if (read <= 0) {
+            position = 0;
+            limit = 0;
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private static ArangoDBException unexpected(final int c) {
+        return new ArangoDBException(c < 0 ? "Unexpected end of JSON document"
+                : "Unexpected character in JSON document: '" + (char) c + "'");
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.Protocol;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import com.arangodb.velocystream.Response;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Converts driver requests and responses to and from the fully buffered messages of the asynchronous Apache HTTP
+ * client, shared by the HTTP/2 and the non-blocking HTTP connections.
+ */
+public final class SimpleHttpMessages {
+
+    private static final ContentType CONTENT_TYPE_APPLICATION_JSON_UTF8 = ContentType.create("application/json",
+            StandardCharsets.UTF_8);
+    private static final ContentType CONTENT_TYPE_VPACK = ContentType.create("application/x-velocypack");
+
+    private SimpleHttpMessages() {
+        super();
+    }
+
+    public static boolean isVPack(final Protocol contentType) {
+        return contentType == Protocol.HTTP_VPACK || contentType == Protocol.HTTP2_VPACK;
+    }
+
+    /**
+     * @param request       request to convert
+     * @param url           absolute request url
+     * @param contentType   protocol selecting the body format
+     * @param authorization value of the {@code Authorization} header, or {@code null}
+     * @param compression   compression settings of the connection
+     * @return the HTTP request, without a raw body of the request, see {@link #producer}
+     */
+    public static SimpleHttpRequest request(final Request request, final String url, final Protocol contentType,
+                                            final String authorization, final HttpCompression compression) {
+        final SimpleRequestBuilder builder = SimpleRequestBuilder.create(method(request.getRequestType())).setUri(url);
+        final VPackSlice body = request.getBody();
+        if (request.getRawBody() == null && body != null) {
+            if (compression.compresses(body)) {
+                builder.setBody(compression.compress(body, !isVPack(contentType)),
+                        isVPack(contentType) ? CONTENT_TYPE_VPACK : CONTENT_TYPE_APPLICATION_JSON_UTF8);
+                builder.setHeader("Content-Encoding", compression.contentEncoding());
+            } else if (isVPack(contentType)) {
+                builder.setBody(Arrays.copyOfRange(body.getBuffer(), body.getStart(),
+                        body.getStart() + body.getByteSize()), CONTENT_TYPE_VPACK);
+            } else {
+                builder.setBody(VPackJsonWriter.toByteArray(body), CONTENT_TYPE_APPLICATION_JSON_UTF8);
+            }
+        }
+        if (isVPack(contentType)) {
+            builder.setHeader("Accept", "application/x-velocypack");
+        }
+        if (compression.isEnabled()) {
+            builder.setHeader("Accept-Encoding", HttpCompression.ACCEPT_ENCODING);
+        }
+        for (final Map.Entry<String, String> header : request.getHeaderParam().entrySet()) {
+            builder.addHeader(header.getKey(), header.getValue());
+        }
+        if (authorization != null) {
+            builder.setHeader("Authorization", authorization);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param httpRequest request converted by {@link #request}
+     * @param request     request it was converted from
+     * @return producer of the HTTP request, which streams a raw body of the request from its buffer instead of
+     * copying it into the HTTP request
+     */
+    public static AsyncRequestProducer producer(final SimpleHttpRequest httpRequest, final Request request) {
+        if (request.getRawBody() == null) {
+            return SimpleRequestProducer.create(httpRequest);
+        }
+        return new BasicRequestProducer(httpRequest,
+                new ByteBufferEntityProducer(request.getRawBody(), CONTENT_TYPE_APPLICATION_JSON_UTF8));
+    }
+
+    private static String method(final RequestType requestType) {
+        switch (requestType) {
+            case POST:
+            case PUT:
+            case PATCH:
+            case DELETE:
+            case HEAD:
+                return requestType.name();
+            case GET:
+            default:
+                return RequestType.GET.name();
+        }
+    }
+
+    public static Response response(final SimpleHttpResponse httpResponse, final Protocol contentType,
+                                    final HttpCompression compression) throws IOException {
+        final Response response = new Response();
+        response.setResponseCode(httpResponse.getCode());
+        final Header contentEncoding = httpResponse.getFirstHeader("Content-Encoding");
+        final byte[] content = contentEncoding != null && httpResponse.getBodyBytes() != null
+                ? compression.decompress(httpResponse.getBodyBytes(), contentEncoding.getValue())
+                : httpResponse.getBodyBytes();
+        if (content != null && content.length > 0) {
+            if (isVPack(contentType)) {
+                response.setBody(new VPackSlice(content));
+            } else {
+                final VPackSlice body = JsonVPackReader.read(new ByteArrayInputStream(content));
+                if (body != null) {
+                    response.setBody(body);
+                }
+            }
+        }
+        // HTTP/2 header names are lower case, lookups of the driver use the HTTP/1.1 spelling
+        final Map<String, String> meta = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (final Header header : httpResponse.getHeaders()) {
+            meta.put(header.getName(), header.getValue());
+        }
+        response.setMeta(meta);
+        return response;
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.velocypack.VPackSlice;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Request entity writing a {@link VPackSlice} as JSON directly to the connection, see {@link VPackJsonWriter}. The
+ * content length is determined upfront by a counting pass, so the body is sent with a {@code Content-Length} header
+ * instead of chunked transfer encoding.
+ */
+class VPackJsonEntity extends AbstractHttpEntity {
+
+    private final VPackSlice body;
+    private final long contentLength;
+
+    VPackJsonEntity(final VPackSlice body, final ContentType contentType) {
+        super();
+        this.body = body;
+        this.contentLength = VPackJsonWriter.length(body);
+        setContentType(contentType.toString());
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public InputStream getContent() {
+        return new ByteArrayInputStream(VPackJsonWriter.toByteArray(body));
+    }
+
+    @Override
+    public void writeTo(final OutputStream outStream) throws IOException {
+        VPackJsonWriter.write(body, outStream);
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+}
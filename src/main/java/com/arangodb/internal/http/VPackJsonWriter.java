@@ -0,0 +1,302 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.velocypack.VPackParser;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Writes a {@link VPackSlice} as UTF-8 encoded JSON straight to an {@link OutputStream}, without building the whole
+ * JSON document as {@link String} first. Strings are copied from the UTF-8 bytes of the slice, only characters which
+ * have to be escaped are rewritten. Value types without a plain JSON counterpart (e.g. dates, binary, tagged values)
+ * are rendered by {@link VPackParser}, like {@link VPackSlice#toString()} does.
+ */
+public final class VPackJsonWriter {
+
+    private static final VPackParser PARSER = new VPackParser.Builder().build();
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    private VPackJsonWriter(final OutputStream out) {
+        super();
+        this.out = out;
+    }
+
+    /**
+     * Writes the slice as JSON to the stream, the stream is flushed but not closed.
+     */
+    public static void write(final VPackSlice slice, final OutputStream out) throws IOException {
+        final VPackJsonWriter writer = new VPackJsonWriter(out);
+        writer.value(slice);
+        writer.flushBuffer();
+        out.flush();
+    }
+
+    /**
+     * @return the number of bytes {@link #write(VPackSlice, OutputStream)} would write for the slice
+     */
+    public static long length(final VPackSlice slice) {
+        final CountingOutputStream counter = new CountingOutputStream();
+        try {
+            write(slice, counter);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return counter.count;
+    }
+
+    /**
+     * @return the JSON representation of the slice, in an array of exactly its size
+     */
+    public static byte[] toByteArray(final VPackSlice slice) {
+        final long length = length(slice);
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("JSON representation exceeds the maximum array size: " + length);
+        }
+        final byte[] bytes = new byte[(int) length];
+        try {
+            write(slice, new OutputStream() {
+                private int offset;
+
+                @Override
+                public void write(final int b) {
+                    bytes[offset++] = (byte) b;
+                }
+
+                @Override
+                public void write(final byte[] b, final int off, final int len) {
+                    System.arraycopy(b, off, bytes, offset, len);
+                    offset += len;
+                }
+            });
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes;
+    }
+
+    private void value(final VPackSlice slice) throws IOException {
+        if (slice.isTagged()) {
+            fallback(slice);
+            return;
+        }
+        switch (slice.getType()) {
+            case NULL:
+                raw(NULL);
+                break;
+            case BOOL:
+                raw(slice.getAsBoolean() ? TRUE : FALSE);
+                break;
+            case SMALLINT:
+            case INT:
+                ascii(Long.toString(slice.getAsLong()));
+                break;
+            case UINT:
+                ascii(slice.getAsBigInteger().toString());
+                break;
+            case DOUBLE:
+                final double value = slice.getAsDouble();
+                if (Double.isNaN(value) || Double.isInfinite(value)) {
+                    fallback(slice);
+                } else {
+                    ascii(Double.toString(value));
+                }
+                break;
+            case STRING:
+                string(slice);
+                break;
+            case ARRAY:
+                array(slice);
+                break;
+            case OBJECT:
+                object(slice);
+                break;
+            default:
+                fallback(slice);
+                break;
+        }
+    }
+
+    private void array(final VPackSlice slice) throws IOException {
+        byte1('[');
+        boolean first = true;
+        for (final Iterator<VPackSlice> iterator = slice.arrayIterator(); iterator.hasNext(); ) {
+            if (!first) {
+                byte1(',');
+            }
+            first = false;
+            value(iterator.next());
+        }
+        byte1(']');
+    }
+
+    private void object(final VPackSlice slice) throws IOException {
+        byte1('{');
+        boolean first = true;
+        for (final Iterator<Map.Entry<String, VPackSlice>> iterator = slice.objectIterator(); iterator.hasNext(); ) {
+            final Map.Entry<String, VPackSlice> entry = iterator.next();
+            if (!first) {
+                byte1(',');
+            }
+            first = false;
+            final byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            string(key, 0, key.length);
+            byte1(':');
+            value(entry.getValue());
+        }
+        byte1('}');
+    }
+
+    private void string(final VPackSlice slice) throws IOException {
+        final byte[] bytes = slice.getBuffer();
+        final int start = slice.getStart();
+        final int head = bytes[start] & 0xff;
+        if (head == 0xbf) {
+            long length = 0;
+            for (int i = 0; i < 8; i++) {
+                length |= (bytes[start + 1 + i] & 0xffL) << (8 * i);
+            }
+            string(bytes, start + 9, (int) length);
+        } else {
+            string(bytes, start + 1, head - 0x40);
+        }
+    }
+
+    /**
+     * Writes UTF-8 encoded bytes as JSON string, escaping quotes, backslashes and control characters.
+     */
+    private void string(final byte[] bytes, final int offset, final int length) throws IOException {
+        byte1('"');
+        int runStart = offset;
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            final int b = bytes[i] & 0xff;
+            if (b >= 0x20 && b != '"' && b != '\\') {
+                continue;
+            }
+            raw(bytes, runStart, i - runStart);
+            runStart = i + 1;
+            byte1('\\');
+            switch (b) {
+                case '"':
+                case '\\':
+                    byte1(b);
+                    break;
+                case '\n':
+                    byte1('n');
+                    break;
+                case '\r':
+                    byte1('r');
+                    break;
+                case '\t':
+                    byte1('t');
+                    break;
+                case '\b':
+                    byte1('b');
+                    break;
+                case '\f':
+                    byte1('f');
+                    break;
+                default:
+                    byte1('u');
+                    byte1('0');
+                    byte1('0');
+                    byte1(HEX[b >> 4]);
+                    byte1(HEX[b & 0xf]);
+                    break;
+            }
+        }
+        raw(bytes, runStart, end - runStart);
+        byte1('"');
+    }
+
+    private void fallback(final VPackSlice slice) throws IOException {
+        raw(PARSER.toJson(slice, true).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void ascii(final String value) throws IOException {
+        final int length = value.length();
+        if (BUFFER_SIZE - position < length) {
+            flushBuffer();
+        }
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void byte1(final int b) throws IOException {
+        if (position == BUFFER_SIZE) {
+            flushBuffer();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    private void raw(final byte[] bytes) throws IOException {
+        raw(bytes, 0, bytes.length);
+    }
+
+    private void raw(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (length > BUFFER_SIZE - position) {
+            flushBuffer();
+            if (length > BUFFER_SIZE) {
+                out.write(bytes, offset, length);
+                return;
+            }
+        }
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(final int b) {
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            count += len;
+        }
+    }
+
+}
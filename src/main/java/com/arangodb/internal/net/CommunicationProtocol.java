@@ -35,4 +35,11 @@ public interface CommunicationProtocol extends Closeable {
 
     void setJwt(String jwt);
 
+    /**
+     * @return whether requests may carry a {@link Request#getRawBody() raw JSON body}
+     */
+    default boolean supportsRawBody() {
+        return false;
+    }
+
 }
@@ -27,4 +27,9 @@ import java.io.Closeable;
  */
 public interface Connection extends Closeable {
     void setJwt(String jwt);
+
+    /**
+     * @return the number of requests sent on this connection and not answered yet
+     */
+    int getInFlightRequests();
 }
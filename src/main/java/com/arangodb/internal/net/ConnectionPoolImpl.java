@@ -26,8 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * @author Mark Vollmary
@@ -35,22 +34,29 @@ import java.util.List;
 public class ConnectionPoolImpl implements ConnectionPool {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionPoolImpl.class);
+    private static final Connection[] EMPTY = new Connection[0];
 
     private final HostDescription host;
     private final int maxConnections;
-    private final List<Connection> connections;
-    private int current;
+    // copy-on-write snapshot, replaced under the pool lock and read without it
+    private volatile Connection[] connections;
     private final ConnectionFactory factory;
+    private final ConnectionSelector selector;
     private volatile String jwt = null;
 
     public ConnectionPoolImpl(final HostDescription host, final Integer maxConnections,
                               final ConnectionFactory factory) {
+        this(host, maxConnections, factory, new RoundRobinConnectionSelector());
+    }
+
+    public ConnectionPoolImpl(final HostDescription host, final Integer maxConnections,
+                              final ConnectionFactory factory, final ConnectionSelector selector) {
         super();
         this.host = host;
         this.maxConnections = maxConnections;
         this.factory = factory;
-        connections = new ArrayList<>();
-        current = 0;
+        this.selector = selector;
+        connections = EMPTY;
     }
 
     @Override
@@ -61,26 +67,32 @@ public class ConnectionPoolImpl implements ConnectionPool {
     }
 
     @Override
-    public synchronized Connection connection() {
-
-        final Connection connection;
-
-        if (connections.size() < maxConnections) {
-            connection = createConnection(host);
-            connections.add(connection);
-            current++;
-        } else {
-            final int index = Math.floorMod(current++, connections.size());
-            connection = connections.get(index);
-        }
+    public Connection connection() {
+        final Connection[] snapshot = connections;
+        final Connection connection = snapshot.length >= maxConnections ? selector.select(snapshot) : grow();
 
-        if (connection instanceof VstConnectionSync) {
+        if (connection instanceof VstConnectionSync && LOGGER.isDebugEnabled()) {
             LOGGER.debug("Return Connection " + ((VstConnection) connection).getConnectionName());
         }
 
         return connection;
     }
 
+    /**
+     * Opens one more connection per call until the pool is full, like before the pool was lock-free.
+     */
+    private synchronized Connection grow() {
+        final Connection[] current = connections;
+        if (current.length >= maxConnections) {
+            return selector.select(current);
+        }
+        final Connection connection = createConnection(host);
+        final Connection[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = connection;
+        connections = next;
+        return connection;
+    }
+
     @Override
     public void setJwt(String jwt) {
         this.jwt = jwt;
@@ -91,16 +103,18 @@ public class ConnectionPoolImpl implements ConnectionPool {
 
     @Override
     public synchronized void close() throws IOException {
-        for (final Connection connection : connections) {
+        final Connection[] current = connections;
+        connections = EMPTY;
+        for (final Connection connection : current) {
             connection.close();
         }
-        connections.clear();
     }
 
     @Override
     public String toString() {
         return "ConnectionPoolImpl [host=" + host + ", maxConnections=" + maxConnections + ", connections="
-                + connections.size() + ", current=" + current + ", factory=" + factory.getClass().getSimpleName() + "]";
+                + connections.length + ", selector=" + selector.getClass().getSimpleName() + ", factory="
+                + factory.getClass().getSimpleName() + "]";
     }
 
 }
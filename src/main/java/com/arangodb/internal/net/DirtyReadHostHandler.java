@@ -23,13 +23,17 @@ package com.arangodb.internal.net;
 import java.io.IOException;
 
 /**
+ * Thread-safe: the access type of the last {@link #get(HostHandle, AccessType)} is kept per thread, so that the
+ * following calls of the same thread reach the same host handler. Async callbacks, which run on other threads, use
+ * the host handler {@link #resolve(AccessType) resolved} when the request started instead.
+ *
  * @author Mark Vollmary
  */
 public class DirtyReadHostHandler implements HostHandler {
 
     private final HostHandler master;
     private final HostHandler follower;
-    private AccessType currentAccessType;
+    private final ThreadLocal<AccessType> currentAccessType = new ThreadLocal<>();
 
     public DirtyReadHostHandler(final HostHandler master, final HostHandler follower) {
         super();
@@ -38,7 +42,7 @@ public class DirtyReadHostHandler implements HostHandler {
     }
 
     private HostHandler determineHostHandler() {
-        if (currentAccessType == AccessType.DIRTY_READ) {
+        if (currentAccessType.get() == AccessType.DIRTY_READ) {
             return follower;
         }
         return master;
@@ -46,10 +50,15 @@ public class DirtyReadHostHandler implements HostHandler {
 
     @Override
     public Host get(final HostHandle hostHandle, final AccessType accessType) {
-        this.currentAccessType = accessType;
+        currentAccessType.set(accessType);
         return determineHostHandler().get(hostHandle, accessType);
     }
 
+    @Override
+    public HostHandler resolve(final AccessType accessType) {
+        return accessType == AccessType.DIRTY_READ ? follower : master;
+    }
+
     @Override
     public void success() {
         determineHostHandler().success();
@@ -22,6 +22,7 @@ package com.arangodb.internal.net;
 
 import com.arangodb.ArangoDBException;
 import com.arangodb.DbName;
+import com.arangodb.entity.ConnectionSelectionStrategy;
 import com.arangodb.internal.ArangoExecutorSync;
 import com.arangodb.internal.util.HostUtils;
 import com.arangodb.util.ArangoSerialization;
@@ -49,8 +50,9 @@ public class ExtendedHostResolver implements HostResolver {
 
     private final Integer maxConnections;
     private final ConnectionFactory connectionFactory;
+    private final ConnectionSelectionStrategy connectionSelectionStrategy;
 
-    private long lastUpdate;
+    private volatile long lastUpdate;
     private final Integer acquireHostListInterval;
 
     private ArangoExecutorSync executor;
@@ -58,12 +60,15 @@ public class ExtendedHostResolver implements HostResolver {
 
 
     public ExtendedHostResolver(final List<Host> hosts, final Integer maxConnections,
-                                final ConnectionFactory connectionFactory, Integer acquireHostListInterval) {
+                                final ConnectionFactory connectionFactory,
+                                final ConnectionSelectionStrategy connectionSelectionStrategy,
+                                Integer acquireHostListInterval) {
 
         this.acquireHostListInterval = acquireHostListInterval;
         this.hosts = new HostSet(hosts);
         this.maxConnections = maxConnections;
         this.connectionFactory = connectionFactory;
+        this.connectionSelectionStrategy = connectionSelectionStrategy;
 
         lastUpdate = 0;
     }
@@ -79,6 +84,14 @@ public class ExtendedHostResolver implements HostResolver {
     public HostSet resolve(boolean initial, boolean closeConnections) {
 
         if (!initial && isExpired()) {
+            update();
+        }
+
+        return hosts;
+    }
+
+    private synchronized void update() {
+        if (isExpired()) {
 
             lastUpdate = System.currentTimeMillis();
 
@@ -98,12 +111,14 @@ public class ExtendedHostResolver implements HostResolver {
                     final String[] s = endpoint.replaceAll(".*://", "").split(":");
                     if (s.length == 2) {
                         final HostDescription description = new HostDescription(s[0], Integer.parseInt(s[1]));
-                        hosts.addHost(HostUtils.createHost(description, maxConnections, connectionFactory));
+                        hosts.addHost(HostUtils.createHost(description, maxConnections, connectionFactory,
+                                connectionSelectionStrategy));
                     } else if (s.length == 4) {
                         // IPV6 Address - TODO: we need a proper function to resolve AND support IPV4 & IPV6 functions
                         // globally
                         final HostDescription description = new HostDescription("127.0.0.1", Integer.parseInt(s[3]));
-                        hosts.addHost(HostUtils.createHost(description, maxConnections, connectionFactory));
+                        hosts.addHost(HostUtils.createHost(description, maxConnections, connectionFactory,
+                                connectionSelectionStrategy));
                     } else {
                         LOGGER.warn("Skip Endpoint (Missing Port)" + endpoint);
                     }
@@ -114,8 +129,6 @@ public class ExtendedHostResolver implements HostResolver {
             }
             hosts.clearAllMarkedForDeletion();
         }
-
-        return hosts;
     }
 
     private Collection<String> resolveFromServer() throws ArangoDBException {
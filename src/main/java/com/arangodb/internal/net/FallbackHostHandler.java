@@ -25,23 +25,27 @@ import com.arangodb.ArangoDBMultipleException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
+ * Thread-safe: {@link #get(HostHandle, AccessType)} and {@link #success()} do not lock while the current host is
+ * healthy, failover is serialized.
+ *
  * @author Mark Vollmary
  */
 public class FallbackHostHandler implements HostHandler {
 
     private final HostResolver resolver;
-    private Host current;
-    private Host lastSuccess;
-    private int iterations;
+    private volatile Host current;
+    private volatile Host lastSuccess;
+    private volatile int iterations;
     private final List<Throwable> lastFailExceptions;
-    private boolean firstOpened;
-    private HostSet hosts;
+    private volatile boolean firstOpened;
+    private volatile HostSet hosts;
 
     public FallbackHostHandler(final HostResolver resolver) {
         this.resolver = resolver;
-        lastFailExceptions = new ArrayList<>();
+        lastFailExceptions = new CopyOnWriteArrayList<>();
         reset();
         hosts = resolver.resolve(true, false);
         current = lastSuccess = hosts.getHostsList().get(0);
@@ -50,8 +54,9 @@ public class FallbackHostHandler implements HostHandler {
 
     @Override
     public Host get(final HostHandle hostHandle, AccessType accessType) {
-        if (current != lastSuccess || iterations < 3) {
-            return current;
+        final Host host = current;
+        if (host != lastSuccess || iterations < 3) {
+            return host;
         } else {
             ArangoDBException e = new ArangoDBException("Cannot contact any host!",
                     new ArangoDBMultipleException(new ArrayList<>(lastFailExceptions)));
@@ -62,12 +67,17 @@ public class FallbackHostHandler implements HostHandler {
 
     @Override
     public void success() {
-        lastSuccess = current;
-        reset();
+        final Host host = current;
+        if (lastSuccess != host) {
+            lastSuccess = host;
+        }
+        if (iterations != 0 || !lastFailExceptions.isEmpty()) {
+            reset();
+        }
     }
 
     @Override
-    public void fail(Exception exception) {
+    public synchronized void fail(Exception exception) {
         hosts = resolver.resolve(false, false);
         final List<Host> hostList = hosts.getHostsList();
         final int index = hostList.indexOf(current) + 1;
@@ -87,7 +97,7 @@ public class FallbackHostHandler implements HostHandler {
     }
 
     @Override
-    public void reset() {
+    public synchronized void reset() {
         iterations = 0;
         lastFailExceptions.clear();
     }
@@ -95,9 +105,13 @@ public class FallbackHostHandler implements HostHandler {
     @Override
     public void confirm() {
         if (firstOpened) {
-            // after first successful established connection, update host list
-            hosts = resolver.resolve(false, false);
-            firstOpened = false;
+            synchronized (this) {
+                if (firstOpened) {
+                    // after first successful established connection, update host list
+                    hosts = resolver.resolve(false, false);
+                    firstOpened = false;
+                }
+            }
         }
     }
 
@@ -29,6 +29,14 @@ public interface HostHandler {
 
     Host get(HostHandle hostHandle, AccessType accessType);
 
+    /**
+     * @return the host handler serving requests of the given access type, to be used instead of this one by
+     * callbacks which may run on other threads than the request started on
+     */
+    default HostHandler resolve(AccessType accessType) {
+        return this;
+    }
+
     void success();
 
     void fail(Exception exception);
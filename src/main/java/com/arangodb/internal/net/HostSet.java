@@ -13,6 +13,8 @@ public class HostSet {
     private static final Logger LOGGER = LoggerFactory.getLogger(HostSet.class);
 
     private final ArrayList<Host> hosts = new ArrayList<>();
+    // immutable copy of hosts, replaced on every change, so that readers need no lock
+    private volatile List<Host> snapshot = Collections.emptyList();
     private volatile String jwt = null;
 
     public HostSet() {
@@ -29,10 +31,14 @@ public class HostSet {
     }
 
     public List<Host> getHostsList() {
-        return Collections.unmodifiableList(hosts);
+        return snapshot;
     }
 
-    public void addHost(Host newHost) {
+    private void updateSnapshot() {
+        snapshot = Collections.unmodifiableList(new ArrayList<>(hosts));
+    }
+
+    public synchronized void addHost(Host newHost) {
         if (hosts.contains(newHost)) {
             LOGGER.debug("Host" + newHost + " already in Set");
             for (Host host : hosts) {
@@ -43,11 +49,12 @@ public class HostSet {
         } else {
             newHost.setJwt(jwt);
             hosts.add(newHost);
+            updateSnapshot();
             LOGGER.debug("Added Host " + newHost + " - now " + hosts.size() + " Hosts in List");
         }
     }
 
-    public void close() {
+    public synchronized void close() {
         LOGGER.debug("Close all Hosts in Set");
 
         for (Host host : hosts) {
@@ -62,7 +69,7 @@ public class HostSet {
         }
     }
 
-    public void markAllForDeletion() {
+    public synchronized void markAllForDeletion() {
 
         for (Host host : hosts) {
             host.setMarkforDeletion(true);
@@ -70,7 +77,7 @@ public class HostSet {
 
     }
 
-    public void clearAllMarkedForDeletion() {
+    public synchronized void clearAllMarkedForDeletion() {
 
         LOGGER.debug("Clear all Hosts in Set with markForDeletion");
 
@@ -88,17 +95,19 @@ public class HostSet {
                 }
             }
         }
+        updateSnapshot();
 
     }
 
-    public void clear() {
+    public synchronized void clear() {
         LOGGER.debug("Clear all Hosts in Set");
 
         close();
         hosts.clear();
+        updateSnapshot();
     }
 
-    public void setJwt(String jwt) {
+    public synchronized void setJwt(String jwt) {
         this.jwt = jwt;
         for (Host h : hosts) {
             h.setJwt(jwt);
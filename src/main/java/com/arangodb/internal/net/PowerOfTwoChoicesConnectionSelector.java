@@ -0,0 +1,45 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.net;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks two random connections and uses the one with fewer requests in flight. Unlike
+ * {@link LeastInFlightConnectionSelector} it reads only two counters per request.
+ */
+public class PowerOfTwoChoicesConnectionSelector implements ConnectionSelector {
+
+    @Override
+    public Connection select(final Connection[] connections) {
+        final int n = connections.length;
+        if (n == 1) {
+            return connections[0];
+        }
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(n);
+        final int second = (first + 1 + random.nextInt(n - 1)) % n;
+        final Connection a = connections[first];
+        final Connection b = connections[second];
+        return b.getInFlightRequests() < a.getInFlightRequests() ? b : a;
+    }
+
+}
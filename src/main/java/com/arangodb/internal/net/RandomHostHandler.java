@@ -30,8 +30,8 @@ public class RandomHostHandler implements HostHandler {
 
     private final HostResolver resolver;
     private final HostHandler fallback;
-    private Host current;
-    private HostSet hosts;
+    private volatile Host current;
+    private volatile HostSet hosts;
 
     public RandomHostHandler(final HostResolver resolver, final HostHandler fallback) {
         super();
@@ -42,6 +42,11 @@ public class RandomHostHandler implements HostHandler {
 
     @Override
     public Host get(final HostHandle hostHandle, AccessType accessType) {
+        final Host host = current;
+        return host != null ? host : getOrInitRandomHost();
+    }
+
+    private synchronized Host getOrInitRandomHost() {
         if (current == null) {
             current = getRandomHost(false, true);
         }
@@ -54,7 +59,7 @@ public class RandomHostHandler implements HostHandler {
     }
 
     @Override
-    public void fail(Exception exception) {
+    public synchronized void fail(Exception exception) {
         fallback.fail(exception);
         current = fallback.get(null, null);
     }
@@ -25,47 +25,57 @@ import com.arangodb.ArangoDBMultipleException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Thread-safe: {@link #get(HostHandle, AccessType)} and {@link #success()} do not lock.
+ *
  * @author Mark Vollmary
  */
 public class RoundRobinHostHandler implements HostHandler {
 
     private final HostResolver resolver;
-    private long current;
-    private int fails;
+    private final AtomicLong current;
+    private final AtomicInteger fails;
     private final List<Exception> lastFailExceptions;
-    private Host currentHost;
-    private HostSet hosts;
+    private volatile Host currentHost;
+    private volatile HostSet hosts;
 
     public RoundRobinHostHandler(final HostResolver resolver) {
         super();
         this.resolver = resolver;
-        lastFailExceptions = new ArrayList<>();
+        lastFailExceptions = new CopyOnWriteArrayList<>();
+        fails = new AtomicInteger();
         hosts = resolver.resolve(true, false);
-        current = 0L;
+        current = new AtomicLong();
         reset();
     }
 
     @Override
     public Host get(final HostHandle hostHandle, AccessType accessType) {
-        hosts = resolver.resolve(false, false);
-        final int size = hosts.getHostsList().size();
+        final HostSet resolved = resolver.resolve(false, false);
+        if (resolved != hosts) {
+            hosts = resolved;
+        }
+        final List<Host> hostList = resolved.getHostsList();
+        final int size = hostList.size();
 
-        if (fails > size) {
+        if (fails.get() > size) {
             ArangoDBException e = new ArangoDBException("Cannot contact any host!",
                     new ArangoDBMultipleException(new ArrayList<>(lastFailExceptions)));
             reset();
             throw e;
         }
 
-        final int index = (int) ((current++) % size);
-        Host host = hosts.getHostsList().get(index);
+        final int index = (int) Math.floorMod(current.getAndIncrement(), (long) size);
+        Host host = hostList.get(index);
         if (hostHandle != null) {
             final HostDescription hostDescription = hostHandle.getHost();
             if (hostDescription != null) {
                 for (int i = index; i < index + size; i++) {
-                    host = hosts.getHostsList().get(i % size);
+                    host = hostList.get(i % size);
                     if (hostDescription.equals(host.getDescription())) {
                         break;
                     }
@@ -80,12 +90,14 @@ public class RoundRobinHostHandler implements HostHandler {
 
     @Override
     public void success() {
-        reset();
+        if (fails.get() != 0 || !lastFailExceptions.isEmpty()) {
+            reset();
+        }
     }
 
     @Override
     public void fail(Exception exception) {
-        fails++;
+        fails.incrementAndGet();
         lastFailExceptions.add(exception);
     }
 
@@ -96,7 +108,7 @@ public class RoundRobinHostHandler implements HostHandler {
 
     @Override
     public void reset() {
-        fails = 0;
+        fails.set(0);
         lastFailExceptions.clear();
     }
 
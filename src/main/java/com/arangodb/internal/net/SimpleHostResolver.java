@@ -30,11 +30,11 @@ import java.util.List;
  */
 public class SimpleHostResolver implements HostResolver {
 
-    private final List<Host> hosts;
+    private final HostSet hosts;
 
     public SimpleHostResolver(final List<Host> hosts) {
         super();
-        this.hosts = hosts;
+        this.hosts = new HostSet(hosts);
     }
 
     @Override
@@ -44,7 +44,7 @@ public class SimpleHostResolver implements HostResolver {
 
     @Override
     public HostSet resolve(final boolean initial, final boolean closeConnections) {
-        return new HostSet(hosts);
+        return hosts;
     }
 
 }
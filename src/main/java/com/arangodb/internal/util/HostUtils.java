@@ -20,6 +20,7 @@
 
 package com.arangodb.internal.util;
 
+import com.arangodb.entity.ConnectionSelectionStrategy;
 import com.arangodb.internal.net.*;
 
 /**
@@ -45,7 +46,24 @@ public final class HostUtils {
     public static Host createHost(
             final HostDescription description,
             final int maxConnections,
-            final ConnectionFactory factory) {
-        return new HostImpl(new ConnectionPoolImpl(description, maxConnections, factory), description);
+            final ConnectionFactory factory,
+            final ConnectionSelectionStrategy selectionStrategy) {
+        return new HostImpl(new ConnectionPoolImpl(description, maxConnections, factory,
+                createConnectionSelector(selectionStrategy)), description);
+    }
+
+    public static ConnectionSelector createConnectionSelector(final ConnectionSelectionStrategy selectionStrategy) {
+        if (selectionStrategy == null) {
+            return new RoundRobinConnectionSelector();
+        }
+        switch (selectionStrategy) {
+            case LEAST_IN_FLIGHT:
+                return new LeastInFlightConnectionSelector();
+            case POWER_OF_TWO_CHOICES:
+                return new PowerOfTwoChoicesConnectionSelector();
+            case ROUND_ROBIN:
+            default:
+                return new RoundRobinConnectionSelector();
+        }
     }
 }
@@ -73,4 +73,34 @@ public final class IOUtils {
         return buffer.toByteArray();
     }
 
+    /**
+     * Reads the stream into an array allocated once with the expected length (e.g. from a {@code Content-Length}
+     * header), falling back to {@link #toByteArray(InputStream)} if the length is unknown or does not match.
+     */
+    public static byte[] toByteArray(final InputStream input, final long expectedLength) throws IOException {
+        if (expectedLength < 0 || expectedLength > Integer.MAX_VALUE - 8) {
+            return toByteArray(input);
+        }
+        final byte[] data = new byte[(int) expectedLength];
+        int offset = 0;
+        while (offset < data.length) {
+            final int nRead = input.read(data, offset, data.length - offset);
+            if (nRead == -1) {
+                final byte[] truncated = new byte[offset];
+                System.arraycopy(data, 0, truncated, 0, offset);
+                return truncated;
+            }
+            offset += nRead;
+        }
+        final int next = input.read();
+        if (next == -1) {
+            return data;
+        }
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length + 8012);
+        buffer.write(data, 0, data.length);
+        buffer.write(next);
+        buffer.write(toByteArray(input));
+        return buffer.toByteArray();
+    }
+
 }
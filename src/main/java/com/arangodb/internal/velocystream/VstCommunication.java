@@ -31,6 +31,8 @@ import com.arangodb.internal.util.ResponseUtils;
 import com.arangodb.internal.velocystream.internal.Chunk;
 import com.arangodb.internal.velocystream.internal.Message;
 import com.arangodb.internal.velocystream.internal.VstConnection;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
+import com.arangodb.internal.velocystream.internal.VstEnvelopeCodec;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.exception.VPackParserException;
@@ -64,61 +66,91 @@ public abstract class VstCommunication<R, C extends VstConnection> implements Cl
 
     protected final Integer chunksize;
     protected final HostHandler hostHandler;
+    private final VstEventLoopGroup eventLoopGroup;
 
     protected VstCommunication(final Integer timeout, final String user, final String password, final String jwt,
                                final Boolean useSsl, final SSLContext sslContext, final ArangoSerialization util,
-                               final Integer chunksize, final HostHandler hostHandler) {
+                               final Integer chunksize, final HostHandler hostHandler,
+                               final VstEventLoopGroup eventLoopGroup) {
         this.user = user;
         this.password = password;
         this.jwt = jwt;
         this.util = util;
         this.hostHandler = hostHandler;
+        this.eventLoopGroup = eventLoopGroup;
         this.chunksize = chunksize != null ? chunksize : ArangoDefaults.CHUNK_DEFAULT_CONTENT_SIZE;
     }
 
+    /**
+     * Returns a ready connection of the host chosen by the host handler. In the steady state, with the connection
+     * already open and authenticated, no lock is taken; opening, authenticating and failover are serialized by
+     * {@link #connect(HostHandle, AccessType, Host, VstConnection)}.
+     */
     @SuppressWarnings("unchecked")
-    protected synchronized C connect(final HostHandle hostHandle, final AccessType accessType) {
-        Host host = hostHandler.get(hostHandle, accessType);
+    protected C connect(final HostHandle hostHandle, final AccessType accessType) {
+        final Host host = hostHandler.get(hostHandle, accessType);
+        if (host == null) {
+            return connect(hostHandle, accessType, null, null);
+        }
+        final C connection = (C) host.connection();
+        if (connection.isReady()) {
+            hostHandler.success();
+            return connection;
+        }
+        return connect(hostHandle, accessType, host, connection);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized C connect(
+            final HostHandle hostHandle,
+            final AccessType accessType,
+            Host host,
+            C connection) {
         while (true) {
             if (host == null) {
                 hostHandler.reset();
                 throw new ArangoDBException("Was not able to connect to any host");
             }
-            final C connection = (C) host.connection();
-            if (connection.isOpen()) {
+            if (connection == null) {
+                connection = (C) host.connection();
+            }
+            if (connection.isReady()) {
+                // opened by another thread while this one was waiting for the lock
                 hostHandler.success();
                 return connection;
-            } else {
-                try {
-                    connection.open();
-                    hostHandler.success();
-                    if (jwt != null || user != null) {
-                        tryAuthenticate(connection);
-                    }
-                    hostHandler.confirm();
-                    if (!connection.isOpen()) {
-                        // see https://github.com/arangodb/arangodb-java-driver/issues/384
-                        hostHandler.fail(new IOException("The connection is closed."));
-                        host = hostHandler.get(hostHandle, accessType);
-                        continue;
-                    }
-                    return connection;
-                } catch (final IOException e) {
-                    hostHandler.fail(e);
-                    if (hostHandle != null && hostHandle.getHost() != null) {
-                        hostHandle.setHost(null);
-                    }
-                    final Host failedHost = host;
+            }
+            try {
+                connection.open();
+                hostHandler.success();
+                if (jwt != null || user != null) {
+                    tryAuthenticate(connection);
+                }
+                hostHandler.confirm();
+                if (!connection.isOpen()) {
+                    // see https://github.com/arangodb/arangodb-java-driver/issues/384
+                    hostHandler.fail(new IOException("The connection is closed."));
                     host = hostHandler.get(hostHandle, accessType);
-                    if (host != null) {
-                        LOGGER.warn(String.format("Could not connect to %s", failedHost.getDescription()), e);
-                        LOGGER.warn(
-                                String.format("Could not connect to %s or SSL Handshake failed. Try connecting to %s",
-                                        failedHost.getDescription(), host.getDescription()));
-                    } else {
-                        LOGGER.error(e.getMessage(), e);
-                        throw new ArangoDBException(e);
-                    }
+                    connection = null;
+                    continue;
+                }
+                connection.setReady();
+                return connection;
+            } catch (final IOException e) {
+                hostHandler.fail(e);
+                if (hostHandle != null && hostHandle.getHost() != null) {
+                    hostHandle.setHost(null);
+                }
+                final Host failedHost = host;
+                host = hostHandler.get(hostHandle, accessType);
+                connection = null;
+                if (host != null) {
+                    LOGGER.warn(String.format("Could not connect to %s", failedHost.getDescription()), e);
+                    LOGGER.warn(
+                            String.format("Could not connect to %s or SSL Handshake failed. Try connecting to %s",
+                                    failedHost.getDescription(), host.getDescription()));
+                } else {
+                    LOGGER.error(e.getMessage(), e);
+                    throw new ArangoDBException(e);
                 }
             }
         }
@@ -137,7 +169,13 @@ public abstract class VstCommunication<R, C extends VstConnection> implements Cl
 
     @Override
     public void close() throws IOException {
-        hostHandler.close();
+        try {
+            hostHandler.close();
+        } finally {
+            if (eventLoopGroup != null) {
+                eventLoopGroup.close();
+            }
+        }
     }
 
     public R execute(final Request request, final HostHandle hostHandle) throws ArangoDBException {
@@ -154,13 +192,28 @@ public abstract class VstCommunication<R, C extends VstConnection> implements Cl
     protected abstract R execute(final Request request, C connection, final int attemptCount) throws ArangoDBException;
 
     protected void checkError(final Response response) throws ArangoDBException {
-        ResponseUtils.checkError(util, response);
+        try {
+            ResponseUtils.checkError(util, response);
+        } catch (final ArangoDBException e) {
+            response.release();
+            throw e;
+        }
     }
 
     protected Response createResponse(final Message message) throws VPackParserException {
-        final Response response = util.deserialize(message.getHead(), Response.class);
+        final Response response;
+        try {
+            final Response decoded = VstEnvelopeCodec.decodeResponse(message.getHead());
+            response = decoded != null ? decoded : util.deserialize(message.getHead(), Response.class);
+        } catch (final VPackParserException e) {
+            message.release();
+            throw e;
+        }
         if (message.getBody() != null) {
             response.setBody(message.getBody());
+            response.setReleaseCallback(message::release);
+        } else {
+            message.release();
         }
         return response;
     }
@@ -169,7 +222,11 @@ public abstract class VstCommunication<R, C extends VstConnection> implements Cl
         request.putHeaderParam("accept", "application/x-velocypack");
         request.putHeaderParam("content-type", "application/x-velocypack");
         final long id = mId.incrementAndGet();
-        return new Message(id, util.serialize(request), request.getBody());
+        // subclasses, e.g. the authentication requests, have their own serializers
+        final VPackSlice head = request.getClass() == Request.class
+                ? VstEnvelopeCodec.encodeRequest(request)
+                : util.serialize(request);
+        return new Message(id, head, request.getBody(), request.getPriority());
     }
 
     protected Collection<Chunk> buildChunks(final Message message) {
@@ -30,6 +30,7 @@ import com.arangodb.internal.velocystream.internal.AuthenticationRequest;
 import com.arangodb.internal.velocystream.internal.JwtAuthenticationRequest;
 import com.arangodb.internal.velocystream.internal.Message;
 import com.arangodb.internal.velocystream.internal.VstConnectionSync;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.velocypack.exception.VPackParserException;
 import com.arangodb.velocystream.Request;
@@ -58,6 +59,7 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
         private SSLContext sslContext;
         private Integer chunksize;
         private Integer maxConnections;
+        private VstEventLoopGroup eventLoopGroup;
 
         public Builder(final HostHandler hostHandler) {
             super();
@@ -68,7 +70,7 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
             this(builder.hostHandler);
             timeout(builder.timeout).user(builder.user).password(builder.password).jwt(builder.jwt)
                     .useSsl(builder.useSsl).sslContext(builder.sslContext).chunksize(builder.chunksize)
-                    .maxConnections(builder.maxConnections);
+                    .maxConnections(builder.maxConnections).eventLoopGroup(builder.eventLoopGroup);
         }
 
         public Builder timeout(final Integer timeout) {
@@ -116,9 +118,14 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
             return this;
         }
 
+        public Builder eventLoopGroup(final VstEventLoopGroup eventLoopGroup) {
+            this.eventLoopGroup = eventLoopGroup;
+            return this;
+        }
+
         public VstCommunication<Response, VstConnectionSync> build(final ArangoSerialization util) {
             return new VstCommunicationSync(hostHandler, timeout, user, password, jwt, useSsl, sslContext, util, chunksize,
-                    maxConnections, connectionTtl);
+                    maxConnections, connectionTtl, eventLoopGroup);
         }
 
     }
@@ -126,8 +133,9 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
     protected VstCommunicationSync(final HostHandler hostHandler, final Integer timeout, final String user,
                                    final String password, final String jwt, final Boolean useSsl,
                                    final SSLContext sslContext, final ArangoSerialization util,
-                                   final Integer chunksize, final Integer maxConnections, final Long ttl) {
-        super(timeout, user, password, jwt, useSsl, sslContext, util, chunksize, hostHandler);
+                                   final Integer chunksize, final Integer maxConnections, final Long ttl,
+                                   final VstEventLoopGroup eventLoopGroup) {
+        super(timeout, user, password, jwt, useSsl, sslContext, util, chunksize, hostHandler, eventLoopGroup);
     }
 
     @Override
@@ -174,6 +182,7 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
         }
         final Response response = execute(authRequest, connection);
         checkError(response);
+        response.release();
     }
 
 }
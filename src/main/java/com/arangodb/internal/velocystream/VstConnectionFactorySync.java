@@ -24,7 +24,9 @@ import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.HostDescription;
 import com.arangodb.internal.velocystream.internal.MessageStore;
+import com.arangodb.internal.velocystream.internal.VstBufferPool;
 import com.arangodb.internal.velocystream.internal.VstConnectionSync;
+import com.arangodb.internal.velocystream.internal.VstEventLoopGroup;
 
 import javax.net.ssl.SSLContext;
 
@@ -36,11 +38,12 @@ public class VstConnectionFactorySync implements ConnectionFactory {
     private final VstConnectionSync.Builder builder;
 
     public VstConnectionFactorySync(final HostDescription host, final Integer timeout, final Long connectionTtl,
-                                    final Integer keepAliveInterval, final Boolean useSsl, final SSLContext sslContext) {
+                                    final Integer keepAliveInterval, final Boolean useSsl, final SSLContext sslContext,
+                                    final VstEventLoopGroup eventLoopGroup, final VstBufferPool bufferPool) {
         super();
         builder = new VstConnectionSync.Builder().timeout(timeout).ttl(connectionTtl)
                 .keepAliveInterval(keepAliveInterval).useSsl(useSsl)
-                .sslContext(sslContext);
+                .sslContext(sslContext).eventLoopGroup(eventLoopGroup).bufferPool(bufferPool);
     }
 
     @Override
@@ -0,0 +1,86 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Decides which message the next chunk sent on a connection is taken from. Chunks of the messages in flight are
+ * interleaved round-robin, a message gets as many chunks per round as its {@link Message#getPriority() priority}, so
+ * that small messages overtake large ones instead of waiting for their whole transfer.
+ * <p>
+ * Messages are added by any thread, {@link #next()} must only be invoked by the single writer of the connection.
+ */
+final class ChunkScheduler {
+
+    private final Queue<OutgoingMessage> inbound = new ConcurrentLinkedQueue<>();
+    private final ArrayDeque<OutgoingMessage> active = new ArrayDeque<>();
+    private OutgoingMessage current;
+    private int credit;
+
+    void add(final OutgoingMessage message) {
+        inbound.add(message);
+    }
+
+    /**
+     * @return whether messages have been added since the last invocation of {@link #next()}
+     */
+    boolean hasInbound() {
+        return !inbound.isEmpty();
+    }
+
+    /**
+     * @return the message whose next chunk has to be sent, or {@code null} if there is no chunk left to send
+     */
+    OutgoingMessage next() {
+        OutgoingMessage message;
+        while ((message = inbound.poll()) != null) {
+            active.addLast(message);
+        }
+        if (current != null) {
+            if (current.hasNextChunk() && credit > 0) {
+                credit--;
+                return current;
+            }
+            if (current.hasNextChunk()) {
+                active.addLast(current);
+            }
+            current = null;
+        }
+        while ((message = active.pollFirst()) != null) {
+            if (message.hasNextChunk()) {
+                current = message;
+                credit = message.getPriority() - 1;
+                return message;
+            }
+        }
+        return null;
+    }
+
+    void clear() {
+        inbound.clear();
+        active.clear();
+        current = null;
+    }
+
+}
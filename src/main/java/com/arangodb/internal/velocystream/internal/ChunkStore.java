@@ -31,14 +31,27 @@ import java.util.Map;
 public class ChunkStore {
 
     private final MessageStore messageStore;
+    private final VstBufferPool bufferPool;
     private final Map<Long, ByteBuffer> data;
 
     public ChunkStore(final MessageStore messageStore) {
+        this(messageStore, null);
+    }
+
+    /**
+     * @param bufferPool pool to obtain message buffers from, or {@code null} to allocate them
+     */
+    public ChunkStore(final MessageStore messageStore, final VstBufferPool bufferPool) {
         super();
         this.messageStore = messageStore;
+        this.bufferPool = bufferPool;
         data = new HashMap<>();
     }
 
+    /**
+     * @return the buffer of the message the chunk belongs to, positioned where the chunk content has to be stored,
+     * or {@code null} if the chunk does not belong to a known message
+     */
     public ByteBuffer storeChunk(final Chunk chunk) throws BufferUnderflowException, IndexOutOfBoundsException {
         final long messageId = chunk.getMessageId();
         ByteBuffer chunkBuffer = data.get(messageId);
@@ -49,7 +62,8 @@ public class ChunkStore {
             }
             final int length = (int) (chunk.getMessageLength() > 0 ? chunk.getMessageLength()
                     : chunk.getContentLength());
-            chunkBuffer = ByteBuffer.allocate(length);
+            chunkBuffer = bufferPool != null ? ByteBuffer.wrap(bufferPool.acquire(length), 0, length)
+                    : ByteBuffer.allocate(length);
             data.put(messageId, chunkBuffer);
         }
         return chunkBuffer;
@@ -62,7 +76,7 @@ public class ChunkStore {
     private void checkCompleteness(final long messageId, final ByteBuffer chunkBuffer)
             throws BufferUnderflowException, IndexOutOfBoundsException {
         if (chunkBuffer.position() == chunkBuffer.limit()) {
-            messageStore.consume(new Message(messageId, chunkBuffer.array()));
+            messageStore.consume(new Message(messageId, chunkBuffer.array(), chunkBuffer.limit(), bufferPool));
             data.remove(messageId);
         }
     }
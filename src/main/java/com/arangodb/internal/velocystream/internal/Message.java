@@ -32,24 +32,48 @@ public class Message {
     private final long id;
     private final VPackSlice head;
     private final VPackSlice body;
+    private final int priority;
+    private final VstBufferPool bufferPool;
+    private byte[] pooledBuffer;
 
     public Message(final long id, final byte[] chunkBuffer) throws BufferUnderflowException, IndexOutOfBoundsException {
+        this(id, chunkBuffer, chunkBuffer.length, null);
+    }
+
+    /**
+     * @param length     length of the message, the buffer may be larger
+     * @param bufferPool pool the buffer has been obtained from, or {@code null}
+     */
+    public Message(final long id, final byte[] buffer, final int length, final VstBufferPool bufferPool)
+            throws BufferUnderflowException, IndexOutOfBoundsException {
         super();
         this.id = id;
-        head = new VPackSlice(chunkBuffer);
+        this.bufferPool = bufferPool;
+        pooledBuffer = bufferPool != null ? buffer : null;
+        priority = 1;
+        head = new VPackSlice(buffer);
         final int headSize = head.getByteSize();
-        if (chunkBuffer.length > headSize) {
-            body = new VPackSlice(chunkBuffer, headSize);
+        if (length > headSize) {
+            body = new VPackSlice(buffer, headSize);
         } else {
             body = null;
         }
     }
 
     public Message(final long id, final VPackSlice head, final VPackSlice body) {
+        this(id, head, body, 1);
+    }
+
+    /**
+     * @param priority chunks of the message sent per round when interleaved with other messages
+     */
+    public Message(final long id, final VPackSlice head, final VPackSlice body, final int priority) {
         super();
         this.id = id;
         this.head = head;
         this.body = body;
+        this.priority = priority;
+        bufferPool = null;
     }
 
     public long getId() {
@@ -64,4 +88,23 @@ public class Message {
         return body;
     }
 
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the buffer backing head and body to the pool it has been obtained from. Neither head nor body, nor any
+     * slice of them, must be accessed afterwards.
+     */
+    public void release() {
+        final byte[] buffer;
+        synchronized (this) {
+            buffer = pooledBuffer;
+            pooledBuffer = null;
+        }
+        if (buffer != null) {
+            bufferPool.release(buffer);
+        }
+    }
+
 }
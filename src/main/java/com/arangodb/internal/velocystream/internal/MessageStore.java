@@ -24,58 +24,72 @@ import com.arangodb.ArangoDBException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.FutureTask;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
+ * Correlates the messages received on a connection with the requests waiting for them. Every request in flight
+ * occupies a single slot, keyed by the primitive message id, holding the future which is completed with the response
+ * or the error. The slots are spread over independently locked open addressing tables.
+ *
  * @author Mark Vollmary
  */
 public class MessageStore {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MessageStore.class);
+    private static final int STRIPES = 16;
 
-    private final Map<Long, FutureTask<Message>> task;
-    private final Map<Long, Message> response;
-    private final Map<Long, Exception> error;
+    private final Stripe[] stripes;
 
     public MessageStore() {
         super();
-        task = new ConcurrentHashMap<>();
-        response = new ConcurrentHashMap<>();
-        error = new ConcurrentHashMap<>();
+        stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    private static long hash(final long messageId) {
+        return messageId * 0x9E3779B97F4A7C15L;
     }
 
-    public void storeMessage(final long messageId, final FutureTask<Message> future) {
-        task.put(messageId, future);
+    private Stripe stripe(final long hash) {
+        return stripes[(int) (hash >>> 60)];
+    }
+
+    public void storeMessage(final long messageId, final CompletableFuture<Message> future) {
+        final long hash = hash(messageId);
+        stripe(hash).put(messageId, (int) hash, future);
     }
 
     public void consume(final Message message) {
-        final FutureTask<Message> future = task.remove(message.getId());
+        final CompletableFuture<Message> future = remove(message.getId());
         if (future != null) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug(String.format("Received Message (id=%s, head=%s, body=%s)", message.getId(),
                         message.getHead(), message.getBody() != null ? message.getBody() : "{}"));
             }
-            response.put(message.getId(), message);
-            future.run();
+            if (!future.complete(message)) {
+                message.release();
+            }
+        } else {
+            message.release();
         }
     }
 
-    public Message get(final long messageId) throws ArangoDBException {
-        final Message result = response.remove(messageId);
-        if (result == null) {
-            final Exception e = error.remove(messageId);
-            if (e != null) {
-                throw new ArangoDBException(e);
-            }
-        }
-        return result;
+    /**
+     * Removes the slot of the given message without completing its future.
+     *
+     * @return the future of the message, or {@code null} if the message is not in flight
+     */
+    public CompletableFuture<Message> remove(final long messageId) {
+        final long hash = hash(messageId);
+        return stripe(hash).remove(messageId, (int) hash);
     }
 
     public void cancel(final long messageId) {
-        final FutureTask<Message> future = task.remove(messageId);
+        final CompletableFuture<Message> future = remove(messageId);
         if (future != null) {
             LOGGER.error(String.format("Cancel Message unexpected (id=%s).", messageId));
             future.cancel(true);
@@ -83,30 +97,159 @@ public class MessageStore {
     }
 
     public synchronized void clear(final Exception e) {
-        if (!task.isEmpty()) {
+        final List<CompletableFuture<Message>> futures = removeAll();
+        if (!futures.isEmpty()) {
             LOGGER.error(e.getMessage(), e);
         }
-        for (final Entry<Long, FutureTask<Message>> entry : task.entrySet()) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(String.format("Exceptionally complete Message (id=%s).", entry.getKey()));
-            }
-            error.put(entry.getKey(), e);
-            entry.getValue().run();
+        final ArangoDBException error = new ArangoDBException(e);
+        for (final CompletableFuture<Message> future : futures) {
+            future.completeExceptionally(error);
         }
-        task.clear();
     }
 
     public synchronized void clear() {
-        for (final Entry<Long, FutureTask<Message>> entry : task.entrySet()) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(String.format("Cancel Message (id=%s).", entry.getKey()));
-            }
-            entry.getValue().cancel(true);
+        for (final CompletableFuture<Message> future : removeAll()) {
+            future.cancel(true);
         }
-        task.clear();
+    }
+
+    private List<CompletableFuture<Message>> removeAll() {
+        final List<CompletableFuture<Message>> futures = new ArrayList<>();
+        for (final Stripe stripe : stripes) {
+            stripe.removeAll(futures);
+        }
+        if (LOGGER.isDebugEnabled() && !futures.isEmpty()) {
+            LOGGER.debug(String.format("Complete %s pending Messages.", futures.size()));
+        }
+        return futures;
     }
 
     public boolean isEmpty() {
-        return task.isEmpty();
+        for (final Stripe stripe : stripes) {
+            if (!stripe.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
     }
+
+    /**
+     * @return the number of messages in flight, read without locking
+     */
+    public int size() {
+        int size = 0;
+        for (final Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /**
+     * Open addressing hash table with linear probing, keyed by message id.
+     */
+    private static final class Stripe {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private Object[] values = new Object[INITIAL_CAPACITY];
+        // written under the stripe lock only, read without it by size()
+        private volatile int size;
+
+        private static int index(final int hash, final int mask) {
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+
+        synchronized void put(final long key, final int hash, final CompletableFuture<Message> value) {
+            if ((size + 1) * 2 > values.length) {
+                resize(values.length * 2);
+            }
+            final int mask = values.length - 1;
+            int i = index(hash, mask);
+            while (values[i] != null) {
+                if (keys[i] == key) {
+                    values[i] = value;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized CompletableFuture<Message> remove(final long key, final int hash) {
+            final int mask = values.length - 1;
+            int i = index(hash, mask);
+            while (values[i] != null) {
+                if (keys[i] == key) {
+                    final Object value = values[i];
+                    delete(i);
+                    return (CompletableFuture<Message>) value;
+                }
+                i = (i + 1) & mask;
+            }
+            return null;
+        }
+
+        /**
+         * Empties the slot and moves the entries of the following probe sequence, so that no tombstones are needed.
+         */
+        private void delete(final int slot) {
+            final int mask = values.length - 1;
+            int free = slot;
+            values[free] = null;
+            size--;
+            for (int i = (free + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+                final int home = index((int) hash(keys[i]), mask);
+                final boolean movable = free <= i ? (home <= free || home > i) : (home <= free && home > i);
+                if (movable) {
+                    keys[free] = keys[i];
+                    values[free] = values[i];
+                    values[i] = null;
+                    free = i;
+                }
+            }
+        }
+
+        private void resize(final int capacity) {
+            final long[] oldKeys = keys;
+            final Object[] oldValues = values;
+            keys = new long[capacity];
+            values = new Object[capacity];
+            final int mask = capacity - 1;
+            for (int j = 0; j < oldValues.length; j++) {
+                if (oldValues[j] != null) {
+                    int i = index((int) hash(oldKeys[j]), mask);
+                    while (values[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = oldKeys[j];
+                    values[i] = oldValues[j];
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized void removeAll(final List<CompletableFuture<Message>> futures) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    futures.add((CompletableFuture<Message>) values[i]);
+                    values[i] = null;
+                }
+            }
+            size = 0;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+    }
+
 }
@@ -0,0 +1,121 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import com.arangodb.internal.ArangoDefaults;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Message queued for sending on a {@link VstConnection}, written chunk by chunk by the single writer of the connection.
+ */
+final class OutgoingMessage {
+
+    private final Message message;
+    private final Iterator<Chunk> chunks;
+
+    OutgoingMessage(final Message message, final Collection<Chunk> chunks) {
+        super();
+        this.message = message;
+        this.chunks = chunks.iterator();
+    }
+
+    long getId() {
+        return message.getId();
+    }
+
+    int getPriority() {
+        return message.getPriority();
+    }
+
+    boolean hasNextChunk() {
+        return chunks.hasNext();
+    }
+
+    Chunk nextChunk() {
+        return chunks.next();
+    }
+
+    /**
+     * Encodes the header of the given chunk at the current position of the little endian buffer.
+     */
+    static void encodeChunkHead(final Chunk chunk, final ByteBuffer buffer) {
+        final long messageLength = chunk.getMessageLength();
+        final int headLength = messageLength > -1L ? ArangoDefaults.CHUNK_MAX_HEADER_SIZE
+                : ArangoDefaults.CHUNK_MIN_HEADER_SIZE;
+        buffer.putInt(chunk.getContentLength() + headLength);
+        buffer.putInt(chunk.getChunkX());
+        buffer.putLong(chunk.getMessageId());
+        if (messageLength > -1L) {
+            buffer.putLong(messageLength);
+        }
+    }
+
+    /**
+     * Writes the content of the given chunk, which spans the head and the body of the message, to the stream.
+     */
+    void writeContent(final Chunk chunk, final OutputStream outputStream) throws IOException {
+        final VPackSlice head = message.getHead();
+        final int headLength = head.getByteSize();
+        final int contentOffset = chunk.getContentOffset();
+        final int contentLength = chunk.getContentLength();
+        int written = 0;
+        if (contentOffset < headLength) {
+            written = Math.min(contentLength, headLength - contentOffset);
+            outputStream.write(head.getBuffer(), head.getStart() + contentOffset, written);
+        }
+        if (written < contentLength) {
+            final VPackSlice body = message.getBody();
+            outputStream.write(body.getBuffer(), body.getStart() + contentOffset + written - headLength,
+                    contentLength - written);
+        }
+    }
+
+    /**
+     * Stores buffers wrapping the content of the given chunk into the array.
+     *
+     * @return the number of buffers stored
+     */
+    int wrapContent(final Chunk chunk, final ByteBuffer[] buffers, final int offset) {
+        final VPackSlice head = message.getHead();
+        final int headLength = head.getByteSize();
+        final int contentOffset = chunk.getContentOffset();
+        final int contentLength = chunk.getContentLength();
+        int written = 0;
+        int n = 0;
+        if (contentOffset < headLength) {
+            written = Math.min(contentLength, headLength - contentOffset);
+            buffers[offset + n++] = ByteBuffer.wrap(head.getBuffer(), head.getStart() + contentOffset, written);
+        }
+        if (written < contentLength) {
+            final VPackSlice body = message.getBody();
+            buffers[offset + n++] = ByteBuffer.wrap(body.getBuffer(),
+                    body.getStart() + contentOffset + written - headLength, contentLength - written);
+        }
+        return n;
+    }
+
+}
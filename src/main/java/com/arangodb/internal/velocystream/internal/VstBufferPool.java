@@ -0,0 +1,96 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-classed pool of the buffers VST messages are reassembled into. Size classes are powers of two between
+ * {@link #MIN_BUFFER_SIZE} and {@link #MAX_BUFFER_SIZE}, smaller and larger messages get an unpooled buffer of the
+ * exact size.
+ * The total size of the idle buffers retained by the pool is limited by {@code maxPoolSize}.
+ */
+public class VstBufferPool {
+
+    static final int MIN_BUFFER_SIZE = 1 << 10;
+    static final int MAX_BUFFER_SIZE = 1 << 24;
+
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+    private static final int MAX_SHIFT = Integer.numberOfTrailingZeros(MAX_BUFFER_SIZE);
+
+    private final long maxPoolSize;
+    private final AtomicLong poolSize = new AtomicLong();
+    private final Queue<byte[]>[] sizeClasses;
+
+    @SuppressWarnings("unchecked")
+    public VstBufferPool(final long maxPoolSize) {
+        super();
+        this.maxPoolSize = maxPoolSize;
+        sizeClasses = new Queue[MAX_SHIFT - MIN_SHIFT + 1];
+        for (int i = 0; i < sizeClasses.length; i++) {
+            sizeClasses[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * @param length minimum length of the buffer
+     * @return a buffer of at least the given length, its content is undefined
+     */
+    public byte[] acquire(final int length) {
+        if (length < MIN_BUFFER_SIZE || length > MAX_BUFFER_SIZE) {
+            return new byte[length];
+        }
+        final int sizeClass = sizeClass(length);
+        final byte[] buffer = sizeClasses[sizeClass].poll();
+        if (buffer != null) {
+            poolSize.addAndGet(-buffer.length);
+            return buffer;
+        }
+        return new byte[MIN_BUFFER_SIZE << sizeClass];
+    }
+
+    /**
+     * Returns a buffer obtained from {@link #acquire(int)} to the pool. The buffer must not be used by the caller
+     * afterwards.
+     */
+    public void release(final byte[] buffer) {
+        final int length = buffer.length;
+        if (length < MIN_BUFFER_SIZE || length > MAX_BUFFER_SIZE || Integer.bitCount(length) != 1) {
+            return;
+        }
+        if (poolSize.addAndGet(length) > maxPoolSize) {
+            poolSize.addAndGet(-length);
+            return;
+        }
+        sizeClasses[Integer.numberOfTrailingZeros(length) - MIN_SHIFT].offer(buffer);
+    }
+
+    long getPoolSize() {
+        return poolSize.get();
+    }
+
+    private static int sizeClass(final int length) {
+        return 32 - Integer.numberOfLeadingZeros(length - 1) - MIN_SHIFT;
+    }
+
+}
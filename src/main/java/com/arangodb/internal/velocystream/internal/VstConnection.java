@@ -24,6 +24,7 @@ import com.arangodb.ArangoDBException;
 import com.arangodb.internal.ArangoDefaults;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.util.HashedWheelTimer;
 import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.ValueType;
@@ -42,16 +43,22 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.SocketChannel;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Date;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -60,10 +67,19 @@ import java.util.concurrent.atomic.AtomicLong;
 public abstract class VstConnection<T> implements Connection {
     private static final Logger LOGGER = LoggerFactory.getLogger(VstConnection.class);
     private static final byte[] PROTOCOL_HEADER = "VST/1.0\r\n\r\n".getBytes();
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    // delay between checks of an expired connection which still has requests in flight
+    private static final long TTL_RECHECK_INTERVAL = 100L;
 
     private ExecutorService executor;
 
-    private ScheduledExecutorService keepAliveScheduler;
+    private final HashedWheelTimer timer = HashedWheelTimer.getInstance();
+    private volatile HashedWheelTimer.Timeout keepAliveTask;
+    private volatile HashedWheelTimer.Timeout ttlTask;
+    private volatile CompletableFuture<Message> keepAliveProbe;
+    private volatile long keepAliveProbeId;
+    // incremented on close, so that timer tasks of a previous opening of the connection do nothing
+    private volatile int generation;
     private final AtomicLong keepAliveId = new AtomicLong();
 
     protected final MessageStore messageStore;
@@ -72,15 +88,29 @@ public abstract class VstConnection<T> implements Connection {
     private final Long ttl;
 
     private final Integer keepAliveInterval;
-    private int keepAliveFailCounter = 0;
+    // updated by the timer thread, the threads running the probes and the callbacks completing them
+    private final AtomicInteger keepAliveFailCounter = new AtomicInteger();
 
     private final Boolean useSsl;
     private final SSLContext sslContext;
 
-    private Socket socket;
+    private volatile Socket socket;
+    // set once the connection is open and authenticated, so that it can be handed out without locking
+    private volatile boolean ready;
     private OutputStream outputStream;
     private InputStream inputStream;
 
+    private final VstEventLoopGroup eventLoopGroup;
+    private volatile VstNioChannel channel;
+    private final ChunkScheduler chunkScheduler = new ChunkScheduler();
+    private final AtomicBoolean writing = new AtomicBoolean();
+    private final ByteBuffer chunkHeadScratch = ByteBuffer.allocate(ArangoDefaults.CHUNK_MAX_HEADER_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+
+    private final VstBufferPool bufferPool;
+    private final ByteBuffer chunkHeader = ByteBuffer.allocate(ArangoDefaults.CHUNK_MAX_HEADER_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+
     private final HostDescription host;
 
     private final Map<Long, Long> sendTimestamps = new ConcurrentHashMap<>();
@@ -107,7 +137,9 @@ public abstract class VstConnection<T> implements Connection {
                             final Integer keepAliveInterval,
                             final Boolean useSsl,
                             final SSLContext sslContext,
-                            final MessageStore messageStore) {
+                            final MessageStore messageStore,
+                            final VstEventLoopGroup eventLoopGroup,
+                            final VstBufferPool bufferPool) {
         super();
         this.host = host;
         this.timeout = timeout;
@@ -116,54 +148,174 @@ public abstract class VstConnection<T> implements Connection {
         this.useSsl = useSsl;
         this.sslContext = sslContext;
         this.messageStore = messageStore;
+        this.eventLoopGroup = Boolean.TRUE == useSsl ? null : eventLoopGroup;
+        this.bufferPool = bufferPool;
 
         connectionName = "connection_" + System.currentTimeMillis() + "_" + Math.random();
         LOGGER.debug("[" + connectionName + "]: Connection created");
     }
 
-    protected T sendKeepAlive() {
+    private Message createKeepAliveMessage() {
         long id = keepAliveId.decrementAndGet();
         Message message = new Message(id, keepAliveRequest, null);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(String.format("[%s]: Send keepalive probe (id=%s, head=%s, body=%s)", connectionName, message.getId(), message.getHead(),
                     message.getBody() != null ? message.getBody() : "{}"));
         }
-        return write(message, Collections.singleton(new Chunk(
-                id, 0, 1, -1,
+        return message;
+    }
+
+    private Collection<Chunk> createKeepAliveChunks(final Message message) {
+        return Collections.singleton(new Chunk(
+                message.getId(), 0, 1, -1,
                 0, keepAliveRequest.getByteSize()
-        )));
+        ));
     }
 
     public abstract T write(final Message message, final Collection<Chunk> chunks);
 
-    protected abstract void doKeepAlive();
+    /**
+     * Schedules the deadline of the given request on the shared timer: once the timeout of the connection elapsed
+     * without a response, the request is removed from the {@link MessageStore} and its future fails with a
+     * {@link TimeoutException}. Does nothing if no timeout is configured.
+     */
+    protected void scheduleTimeout(final long messageId, final CompletableFuture<Message> future) {
+        if (timeout == null || timeout == 0L) {
+            return;
+        }
+        final HashedWheelTimer.Timeout deadline = timer.newTimeout(() -> {
+            if (messageStore.remove(messageId) != null) {
+                // dependent stages of async requests run on completion, which the timer thread must not
+                ForkJoinPool.commonPool().execute(() -> future.completeExceptionally(new TimeoutException()));
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
+        future.whenComplete((m, e) -> deadline.cancel());
+    }
 
-    private void keepAlive() {
+    private void scheduleKeepAlive(final int gen) {
+        keepAliveTask = timer.newTimeout(() -> {
+            if (eventLoopGroup != null) {
+                keepAlive(gen);
+            } else {
+                // writes to a blocking socket may block, which the timer thread must not
+                ForkJoinPool.commonPool().execute(() -> keepAlive(gen));
+            }
+        }, keepAliveInterval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Run on every tick of the keep-alive interval: the probe sent at the previous tick is checked for a response and
+     * a new probe is sent, so that no thread waits for the response.
+     */
+    private void keepAlive(final int gen) {
+        if (gen != generation || !isOpen()) {
+            return;
+        }
+        final CompletableFuture<Message> previous = keepAliveProbe;
+        if (previous != null) {
+            if (!previous.isDone()) {
+                messageStore.remove(keepAliveProbeId);
+                keepAliveFailed(new IOException("No response to keepalive probe within keepalive interval."));
+            } else {
+                try {
+                    previous.get().release();
+                    keepAliveFailCounter.set(0);
+                } catch (final ExecutionException | CancellationException | InterruptedException e) {
+                    keepAliveFailed(e);
+                }
+            }
+        }
+        if (!isOpen()) {
+            return;
+        }
+        final Message message = createKeepAliveMessage();
+        final CompletableFuture<Message> probe = new CompletableFuture<>();
+        messageStore.storeMessage(message.getId(), probe);
+        keepAliveProbeId = message.getId();
+        keepAliveProbe = probe;
         try {
-            doKeepAlive();
-            keepAliveFailCounter = 0;
-        } catch (Exception e) {
-            LOGGER.error("Got exception while performing keepAlive request:", e);
-            keepAliveFailCounter++;
-            if (keepAliveFailCounter >= 3) {
-                LOGGER.error("KeepAlive request failed consecutively for 3 times, closing connection now...");
-                messageStore.clear(new IOException("Connection unresponsive!"));
+            writeIntern(message, createKeepAliveChunks(message));
+        } catch (final ArangoDBException e) {
+            keepAliveFailed(e);
+        }
+        if (gen == generation && isOpen()) {
+            scheduleKeepAlive(gen);
+        }
+    }
+
+    /**
+     * Closes the connection once its TTL elapsed and no request is in flight.
+     */
+    private void scheduleTtlExpiry(final long delay, final int gen) {
+        ttlTask = timer.newTimeout(() -> {
+            if (gen != generation || !isOpen()) {
+                return;
+            }
+            if (messageStore.isEmpty()) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(String.format("[%s]: Close connection after TTL of %s ms", connectionName, ttl));
+                }
                 close();
+            } else {
+                scheduleTtlExpiry(TTL_RECHECK_INTERVAL, gen);
             }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void scheduleTimers() {
+        final int gen = generation;
+        if (ttl != null) {
+            scheduleTtlExpiry(ttl, gen);
+        }
+        if (keepAliveInterval != null) {
+            keepAliveProbe = null;
+            scheduleKeepAlive(gen);
+        }
+    }
+
+    private void keepAliveFailed(final Exception e) {
+        LOGGER.error("Got exception while performing keepAlive request:", e);
+        if (keepAliveFailCounter.incrementAndGet() >= 3) {
+            LOGGER.error("KeepAlive request failed consecutively for 3 times, closing connection now...");
+            messageStore.clear(new IOException("Connection unresponsive!"));
+            close();
         }
     }
 
     public boolean isOpen() {
+        final VstNioChannel nioChannel = channel;
+        if (nioChannel != null) {
+            return nioChannel.isOpen();
+        }
         return socket != null && socket.isConnected() && !socket.isClosed();
     }
 
+    /**
+     * @return whether the connection is open and was marked {@link #setReady() ready} since it has been opened
+     */
+    public boolean isReady() {
+        return ready && isOpen();
+    }
+
+    /**
+     * Marks the opened connection as ready to send requests, e.g. after the authentication succeeded.
+     */
+    public void setReady() {
+        ready = true;
+    }
+
     public synchronized void open() throws IOException {
         if (isOpen()) {
             return;
         }
+        ready = false;
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(String.format("[%s]: Open connection to %s", connectionName, host));
         }
+        if (eventLoopGroup != null) {
+            openChannel();
+            return;
+        }
         if (Boolean.TRUE == useSsl) {
             if (sslContext != null) {
                 socket = sslContext.getSocketFactory().createSocket();
@@ -180,7 +332,7 @@ public abstract class VstConnection<T> implements Connection {
             LOGGER.debug(String.format("[%s]: Connected to %s", connectionName, socket));
         }
 
-        outputStream = new BufferedOutputStream(socket.getOutputStream());
+        outputStream = new BufferedOutputStream(socket.getOutputStream(), OUTPUT_BUFFER_SIZE);
         inputStream = socket.getInputStream();
 
         if (Boolean.TRUE == useSsl) {
@@ -195,14 +347,8 @@ public abstract class VstConnection<T> implements Connection {
         executor.submit((Callable<Void>) () -> {
             LOGGER.debug("[" + connectionName + "]: Start Callable");
 
-            final long openTime = new Date().getTime();
-            final Long ttlTime = ttl != null ? openTime + ttl : null;
-            final ChunkStore chunkStore = new ChunkStore(messageStore);
+            final ChunkStore chunkStore = new ChunkStore(messageStore, bufferPool);
             while (true) {
-                if (ttlTime != null && new Date().getTime() > ttlTime && messageStore.isEmpty()) {
-                    close();
-                    break;
-                }
                 if (!isOpen()) {
                     messageStore.clear(new IOException("The socket is closed."));
                     close();
@@ -212,10 +358,13 @@ public abstract class VstConnection<T> implements Connection {
                     final Chunk chunk = readChunk();
                     final ByteBuffer chunkBuffer = chunkStore.storeChunk(chunk);
                     if (chunkBuffer != null) {
-                        final byte[] buf = new byte[chunk.getContentLength()];
-                        readBytesIntoBuffer(buf, 0, buf.length);
-                        chunkBuffer.put(buf);
+                        final int position = chunkBuffer.position();
+                        readBytesIntoBuffer(chunkBuffer.array(), chunkBuffer.arrayOffset() + position,
+                                chunk.getContentLength());
+                        chunkBuffer.position(position + chunk.getContentLength());
                         chunkStore.checkCompleteness(chunk.getMessageId());
+                    } else {
+                        skipBytes(chunk.getContentLength());
                     }
                 } catch (final Exception e) {
                     messageStore.clear(e);
@@ -229,19 +378,72 @@ public abstract class VstConnection<T> implements Connection {
             return null;
         });
 
-        if (keepAliveInterval != null) {
-            keepAliveScheduler = Executors.newScheduledThreadPool(1);
-            keepAliveScheduler.scheduleAtFixedRate(this::keepAlive, 0, keepAliveInterval, TimeUnit.SECONDS);
+        scheduleTimers();
+    }
+
+    private void openChannel() throws IOException {
+        final SocketChannel socketChannel = SocketChannel.open();
+        try {
+            socketChannel.socket().connect(new InetSocketAddress(host.getHost(), host.getPort()),
+                    timeout != null ? timeout : ArangoDefaults.DEFAULT_TIMEOUT);
+            socketChannel.socket().setKeepAlive(true);
+            socketChannel.socket().setTcpNoDelay(true);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("[%s]: Connected to %s", connectionName, socketChannel));
+                LOGGER.debug(String.format("[%s]: Send velocystream protocol header to %s", connectionName, socketChannel));
+            }
+            final ByteBuffer protocolHeader = ByteBuffer.wrap(PROTOCOL_HEADER);
+            while (protocolHeader.hasRemaining()) {
+                socketChannel.write(protocolHeader);
+            }
+            socketChannel.configureBlocking(false);
+        } catch (final IOException e) {
+            socketChannel.close();
+            throw e;
         }
 
+        final VstNioChannel nioChannel = new VstNioChannel(this, socketChannel, eventLoopGroup.next(), messageStore,
+                bufferPool);
+        channel = nioChannel;
+        nioChannel.register();
+
+        scheduleTimers();
+    }
+
+    /**
+     * Invoked by the event loop when the I/O of the given channel failed.
+     */
+    synchronized void closeOnChannelError(final VstNioChannel failedChannel, final Exception e) {
+        if (channel == failedChannel) {
+            messageStore.clear(e);
+            close();
+        } else {
+            failedChannel.close();
+        }
     }
 
     @Override
     public synchronized void close() {
-        if (keepAliveScheduler != null) {
-            keepAliveScheduler.shutdownNow();
+        ready = false;
+        generation++;
+        final HashedWheelTimer.Timeout keepAlive = keepAliveTask;
+        if (keepAlive != null) {
+            keepAlive.cancel();
+            keepAliveTask = null;
+        }
+        final HashedWheelTimer.Timeout ttlExpiry = ttlTask;
+        if (ttlExpiry != null) {
+            ttlExpiry.cancel();
+            ttlTask = null;
         }
         messageStore.clear();
+        final VstNioChannel nioChannel = channel;
+        if (nioChannel != null) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("[%s]: Close connection %s", connectionName, nioChannel.channel()));
+            }
+            nioChannel.close();
+        }
         if (executor != null && !executor.isShutdown()) {
             executor.shutdown();
         }
@@ -265,50 +467,60 @@ public abstract class VstConnection<T> implements Connection {
         outputStream.flush();
     }
 
-    protected synchronized void writeIntern(final Message message, final Collection<Chunk> chunks)
-            throws ArangoDBException {
-        for (final Chunk chunk : chunks) {
+    /**
+     * Queues the message for sending. On blocking sockets the calling thread becomes the writer of the connection
+     * unless another thread already is, the writer sends the chunks of all the queued messages interleaved by the
+     * {@link ChunkScheduler} and flushes once per batch.
+     */
+    protected void writeIntern(final Message message, final Collection<Chunk> chunks) throws ArangoDBException {
+        final OutgoingMessage outgoing = new OutgoingMessage(message, chunks);
+        if (LOGGER.isDebugEnabled()) {
+            sendTimestamps.put(message.getId(), System.currentTimeMillis());
+        }
+        final VstNioChannel nioChannel = channel;
+        if (nioChannel != null) {
+            if (!nioChannel.isOpen()) {
+                throw new ArangoDBException(new IOException("The socket is closed."));
+            }
+            nioChannel.write(outgoing);
+        } else {
+            chunkScheduler.add(outgoing);
+            drainSendQueue();
+        }
+    }
+
+    private void drainSendQueue() throws ArangoDBException {
+        do {
+            if (!writing.compareAndSet(false, true)) {
+                return;
+            }
             try {
-                if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debug(String.format("[%s]: Send chunk %s:%s from message %s", connectionName, chunk.getChunk(),
-                            chunk.isFirstChunk() ? 1 : 0, chunk.getMessageId()));
-                    sendTimestamps.put(chunk.getMessageId(), System.currentTimeMillis());
-                }
-                writeChunkHead(chunk);
-                final int contentOffset = chunk.getContentOffset();
-                final int contentLength = chunk.getContentLength();
-                final VPackSlice head = message.getHead();
-                final int headLength = head.getByteSize();
-                int written = 0;
-                if (contentOffset < headLength) {
-                    written = Math.min(contentLength, headLength - contentOffset);
-                    outputStream.write(head.getBuffer(), contentOffset, written);
-                }
-                if (written < contentLength) {
-                    final VPackSlice body = message.getBody();
-                    outputStream.write(body.getBuffer(), contentOffset + written - headLength, contentLength - written);
+                OutgoingMessage outgoing;
+                while ((outgoing = chunkScheduler.next()) != null) {
+                    writeChunk(outgoing, outgoing.nextChunk());
                 }
                 outputStream.flush();
             } catch (final IOException e) {
                 LOGGER.error("Error on Connection " + connectionName);
+                chunkScheduler.clear();
+                messageStore.clear(e);
+                close();
                 throw new ArangoDBException(e);
+            } finally {
+                writing.set(false);
             }
-        }
+        } while (chunkScheduler.hasInbound());
     }
 
-    private synchronized void writeChunkHead(final Chunk chunk) throws IOException {
-        final long messageLength = chunk.getMessageLength();
-        final int headLength = messageLength > -1L ? ArangoDefaults.CHUNK_MAX_HEADER_SIZE
-                : ArangoDefaults.CHUNK_MIN_HEADER_SIZE;
-        final int length = chunk.getContentLength() + headLength;
-        final ByteBuffer buffer = ByteBuffer.allocate(headLength).order(ByteOrder.LITTLE_ENDIAN);
-        buffer.putInt(length);
-        buffer.putInt(chunk.getChunkX());
-        buffer.putLong(chunk.getMessageId());
-        if (messageLength > -1L) {
-            buffer.putLong(messageLength);
-        }
-        outputStream.write(buffer.array());
+    private void writeChunk(final OutgoingMessage outgoing, final Chunk chunk) throws IOException {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(String.format("[%s]: Send chunk %s:%s from message %s", connectionName, chunk.getChunk(),
+                    chunk.isFirstChunk() ? 1 : 0, chunk.getMessageId()));
+        }
+        chunkHeadScratch.clear();
+        OutgoingMessage.encodeChunkHead(chunk, chunkHeadScratch);
+        outputStream.write(chunkHeadScratch.array(), 0, chunkHeadScratch.position());
+        outgoing.writeContent(chunk, outputStream);
     }
 
     protected Chunk readChunk() throws IOException {
@@ -335,10 +547,23 @@ public abstract class VstConnection<T> implements Connection {
         return chunk;
     }
 
+    /**
+     * Reads into the chunk header scratch buffer of this connection, which is only used by the reading thread.
+     */
     private ByteBuffer readBytes(final int len) throws IOException {
-        final byte[] buf = new byte[len];
-        readBytesIntoBuffer(buf, 0, len);
-        return ByteBuffer.wrap(buf).order(ByteOrder.LITTLE_ENDIAN);
+        chunkHeader.clear();
+        readBytesIntoBuffer(chunkHeader.array(), 0, len);
+        chunkHeader.limit(len);
+        return chunkHeader;
+    }
+
+    private void skipBytes(final int len) throws IOException {
+        final byte[] buf = new byte[Math.min(len, 8192)];
+        for (int skipped = 0; skipped < len; ) {
+            final int n = Math.min(len - skipped, buf.length);
+            readBytesIntoBuffer(buf, 0, n);
+            skipped += n;
+        }
     }
 
     protected void readBytesIntoBuffer(final byte[] buf, final int off, final int len) throws IOException {
@@ -360,4 +585,9 @@ public abstract class VstConnection<T> implements Connection {
     public void setJwt(String jwt) {
         // no-op: VST connections send jwt token only at initialization time
     }
+
+    @Override
+    public int getInFlightRequests() {
+        return messageStore.size();
+    }
 }
@@ -25,14 +25,18 @@ import com.arangodb.internal.net.HostDescription;
 
 import javax.net.ssl.SSLContext;
 import java.util.Collection;
-import java.util.concurrent.FutureTask;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * @author Mark Vollmary
  */
 public class VstConnectionSync extends VstConnection<Message> {
 
+    private static final long TIMEOUT_SAFETY_MARGIN_MILLIS = 1_000L;
+
     public static class Builder {
 
         private HostDescription host;
@@ -42,6 +46,8 @@ public class VstConnectionSync extends VstConnection<Message> {
         private Integer keepAliveInterval;
         private Boolean useSsl;
         private SSLContext sslContext;
+        private VstEventLoopGroup eventLoopGroup;
+        private VstBufferPool bufferPool;
 
         public Builder host(final HostDescription host) {
             this.host = host;
@@ -78,32 +84,47 @@ public class VstConnectionSync extends VstConnection<Message> {
             return this;
         }
 
+        public Builder eventLoopGroup(final VstEventLoopGroup eventLoopGroup) {
+            this.eventLoopGroup = eventLoopGroup;
+            return this;
+        }
+
+        public Builder bufferPool(final VstBufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+            return this;
+        }
+
         public VstConnectionSync build() {
             return new VstConnectionSync(host, timeout, ttl, keepAliveInterval,
-                    useSsl, sslContext, messageStore);
+                    useSsl, sslContext, messageStore, eventLoopGroup, bufferPool);
         }
     }
 
     private VstConnectionSync(final HostDescription host, final Integer timeout, final Long ttl, final Integer keepAliveInterval,
-                              final Boolean useSsl, final SSLContext sslContext, final MessageStore messageStore) {
-        super(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, messageStore);
+                              final Boolean useSsl, final SSLContext sslContext, final MessageStore messageStore,
+                              final VstEventLoopGroup eventLoopGroup, final VstBufferPool bufferPool) {
+        super(host, timeout, ttl, keepAliveInterval, useSsl, sslContext, messageStore, eventLoopGroup, bufferPool);
     }
 
     @Override
     public Message write(final Message message, final Collection<Chunk> chunks) throws ArangoDBException {
-        final FutureTask<Message> task = new FutureTask<>(() -> messageStore.get(message.getId()));
-        messageStore.storeMessage(message.getId(), task);
+        final CompletableFuture<Message> future = new CompletableFuture<>();
+        messageStore.storeMessage(message.getId(), future);
+        scheduleTimeout(message.getId(), future);
         super.writeIntern(message, chunks);
         try {
-            return timeout == null || timeout == 0L ? task.get() : task.get(timeout, TimeUnit.MILLISECONDS);
+            // the deadline on the shared timer fails the future, the bounded wait is a safety net if the timer is late
+            return timeout == null || timeout == 0L ? future.get()
+                    : future.get(timeout + TIMEOUT_SAFETY_MARGIN_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new ArangoDBException(e.getCause());
+            }
+            throw new ArangoDBException(e);
         } catch (final Exception e) {
+            messageStore.remove(message.getId());
             throw new ArangoDBException(e);
         }
     }
 
-    @Override
-    protected void doKeepAlive() {
-        sendKeepAlive();
-    }
-
 }
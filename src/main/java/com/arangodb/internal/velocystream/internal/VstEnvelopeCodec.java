@@ -0,0 +1,332 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.exception.VPackException;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encoder of the VelocyStream request header and decoder of the response header, writing and reading the VelocyPack
+ * arrays directly instead of going through the object mapper:
+ * <ul>
+ * <li>request: {@code [version, type, database, requestType, path, {queryParams}, {headerParams}]}</li>
+ * <li>response: {@code [version, type, responseCode, {meta}]}</li>
+ * </ul>
+ * The encodings of database names and of header and query parameter names are cached; paths and parameter values
+ * usually contain document keys, revisions or transaction ids and are encoded on every call.
+ */
+public final class VstEnvelopeCodec {
+
+    private static final int MAX_CACHED_STRINGS = 1024;
+    private static final int MAX_SHORT_STRING = 126;
+    // head byte, 4 bytes byte length, 4 bytes number of items
+    private static final int MAX_COMPOUND_HEAD = 9;
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    // encoders do not keep buffers grown by exceptionally large headers
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private static final Map<String, byte[]> STRING_CACHE = new ConcurrentHashMap<>();
+    private static final ThreadLocal<VstEnvelopeCodec> ENCODERS = ThreadLocal.withInitial(VstEnvelopeCodec::new);
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int position;
+    private final int[] requestItems = new int[7];
+    private final int[] objectItems = new int[16];
+
+    private VstEnvelopeCodec() {
+        super();
+    }
+
+    /**
+     * @return the header of the request, same as serializing it with
+     * {@link com.arangodb.internal.velocypack.VPackSerializers#REQUEST}
+     */
+    public static VPackSlice encodeRequest(final Request request) {
+        return ENCODERS.get().encode(request);
+    }
+
+    /**
+     * @return the response described by the header, or {@code null} if the header has a shape this codec does not
+     * handle, e.g. meta values which are no strings
+     */
+    public static Response decodeResponse(final VPackSlice head) {
+        try {
+            return decode(head);
+        } catch (final VPackException e) {
+            return null;
+        }
+    }
+
+    private static Response decode(final VPackSlice head) {
+        if (!head.isArray() || head.size() < 3) {
+            return null;
+        }
+        final Response response = new Response();
+        response.setVersion(head.get(0).getAsInt());
+        response.setType(head.get(1).getAsInt());
+        response.setResponseCode(head.get(2).getAsInt());
+        if (head.size() > 3) {
+            final VPackSlice meta = head.get(3);
+            if (!meta.isObject()) {
+                return null;
+            }
+            final Map<String, String> values = new HashMap<>();
+            for (final Iterator<Entry<String, VPackSlice>> it = meta.objectIterator(); it.hasNext(); ) {
+                final Entry<String, VPackSlice> entry = it.next();
+                final VPackSlice value = entry.getValue();
+                if (!value.isString()) {
+                    return null;
+                }
+                values.put(entry.getKey(), value.getAsString());
+            }
+            response.setMeta(values);
+        }
+        return response;
+    }
+
+    private VPackSlice encode(final Request request) {
+        position = 0;
+        final int start = openCompound();
+        int n = 0;
+        final int[] items = requestItems;
+        items[n++] = relativeOffset(start);
+        writeInt(request.getVersion());
+        items[n++] = relativeOffset(start);
+        writeInt(request.getType());
+        items[n++] = relativeOffset(start);
+        writeCachedString(request.getDbName().get());
+        items[n++] = relativeOffset(start);
+        writeInt(request.getRequestType().getType());
+        items[n++] = relativeOffset(start);
+        writeString(request.getRequest());
+        items[n++] = relativeOffset(start);
+        writeObject(request.getQueryParam());
+        items[n++] = relativeOffset(start);
+        writeObject(request.getHeaderParam());
+        closeCompound(start, items, n, false);
+        final byte[] head = Arrays.copyOf(buffer, position);
+        if (buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+            buffer = new byte[INITIAL_BUFFER_SIZE];
+        }
+        return new VPackSlice(head);
+    }
+
+    private int relativeOffset(final int start) {
+        return position - start - MAX_COMPOUND_HEAD;
+    }
+
+    private void writeObject(final Map<String, String> values) {
+        if (values.isEmpty()) {
+            ensureCapacity(1);
+            buffer[position++] = 0x0a;
+            return;
+        }
+        final int start = openCompound();
+        final int[] items = values.size() <= objectItems.length ? objectItems : new int[values.size()];
+        int n = 0;
+        for (final Entry<String, String> entry : values.entrySet()) {
+            items[n++] = relativeOffset(start);
+            writeCachedString(entry.getKey());
+            writeString(entry.getValue());
+        }
+        closeCompound(start, items, n, true);
+    }
+
+    private int openCompound() {
+        ensureCapacity(MAX_COMPOUND_HEAD);
+        final int start = position;
+        position += MAX_COMPOUND_HEAD;
+        return start;
+    }
+
+    /**
+     * Writes the head and the index table of the array or object starting at {@code start}, using the smallest
+     * offset width which fits, and moves the members behind the head.
+     */
+    private void closeCompound(final int start, final int[] items, final int n, final boolean object) {
+        final int contentLength = position - start - MAX_COMPOUND_HEAD;
+        final int width;
+        if (3 + contentLength + n <= 0xff) {
+            width = 1;
+        } else if (5 + contentLength + 2 * n <= 0xffff) {
+            width = 2;
+        } else {
+            width = 4;
+        }
+        final int headLength = 1 + 2 * width;
+        System.arraycopy(buffer, start + MAX_COMPOUND_HEAD, buffer, start + headLength, contentLength);
+        position = start + headLength + contentLength;
+        if (object) {
+            sortByKey(start + headLength, items, n);
+        }
+        final int byteLength = headLength + contentLength + width * n;
+        ensureCapacity(width * n);
+        for (int i = 0; i < n; i++) {
+            writeUnsigned(headLength + items[i], width);
+        }
+        final int base = object ? 0x0b : 0x06;
+        buffer[start] = (byte) (base + (width == 1 ? 0 : width == 2 ? 1 : 2));
+        final int end = position;
+        position = start + 1;
+        writeUnsigned(byteLength, width);
+        writeUnsigned(n, width);
+        position = end;
+    }
+
+    /**
+     * Insertion sort of the members by the UTF-8 bytes of their keys, as required for the index table of objects.
+     */
+    private void sortByKey(final int contentStart, final int[] items, final int n) {
+        for (int i = 1; i < n; i++) {
+            final int item = items[i];
+            int j = i - 1;
+            while (j >= 0 && compareKeys(contentStart + items[j], contentStart + item) > 0) {
+                items[j + 1] = items[j];
+                j--;
+            }
+            items[j + 1] = item;
+        }
+    }
+
+    private int compareKeys(final int a, final int b) {
+        final int lengthA = stringLength(a);
+        final int lengthB = stringLength(b);
+        final int startA = a + stringHeadLength(a);
+        final int startB = b + stringHeadLength(b);
+        final int length = Math.min(lengthA, lengthB);
+        for (int i = 0; i < length; i++) {
+            final int diff = (buffer[startA + i] & 0xff) - (buffer[startB + i] & 0xff);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return lengthA - lengthB;
+    }
+
+    private int stringHeadLength(final int offset) {
+        return (buffer[offset] & 0xff) == 0xbf ? 9 : 1;
+    }
+
+    private int stringLength(final int offset) {
+        final int head = buffer[offset] & 0xff;
+        if (head != 0xbf) {
+            return head - 0x40;
+        }
+        int length = 0;
+        for (int i = 4; i > 0; i--) {
+            length = (length << 8) | (buffer[offset + i] & 0xff);
+        }
+        return length;
+    }
+
+    private void writeInt(final int value) {
+        ensureCapacity(9);
+        if (value >= 0 && value <= 9) {
+            buffer[position++] = (byte) (0x30 + value);
+        } else if (value < 0 && value >= -6) {
+            buffer[position++] = (byte) (0x40 + value);
+        } else {
+            final int bytes = value < 0 ? 4 : value <= 0xff ? 1 : value <= 0xffff ? 2 : value <= 0xffffff ? 3 : 4;
+            buffer[position++] = (byte) ((value < 0 ? 0x1f : 0x27) + bytes);
+            writeUnsigned(value, bytes);
+        }
+    }
+
+    private void writeUnsigned(final long value, final int bytes) {
+        for (int i = 0; i < bytes; i++) {
+            buffer[position++] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    private void writeCachedString(final String value) {
+        byte[] encoded = STRING_CACHE.get(value);
+        if (encoded == null) {
+            encoded = encodeString(value);
+            if (STRING_CACHE.size() < MAX_CACHED_STRINGS) {
+                STRING_CACHE.putIfAbsent(value, encoded);
+            }
+        }
+        ensureCapacity(encoded.length);
+        System.arraycopy(encoded, 0, buffer, position, encoded.length);
+        position += encoded.length;
+    }
+
+    private void writeString(final String value) {
+        final int length = value.length();
+        ensureCapacity(9 + 3 * length);
+        if (length <= MAX_SHORT_STRING) {
+            // optimistic single pass for ASCII
+            final int head = position++;
+            int i = 0;
+            while (i < length) {
+                final char c = value.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                buffer[position++] = (byte) c;
+                i++;
+            }
+            if (i == length) {
+                buffer[head] = (byte) (0x40 + length);
+                return;
+            }
+            position = head;
+        }
+        final byte[] encoded = encodeString(value);
+        System.arraycopy(encoded, 0, buffer, position, encoded.length);
+        position += encoded.length;
+    }
+
+    private static byte[] encodeString(final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        final byte[] encoded;
+        if (bytes.length <= MAX_SHORT_STRING) {
+            encoded = new byte[1 + bytes.length];
+            encoded[0] = (byte) (0x40 + bytes.length);
+            System.arraycopy(bytes, 0, encoded, 1, bytes.length);
+        } else {
+            encoded = new byte[9 + bytes.length];
+            encoded[0] = (byte) 0xbf;
+            for (int i = 0; i < 8; i++) {
+                encoded[1 + i] = (byte) ((long) bytes.length >>> (8 * i));
+            }
+            System.arraycopy(bytes, 0, encoded, 9, bytes.length);
+        }
+        return encoded;
+    }
+
+    private void ensureCapacity(final int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Single selector thread multiplexing the I/O of many {@link VstNioChannel}s.
+ */
+final class VstEventLoop implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VstEventLoop.class);
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    VstEventLoop(final String name) throws IOException {
+        super();
+        selector = Selector.open();
+        thread = new Thread(this, name);
+        thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    void execute(final Runnable task) {
+        tasks.add(task);
+        if (!inEventLoop()) {
+            selector.wakeup();
+        }
+    }
+
+    void register(final VstNioChannel channel) {
+        execute(() -> {
+            try {
+                channel.registered(channel.channel().register(selector, SelectionKey.OP_READ, channel));
+            } catch (final ClosedChannelException e) {
+                channel.fail(e);
+            }
+        });
+    }
+
+    void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        LOGGER.debug("Start event loop {}", thread.getName());
+        while (running) {
+            try {
+                selector.select();
+                processSelectedKeys();
+                runTasks();
+            } catch (final Exception e) {
+                LOGGER.error("Unexpected exception in event loop " + thread.getName(), e);
+            }
+        }
+        closeAll();
+        LOGGER.debug("Stop event loop {}", thread.getName());
+    }
+
+    private void processSelectedKeys() {
+        final Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+        while (it.hasNext()) {
+            final SelectionKey key = it.next();
+            it.remove();
+            final VstNioChannel channel = (VstNioChannel) key.attachment();
+            try {
+                if (key.isValid() && key.isReadable()) {
+                    channel.read();
+                }
+                if (key.isValid() && key.isWritable()) {
+                    channel.flush();
+                }
+            } catch (final Exception e) {
+                channel.fail(e);
+            }
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (final Exception e) {
+                LOGGER.error("Unexpected exception in event loop task", e);
+            }
+        }
+    }
+
+    private void closeAll() {
+        runTasks();
+        for (final SelectionKey key : new ArrayList<>(selector.keys())) {
+            ((VstNioChannel) key.attachment()).fail(new IOException("The event loop has been shut down."));
+        }
+        try {
+            selector.close();
+        } catch (final IOException e) {
+            LOGGER.warn("Error while closing selector of event loop " + thread.getName(), e);
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import com.arangodb.ArangoDBException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared pool of selector threads serving all VST connections using {@link com.arangodb.VstTransport#NIO}, so that
+ * the number of I/O threads does not grow with the number of open connections.
+ */
+public class VstEventLoopGroup implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VstEventLoopGroup.class);
+    private static final AtomicInteger GROUP_COUNTER = new AtomicInteger();
+
+    private final VstEventLoop[] eventLoops;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    public VstEventLoopGroup(final int threads) {
+        super();
+        final int groupId = GROUP_COUNTER.incrementAndGet();
+        eventLoops = new VstEventLoop[Math.max(1, threads)];
+        try {
+            for (int i = 0; i < eventLoops.length; i++) {
+                eventLoops[i] = new VstEventLoop("arangodb-vst-" + groupId + "-eventloop-" + i);
+            }
+        } catch (final IOException e) {
+            for (final VstEventLoop eventLoop : eventLoops) {
+                if (eventLoop != null) {
+                    eventLoop.shutdown();
+                }
+            }
+            throw new ArangoDBException(e);
+        }
+        for (final VstEventLoop eventLoop : eventLoops) {
+            eventLoop.start();
+        }
+        LOGGER.debug("Started VST event loop group with {} threads", eventLoops.length);
+    }
+
+    VstEventLoop next() {
+        return eventLoops[Math.floorMod(next.getAndIncrement(), eventLoops.length)];
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            LOGGER.debug("Shutting down VST event loop group");
+            for (final VstEventLoop eventLoop : eventLoops) {
+                eventLoop.shutdown();
+            }
+        }
+    }
+
+}
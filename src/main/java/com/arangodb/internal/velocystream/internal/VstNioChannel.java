@@ -0,0 +1,270 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import com.arangodb.internal.ArangoDefaults;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-blocking VST socket bound to a {@link VstEventLoop}. Chunk headers and bodies are read incrementally as data
+ * becomes available, completed messages are dispatched to the {@link MessageStore} of the owning connection. All
+ * methods but {@link #write(OutgoingMessage)} and {@link #close()} are invoked by the event loop thread only.
+ */
+final class VstNioChannel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VstNioChannel.class);
+    private static final int MAX_BATCH_CHUNKS = 64;
+    private static final int MAX_BATCH_BYTES = 256 * 1024;
+
+    private final VstConnection<?> connection;
+    private final SocketChannel channel;
+    private final VstEventLoop eventLoop;
+    private final MessageStore messageStore;
+    private final ChunkStore chunkStore;
+
+    private final ChunkScheduler chunkScheduler = new ChunkScheduler();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private volatile SelectionKey key;
+
+    // write batch: chunk headers are encoded into windows of a single reusable buffer
+    private final ByteBuffer[] chunkHeads = new ByteBuffer[MAX_BATCH_CHUNKS];
+    private final ByteBuffer[] batch = new ByteBuffer[MAX_BATCH_CHUNKS * 3];
+    private int batchOffset;
+    private int batchLength;
+
+    private final ByteBuffer header = ByteBuffer.allocate(ArangoDefaults.CHUNK_MAX_HEADER_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    private Chunk chunk;
+    private ByteBuffer content;
+    private int contentLimit;
+
+    VstNioChannel(final VstConnection<?> connection, final SocketChannel channel, final VstEventLoop eventLoop,
+                  final MessageStore messageStore, final VstBufferPool bufferPool) {
+        super();
+        this.connection = connection;
+        this.channel = channel;
+        this.eventLoop = eventLoop;
+        this.messageStore = messageStore;
+        chunkStore = new ChunkStore(messageStore, bufferPool);
+        header.limit(ArangoDefaults.CHUNK_MIN_HEADER_SIZE);
+        final ByteBuffer chunkHeadBuffer = ByteBuffer.allocate(MAX_BATCH_CHUNKS * ArangoDefaults.CHUNK_MAX_HEADER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < MAX_BATCH_CHUNKS; i++) {
+            chunkHeadBuffer.limit((i + 1) * ArangoDefaults.CHUNK_MAX_HEADER_SIZE)
+                    .position(i * ArangoDefaults.CHUNK_MAX_HEADER_SIZE);
+            chunkHeads[i] = chunkHeadBuffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    SocketChannel channel() {
+        return channel;
+    }
+
+    void register() {
+        eventLoop.register(this);
+    }
+
+    void registered(final SelectionKey key) {
+        this.key = key;
+        if (chunkScheduler.hasInbound()) {
+            scheduleFlush();
+        }
+    }
+
+    boolean isOpen() {
+        return channel.isOpen() && channel.isConnected();
+    }
+
+    void write(final OutgoingMessage message) {
+        chunkScheduler.add(message);
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            eventLoop.execute(() -> {
+                flushScheduled.set(false);
+                try {
+                    flush();
+                } catch (final IOException e) {
+                    fail(e);
+                }
+            });
+        }
+    }
+
+    void flush() throws IOException {
+        if (key == null || !key.isValid()) {
+            return;
+        }
+        while (true) {
+            if (batchOffset == batchLength && !fillBatch()) {
+                break;
+            }
+            channel.write(batch, batchOffset, batchLength - batchOffset);
+            while (batchOffset < batchLength && !batch[batchOffset].hasRemaining()) {
+                batch[batchOffset++] = null;
+            }
+            if (batchOffset < batchLength) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                return;
+            }
+        }
+        if ((key.interestOps() & SelectionKey.OP_WRITE) != 0) {
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        }
+    }
+
+    /**
+     * Collects the next chunks chosen by the {@link ChunkScheduler} into the next write batch. The batch is limited in
+     * size, so that messages queued in the meantime are interleaved soon.
+     *
+     * @return whether the batch is not empty
+     */
+    private boolean fillBatch() {
+        batchOffset = 0;
+        batchLength = 0;
+        int chunks = 0;
+        int bytes = 0;
+        while (chunks < MAX_BATCH_CHUNKS && bytes < MAX_BATCH_BYTES) {
+            final OutgoingMessage current = chunkScheduler.next();
+            if (current == null) {
+                break;
+            }
+            final Chunk chunk = current.nextChunk();
+            bytes += chunk.getContentLength();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(String.format("[%s]: Send chunk %s:%s from message %s", connection.getConnectionName(),
+                        chunk.getChunk(), chunk.isFirstChunk() ? 1 : 0, chunk.getMessageId()));
+            }
+            final ByteBuffer chunkHead = chunkHeads[chunks++];
+            chunkHead.clear();
+            OutgoingMessage.encodeChunkHead(chunk, chunkHead);
+            chunkHead.flip();
+            batch[batchLength++] = chunkHead;
+            batchLength += current.wrapContent(chunk, batch, batchLength);
+        }
+        return batchLength > 0;
+    }
+
+    void read() throws IOException {
+        while (true) {
+            if (chunk == null) {
+                if (!fill(header)) {
+                    return;
+                }
+                if (!readChunkHeader()) {
+                    continue;
+                }
+            }
+            if (!fill(content)) {
+                return;
+            }
+            completeChunk();
+        }
+    }
+
+    /**
+     * @return whether the header is complete
+     */
+    private boolean readChunkHeader() {
+        final int chunkX = header.getInt(ArangoDefaults.INTEGER_BYTES);
+        final boolean withMessageLength = (1 == (chunkX & 0x1)) && ((chunkX >> 1) > 1);
+        if (withMessageLength && header.limit() < ArangoDefaults.CHUNK_MAX_HEADER_SIZE) {
+            header.limit(ArangoDefaults.CHUNK_MAX_HEADER_SIZE);
+            return false;
+        }
+        final int length = header.getInt(0);
+        final long messageId = header.getLong(ArangoDefaults.INTEGER_BYTES + ArangoDefaults.INTEGER_BYTES);
+        final long messageLength = withMessageLength ? header.getLong(ArangoDefaults.CHUNK_MIN_HEADER_SIZE) : -1L;
+        final int contentLength = length - header.limit();
+        chunk = new Chunk(messageId, chunkX, messageLength, 0, contentLength);
+        header.clear().limit(ArangoDefaults.CHUNK_MIN_HEADER_SIZE);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(String.format("[%s]: Received chunk %s:%s from message %s", connection.getConnectionName(),
+                    chunk.getChunk(), chunk.isFirstChunk() ? 1 : 0, chunk.getMessageId()));
+        }
+
+        final ByteBuffer chunkBuffer = chunkStore.storeChunk(chunk);
+        if (chunkBuffer != null) {
+            content = chunkBuffer;
+            contentLimit = chunkBuffer.limit();
+            content.limit(content.position() + contentLength);
+        } else {
+            // unknown message: discard the chunk content
+            content = ByteBuffer.allocate(contentLength);
+            contentLimit = -1;
+        }
+        return true;
+    }
+
+    private void completeChunk() {
+        final Chunk completed = chunk;
+        chunk = null;
+        if (contentLimit >= 0) {
+            content.limit(contentLimit);
+            content = null;
+            chunkStore.checkCompleteness(completed.getMessageId());
+        } else {
+            content = null;
+        }
+    }
+
+    /**
+     * @return whether the buffer has been filled up to its limit
+     */
+    private boolean fill(final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer);
+            if (read == -1) {
+                throw new IOException("Reached the end of the stream.");
+            } else if (read == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void fail(final Exception e) {
+        connection.closeOnChannelError(this, e);
+    }
+
+    void close() {
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            LOGGER.warn("[" + connection.getConnectionName() + "]: Error while closing channel", e);
+        }
+    }
+
+}
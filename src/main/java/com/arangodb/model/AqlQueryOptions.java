@@ -50,6 +50,10 @@ public class AqlQueryOptions implements Serializable {
     @Expose(serialize = false)
     private Boolean allowDirtyRead;
     private String streamTransactionId;
+    @Expose(serialize = false)
+    private Integer prefetchBatches;
+    @Expose(serialize = false)
+    private Long prefetchMemoryLimit;
 
     public AqlQueryOptions() {
         super();
@@ -480,4 +484,36 @@ public class AqlQueryOptions implements Serializable {
         return this;
     }
 
+    public Integer getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
+    /**
+     * @param prefetchBatches Number of batches the {@link com.arangodb.ArangoCursor} fetches ahead on a background
+     *                        thread while the current batch is consumed. Ignored within a stream transaction given
+     *                        with {@link #streamTransactionId(String)}, since the server rejects concurrent requests
+     *                        in the same transaction. The default value is 0, which fetches each batch once the
+     *                        previous one is consumed.
+     * @return options
+     */
+    public AqlQueryOptions prefetchBatches(final Integer prefetchBatches) {
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
+    public Long getPrefetchMemoryLimit() {
+        return prefetchMemoryLimit;
+    }
+
+    /**
+     * @param prefetchMemoryLimit Maximum total size in bytes of the batches fetched ahead and not yet consumed, see
+     *                            {@link #prefetchBatches(Integer)}. Fetching ahead pauses once it is reached. The default
+     *                            value is 0, which limits the batches fetched ahead by their number only.
+     * @return options
+     */
+    public AqlQueryOptions prefetchMemoryLimit(final Long prefetchMemoryLimit) {
+        this.prefetchMemoryLimit = prefetchMemoryLimit;
+        return this;
+    }
+
 }
@@ -0,0 +1,150 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.model;
+
+/**
+ * Options of a {@link com.arangodb.BulkWriter}. The options of the document operations must not set {@code silent},
+ * since the results are mapped back to the single operations by their position.
+ */
+public class BulkWriterOptions {
+
+    private Integer batchSize;
+    private Long batchBytes;
+    private Long lingerMillis;
+    private Integer maxConcurrentFlushes;
+    private DocumentCreateOptions insertOptions;
+    private DocumentReplaceOptions replaceOptions;
+    private DocumentUpdateOptions updateOptions;
+    private DocumentDeleteOptions deleteOptions;
+
+    public BulkWriterOptions() {
+        super();
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize number of documents after which a batch is sent (default: {@code 1000})
+     * @return options
+     */
+    public BulkWriterOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Long getBatchBytes() {
+        return batchBytes;
+    }
+
+    /**
+     * @param batchBytes size of the serialized documents after which a batch is sent, {@code 0} for no limit
+     *                   (default: {@code 0}). Measuring the size serializes each document one more time.
+     * @return options
+     */
+    public BulkWriterOptions batchBytes(final Long batchBytes) {
+        this.batchBytes = batchBytes;
+        return this;
+    }
+
+    public Long getLingerMillis() {
+        return lingerMillis;
+    }
+
+    /**
+     * @param lingerMillis time in milliseconds after which a batch is sent even if it is not full, {@code 0} to send
+     *                     batches only when they are full or on {@link com.arangodb.BulkWriter#flush()} (default:
+     *                     {@code 10})
+     * @return options
+     */
+    public BulkWriterOptions lingerMillis(final Long lingerMillis) {
+        this.lingerMillis = lingerMillis;
+        return this;
+    }
+
+    public Integer getMaxConcurrentFlushes() {
+        return maxConcurrentFlushes;
+    }
+
+    /**
+     * @param maxConcurrentFlushes number of batches sent in parallel, a producer filling a further batch blocks until
+     *                             it is sent (default: {@code 4}). Set to {@code 1} to apply the operations in the
+     *                             order they were added.
+     * @return options
+     */
+    public BulkWriterOptions maxConcurrentFlushes(final Integer maxConcurrentFlushes) {
+        this.maxConcurrentFlushes = maxConcurrentFlushes;
+        return this;
+    }
+
+    public DocumentCreateOptions getInsertOptions() {
+        return insertOptions;
+    }
+
+    /**
+     * @param insertOptions options of the inserts
+     * @return options
+     */
+    public BulkWriterOptions insertOptions(final DocumentCreateOptions insertOptions) {
+        this.insertOptions = insertOptions;
+        return this;
+    }
+
+    public DocumentReplaceOptions getReplaceOptions() {
+        return replaceOptions;
+    }
+
+    /**
+     * @param replaceOptions options of the replacements
+     * @return options
+     */
+    public BulkWriterOptions replaceOptions(final DocumentReplaceOptions replaceOptions) {
+        this.replaceOptions = replaceOptions;
+        return this;
+    }
+
+    public DocumentUpdateOptions getUpdateOptions() {
+        return updateOptions;
+    }
+
+    /**
+     * @param updateOptions options of the updates
+     * @return options
+     */
+    public BulkWriterOptions updateOptions(final DocumentUpdateOptions updateOptions) {
+        this.updateOptions = updateOptions;
+        return this;
+    }
+
+    public DocumentDeleteOptions getDeleteOptions() {
+        return deleteOptions;
+    }
+
+    /**
+     * @param deleteOptions options of the deletions
+     * @return options
+     */
+    public BulkWriterOptions deleteOptions(final DocumentDeleteOptions deleteOptions) {
+        this.deleteOptions = deleteOptions;
+        return this;
+    }
+
+}
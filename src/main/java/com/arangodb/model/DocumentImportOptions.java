@@ -20,6 +20,8 @@
 
 package com.arangodb.model;
 
+import com.arangodb.ImportProgressListener;
+
 /**
  * @author Mark Vollmary
  */
@@ -36,6 +38,11 @@ public class DocumentImportOptions {
     private OnDuplicate onDuplicate;
     private Boolean complete;
     private Boolean details;
+    private Integer chunkSize;
+    private Integer parallelism;
+    private Integer chunkBytes;
+    private Long offset;
+    private ImportProgressListener progressListener;
 
     public DocumentImportOptions() {
         super();
@@ -150,4 +157,77 @@ public class DocumentImportOptions {
         return this;
     }
 
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @param chunkSize Number of documents, or lines of JSON lines input, sent per request when importing from an
+     *                  {@code Iterator}, {@code Stream} or {@code InputStream} (default: {@code 10000}), see
+     *                  {@link #chunkBytes(Integer)} for files. Options like
+     *                  {@code complete} apply to each request on its own.
+     * @return options
+     */
+    public DocumentImportOptions chunkSize(final Integer chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism Number of requests sent in parallel when importing from an {@code Iterator}, {@code Stream},
+     *                    {@code InputStream} or file (default: {@code 1})
+     * @return options
+     */
+    public DocumentImportOptions parallelism(final Integer parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public Integer getChunkBytes() {
+        return chunkBytes;
+    }
+
+    /**
+     * @param chunkBytes Target size in bytes of the requests when importing a file, which is split after the first
+     *                   line break past it (default: {@code 8388608})
+     * @return options
+     */
+    public DocumentImportOptions chunkBytes(final Integer chunkBytes) {
+        this.chunkBytes = chunkBytes;
+        return this;
+    }
+
+    public Long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @param offset Byte offset in the file at which to start importing, e.g. to resume an interrupted import from
+     *               the offset last reported to the {@link #progressListener(ImportProgressListener) progress
+     *               listener} (default: {@code 0})
+     * @return options
+     */
+    public DocumentImportOptions offset(final Long offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    public ImportProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    /**
+     * @param progressListener Listener notified after each chunk when importing from an {@code Iterator},
+     *                         {@code Stream}, {@code InputStream} or file
+     * @return options
+     */
+    public DocumentImportOptions progressListener(final ImportProgressListener progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
 }
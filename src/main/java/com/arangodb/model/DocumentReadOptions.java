@@ -36,6 +36,10 @@ public class DocumentReadOptions {
     @Expose(serialize = false)
     private Boolean allowDirtyRead;
     private String streamTransactionId;
+    @Expose(serialize = false)
+    private Integer batchSize;
+    @Expose(serialize = false)
+    private Integer parallelism;
 
     public DocumentReadOptions() {
         super();
@@ -117,4 +121,34 @@ public class DocumentReadOptions {
         return this;
     }
 
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize Maximum number of keys requested at once by {@code getDocuments}. Larger key sets are split
+     *                  into batches of this size, requested {@link #parallelism(Integer)} at a time, and the results
+     *                  are put together in the order of the keys. Unset, all keys are requested at once.
+     * @return options
+     */
+    public DocumentReadOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism Maximum number of batches requested concurrently by {@code getDocuments} (default: 4).
+     *                    Batches within a {@link #streamTransactionId(String) stream transaction} are always requested
+     *                    one after the other.
+     * @return options
+     */
+    public DocumentReadOptions parallelism(final Integer parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
 }
@@ -24,6 +24,7 @@ import com.arangodb.DbName;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.annotations.Expose;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -41,6 +42,10 @@ public class Request {
     private final Map<String, String> headerParam;
     @Expose(serialize = false)
     private VPackSlice body;
+    @Expose(serialize = false)
+    private ByteBuffer rawBody;
+    @Expose(serialize = false)
+    private int priority = 1;
 
     /**
      * @deprecated Use {@link #Request(DbName, RequestType, String)} instead
@@ -129,4 +134,38 @@ public class Request {
         return this;
     }
 
+    public ByteBuffer getRawBody() {
+        return rawBody;
+    }
+
+    /**
+     * Sets a JSON body sent as is and uncompressed instead of {@link #getBody()}, e.g. straight from a memory-mapped
+     * file. Only supported by HTTP connections with a JSON content type, see
+     * {@link com.arangodb.internal.net.CommunicationProtocol#supportsRawBody()}.
+     *
+     * @param rawBody UTF-8 encoded JSON, between position and limit of the buffer
+     * @return request
+     */
+    public Request setRawBody(final ByteBuffer rawBody) {
+        this.rawBody = rawBody;
+        return this;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the scheduling weight of the request on a VST connection. The chunks of the requests sharing a connection
+     * are sent round-robin, a request with priority {@code n} gets {@code n} chunks per round, so that small or
+     * latency-sensitive requests are not stuck behind large uploads.
+     *
+     * @param priority chunks per round, at least 1 (default: 1)
+     * @return this
+     */
+    public Request setPriority(final int priority) {
+        this.priority = Math.max(1, priority);
+        return this;
+    }
+
 }
@@ -37,6 +37,8 @@ public class Response {
     private Map<String, String> meta;
     @Expose(deserialize = false)
     private VPackSlice body = null;
+    @Expose(serialize = false, deserialize = false)
+    private Runnable releaseCallback = null;
 
     public Response() {
         super();
@@ -83,4 +85,24 @@ public class Response {
         this.body = body;
     }
 
+    /**
+     * @param releaseCallback callback invoked by {@link #release()}, handing the buffer backing the body back to the
+     *                        driver
+     */
+    public void setReleaseCallback(final Runnable releaseCallback) {
+        this.releaseCallback = releaseCallback;
+    }
+
+    /**
+     * Declares that neither the body nor any slice of it will be accessed anymore, so that the buffer backing it can
+     * be reused by the driver.
+     */
+    public void release() {
+        final Runnable callback = releaseCallback;
+        releaseCallback = null;
+        if (callback != null) {
+            callback.run();
+        }
+    }
+
 }
@@ -33,6 +33,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -465,6 +470,18 @@ class ArangoCollectionTest extends BaseJunit5 {
         }
     }
 
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void getDocumentsInBatches(ArangoCollection collection) {
+        final List<String> keys = IntStream.range(0, 25).mapToObj(i -> rnd()).collect(Collectors.toList());
+        collection.insertDocuments(keys.subList(0, 20).stream().map(BaseDocument::new).collect(Collectors.toList()));
+        final MultiDocumentEntity<BaseDocument> documents = collection.getDocuments(keys, BaseDocument.class,
+                new DocumentReadOptions().batchSize(3).parallelism(2));
+        assertThat(documents.getDocuments()).extracting(BaseDocument::getKey).containsExactlyElementsOf(keys.subList(0, 20));
+        assertThat(documents.getErrors()).hasSize(5);
+        assertThat(documents.getDocumentsAndErrors()).hasSize(25);
+    }
+
     @ParameterizedTest(name = "{index}")
     @MethodSource("cols")
     void getDocumentsWithCustomShardingKey(ArangoCollection c) {
@@ -2099,6 +2116,51 @@ class ArangoCollectionTest extends BaseJunit5 {
         assertThat(docs.getDetails()).isEmpty();
     }
 
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void importDocumentsFromStreamInChunks(ArangoCollection collection) {
+        final DocumentImportEntity docs = collection.importDocuments(
+                IntStream.range(0, 25).mapToObj(i -> new BaseDocument()),
+                new DocumentImportOptions().chunkSize(10).parallelism(2));
+        assertThat(docs.getCreated()).isEqualTo(25);
+        assertThat(docs.getErrors()).isZero();
+        assertThat(docs.getDetails()).isEmpty();
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void importDocumentsFromJsonLines(ArangoCollection collection) {
+        final String key = rnd();
+        final String lines = "{\"_key\":\"" + key + "\"}\n\n{}\n{\"_key\":\"" + key + "\"}\n";
+        final DocumentImportEntity docs = collection.importDocuments(
+                new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)),
+                new DocumentImportOptions().chunkSize(2).details(true));
+        assertThat(docs.getCreated()).isEqualTo(2);
+        assertThat(docs.getErrors()).isEqualTo(1);
+        assertThat(docs.getDetails()).hasSize(1);
+    }
+
+    @ParameterizedTest(name = "{index}")
+    @MethodSource("cols")
+    void importDocumentsFromFile(ArangoCollection collection) throws IOException {
+        final String key = rnd();
+        final String lines = "{\"_key\":\"" + key + "\"}\n\n{}\n{\"_key\":\"" + key + "\"}\n{}";
+        final Path file = Files.createTempFile("import", ".jsonl");
+        try {
+            Files.write(file, lines.getBytes(StandardCharsets.UTF_8));
+            final List<Long> offsets = new ArrayList<>();
+            // resumes after the first line, which would otherwise conflict with the third
+            final DocumentImportEntity docs = collection.importDocuments(file, new DocumentImportOptions()
+                    .chunkBytes(16).offset(12L + key.length()).details(true)
+                    .progressListener((chunk, total, offset) -> offsets.add(offset)));
+            assertThat(docs.getCreated()).isEqualTo(3);
+            assertThat(docs.getErrors()).isZero();
+            assertThat(offsets).isNotEmpty().isSorted().endsWith(Files.size(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
     @ParameterizedTest(name = "{index}")
     @MethodSource("cols")
     void importDocumentsDuplicateDefaultError(ArangoCollection collection) {
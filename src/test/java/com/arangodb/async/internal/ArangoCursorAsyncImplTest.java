@@ -0,0 +1,163 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal;
+
+import com.arangodb.Protocol;
+import com.arangodb.async.ArangoCursorAsync;
+import com.arangodb.async.ArangoDBAsync;
+import com.arangodb.async.ArangoDatabaseAsync;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Iterates cursors served by a local HTTP server returning {@value #BATCHES} batches of two numbers each.
+ */
+class ArangoCursorAsyncImplTest {
+
+    private static final int BATCHES = 5;
+
+    private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+    private HttpServer server;
+    private ArangoDBAsync arangoDB;
+    private ArangoDatabaseAsync db;
+
+    private static String batch(final int n) {
+        return "{\"id\":\"42\",\"result\":[" + (2 * n - 1) + "," + 2 * n + "],\"hasMore\":" + (n < BATCHES)
+                + ",\"count\":" + 2 * BATCHES + ",\"cached\":false,\"error\":false,\"code\":"
+                + (n == 1 ? 201 : 200) + "}";
+    }
+
+    @BeforeEach
+    void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            final String method = exchange.getRequestMethod();
+            final String path = exchange.getRequestURI().getPath();
+            requests.add(method + " " + path);
+            final String json;
+            if ("DELETE".equals(method)) {
+                json = "{\"id\":\"42\",\"error\":false,\"code\":202}";
+            } else if (path.endsWith("/_api/cursor")) {
+                json = batch(1);
+            } else {
+                json = batch(Math.min(fetches().size() + 1, BATCHES));
+            }
+            final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        final ArangoDBAsync.Builder builder = new ArangoDBAsync.Builder() {
+            {
+                // ignores the hosts of the test properties
+                hosts.clear();
+            }
+        };
+        arangoDB = builder.host("127.0.0.1", server.getAddress().getPort()).acquireHostList(false)
+                .useProtocol(Protocol.HTTP_JSON).build();
+        db = arangoDB.db();
+    }
+
+    @AfterEach
+    void stop() {
+        arangoDB.shutdown();
+        server.stop(0);
+    }
+
+    private List<String> fetches() {
+        synchronized (requests) {
+            final List<String> fetches = new ArrayList<>();
+            for (final String request : requests) {
+                if (!request.startsWith("DELETE") && request.endsWith("/_api/cursor/42")) {
+                    fetches.add(request);
+                }
+            }
+            return fetches;
+        }
+    }
+
+    @Test
+    void nextBatchFetchesAhead() throws Exception {
+        final ArangoCursorAsync<Integer> cursor = db.query("FOR i IN 1..10 RETURN i", Integer.class).get();
+        // the second batch is requested before the first one is consumed
+        assertThat(cursor.nextBatch().get()).containsExactly(1, 2);
+        waitFor(1);
+        assertThat(cursor.nextBatch().get()).containsExactly(3, 4);
+        waitFor(2);
+        assertThat(fetches()).hasSize(2);
+    }
+
+    @Test
+    void forEachBatch() throws Exception {
+        final ArangoCursorAsync<Integer> cursor = db.query("FOR i IN 1..10 RETURN i", Integer.class).get();
+        final List<Integer> elements = new ArrayList<>();
+        cursor.forEachBatch(batch -> CompletableFuture.runAsync(() -> elements.addAll(batch))).get();
+        assertThat(elements).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        // each batch is fetched once, no fetch past the last one
+        assertThat(fetches()).hasSize(BATCHES - 1);
+        assertThat(cursor.nextBatch().get()).isEmpty();
+        assertThat(cursor.hasNext()).isFalse();
+    }
+
+    @Test
+    void iteratorUsesFetchedAheadBatches() throws Exception {
+        final ArangoCursorAsync<Integer> cursor = db.query("FOR i IN 1..10 RETURN i", Integer.class).get();
+        assertThat(cursor.next()).isEqualTo(1);
+        assertThat(cursor.nextBatch().get()).containsExactly(2);
+        assertThat(cursor.asListRemaining()).containsExactly(3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(fetches()).hasSize(BATCHES - 1);
+    }
+
+    @Test
+    void closeAsyncAfterFetchAhead() throws Exception {
+        final ArangoCursorAsync<Integer> cursor = db.query("FOR i IN 1..10 RETURN i", Integer.class).get();
+        assertThat(cursor.nextBatch().get()).containsExactly(1, 2);
+        cursor.closeAsync().get();
+        assertThat(requests).last().asString().startsWith("DELETE");
+        assertThat(fetches()).hasSize(1);
+    }
+
+    private void waitFor(final int fetches) throws InterruptedException {
+        for (int i = 0; i < 100 && fetches().size() < fetches; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(fetches()).hasSize(fetches);
+    }
+
+}
@@ -0,0 +1,230 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.BackpressurePolicy;
+import com.arangodb.DbName;
+import com.arangodb.internal.DocumentCache;
+import com.arangodb.internal.QueueTimeMetricsImpl;
+import com.arangodb.internal.net.HostHandle;
+import com.arangodb.internal.util.ArangoSerializationFactory;
+import com.arangodb.mapping.ArangoJack;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import com.arangodb.velocystream.Response;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class ArangoExecutorAsyncTest {
+
+    private static final Request REQUEST = new Request(DbName.SYSTEM, RequestType.GET, "/_api/version");
+
+    /**
+     * Completes every request from a thread named {@code io} with the given response or failure.
+     */
+    private static final class CompletingCommunication implements CommunicationProtocolAsync {
+        private final ExecutorService io = Executors.newSingleThreadExecutor(r -> new Thread(r, "io"));
+        private final Response response;
+        private final RuntimeException failure;
+        private final AtomicReference<String> sendingThread = new AtomicReference<>();
+
+        CompletingCommunication(final Response response, final RuntimeException failure) {
+            this.response = response;
+            this.failure = failure;
+        }
+
+        @Override
+        public CompletableFuture<Response> execute(final Request request, final HostHandle hostHandle) {
+            sendingThread.set(Thread.currentThread().getName());
+            final CompletableFuture<Response> future = new CompletableFuture<>();
+            io.execute(() -> {
+                // completes once the executor listens, like a response arriving later
+                while (future.getNumberOfDependents() == 0) {
+                    Thread.yield();
+                }
+                if (failure != null) {
+                    future.completeExceptionally(failure);
+                } else {
+                    future.complete(response);
+                }
+            });
+            return future;
+        }
+
+        @Override
+        public void setJwt(final String jwt) {
+        }
+
+        @Override
+        public void close() {
+            io.shutdown();
+        }
+    }
+
+    private static Response response(final int bodySize) {
+        final Response response = new Response();
+        response.setResponseCode(200);
+        final StringBuilder text = new StringBuilder();
+        while (text.length() < bodySize) {
+            text.append('x');
+        }
+        response.setBody(new ArangoJack().serialize(Collections.singletonMap("text", text.toString())));
+        return response;
+    }
+
+    private static ArangoExecutorAsync executor(final CommunicationProtocolAsync communication,
+                                                final AsyncExecutionOptions options) {
+        return new ArangoExecutorAsync(communication, new ArangoSerializationFactory(new ArangoJack(),
+                new ArangoJack()), new DocumentCache(), new QueueTimeMetricsImpl(10), 0, options);
+    }
+
+    private static String deserializingThread(final ArangoExecutorAsync executor) {
+        return executor.<String>execute(REQUEST, response -> Thread.currentThread().getName()).join();
+    }
+
+    @Test
+    void customExecutors() {
+        final ExecutorService outgoing = Executors.newSingleThreadExecutor(r -> new Thread(r, "outgoing"));
+        final ExecutorService incoming = Executors.newSingleThreadExecutor(r -> new Thread(r, "incoming"));
+        final CompletingCommunication communication = new CompletingCommunication(response(16), null);
+        final ArangoExecutorAsync executor = executor(communication,
+                new AsyncExecutionOptions(outgoing, incoming, 0, false));
+        try {
+            assertThat(deserializingThread(executor)).isEqualTo("incoming");
+            assertThat(communication.sendingThread.get()).isEqualTo("outgoing");
+        } finally {
+            executor.disconnect();
+        }
+        // executors passed in are left to their owner
+        assertThat(outgoing.isShutdown()).isFalse();
+        assertThat(incoming.isShutdown()).isFalse();
+        outgoing.shutdown();
+        incoming.shutdown();
+    }
+
+    @Test
+    void sendsFromCallingThread() {
+        final CompletingCommunication communication = new CompletingCommunication(response(16), null);
+        final ArangoExecutorAsync executor = executor(communication,
+                new AsyncExecutionOptions(Runnable::run, null, 0, false));
+        try {
+            deserializingThread(executor);
+            assertThat(communication.sendingThread.get()).isEqualTo(Thread.currentThread().getName());
+        } finally {
+            executor.disconnect();
+        }
+    }
+
+    @Test
+    void deserializesSmallResponsesInline() {
+        final ExecutorService incoming = Executors.newSingleThreadExecutor(r -> new Thread(r, "incoming"));
+        final VPackSlice body = response(16).getBody();
+        final ArangoExecutorAsync small = executor(new CompletingCommunication(response(16), null),
+                new AsyncExecutionOptions(null, incoming, body.getByteSize() + 1, false));
+        final ArangoExecutorAsync large = executor(new CompletingCommunication(response(1024), null),
+                new AsyncExecutionOptions(null, incoming, body.getByteSize() + 1, false));
+        try {
+            assertThat(deserializingThread(small)).isEqualTo("io");
+            assertThat(deserializingThread(large)).isEqualTo("incoming");
+        } finally {
+            small.disconnect();
+            large.disconnect();
+            incoming.shutdown();
+        }
+    }
+
+    @Test
+    void limitsRequestsInFlight() {
+        final List<CompletableFuture<Response>> pending = new ArrayList<>();
+        final CommunicationProtocolAsync communication = new CommunicationProtocolAsync() {
+            @Override
+            public synchronized CompletableFuture<Response> execute(final Request request,
+                                                                    final HostHandle hostHandle) {
+                final CompletableFuture<Response> future = new CompletableFuture<>();
+                pending.add(future);
+                return future;
+            }
+
+            @Override
+            public void setJwt(final String jwt) {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final ArangoExecutorAsync executor = executor(communication,
+                new AsyncExecutionOptions(Runnable::run, Runnable::run, 0, false, 1, 0L, BackpressurePolicy.FAIL));
+        try {
+            final CompletableFuture<String> first = executor.execute(REQUEST, response -> "first");
+            final CompletableFuture<String> second = executor.execute(REQUEST, response -> "second");
+            assertThat(catchThrowable(second::join)).hasCauseInstanceOf(ArangoDBException.class);
+            assertThat(executor.getInFlightMetrics().getRequests()).isEqualTo(1);
+            assertThat(executor.getInFlightMetrics().getRejectedRequests()).isEqualTo(1);
+
+            pending.get(0).complete(response(16));
+            assertThat(first.join()).isEqualTo("first");
+            assertThat(executor.getInFlightMetrics().getRequests()).isZero();
+            assertThat(executor.execute(REQUEST, response -> "third").isDone()).isFalse();
+            assertThat(pending).hasSize(2);
+        } finally {
+            executor.disconnect();
+        }
+    }
+
+    @Test
+    void failuresAreWrapped() {
+        final ArangoDBException failure = new ArangoDBException("failed");
+        final ArangoExecutorAsync executor = executor(new CompletingCommunication(null, failure),
+                AsyncExecutionOptions.defaults());
+        final ArangoExecutorAsync deserializing = executor(new CompletingCommunication(response(16), null),
+                AsyncExecutionOptions.defaults());
+        try {
+            final CompletableFuture<String> future = executor.execute(REQUEST, response -> "unreachable");
+            final Throwable thrown = catchThrowable(future::join);
+            assertThat(thrown).isInstanceOf(CompletionException.class).hasCause(failure);
+            assertThat(future.handle((v, e) -> e).join()).isInstanceOf(CompletionException.class);
+
+            final RuntimeException deserialization = new IllegalStateException("broken");
+            assertThatThrownBy(() -> deserializing.execute(REQUEST, response -> {
+                throw deserialization;
+            }).join()).isInstanceOf(CompletionException.class).hasCause(deserialization);
+        } finally {
+            executor.disconnect();
+            deserializing.disconnect();
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.BackpressurePolicy;
+import com.arangodb.internal.InFlightMetricsImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLimiterTest {
+
+    private final InFlightMetricsImpl metrics = new InFlightMetricsImpl();
+    private final List<String> admitted = new ArrayList<>();
+    private final List<String> rejected = new ArrayList<>();
+
+    private void acquire(final RequestLimiter limiter, final String name, final long size, final int priority) {
+        limiter.acquire(size, priority, () -> admitted.add(name), e -> {
+            assertThat(e).isInstanceOf(ArangoDBException.class);
+            rejected.add(name);
+        });
+    }
+
+    @Test
+    void unlimited() {
+        final RequestLimiter limiter = new RequestLimiter(0, 0L, BackpressurePolicy.FAIL, metrics);
+        for (int i = 0; i < 100; i++) {
+            acquire(limiter, "r" + i, 10, 1);
+        }
+        assertThat(admitted).hasSize(100);
+        assertThat(metrics.getRequests()).isEqualTo(100);
+        assertThat(metrics.getBytes()).isEqualTo(1000);
+        limiter.release(10);
+        assertThat(metrics.getRequests()).isEqualTo(99);
+    }
+
+    @Test
+    void waitAdmitsInOrderOnRelease() {
+        final RequestLimiter limiter = new RequestLimiter(2, 0L, BackpressurePolicy.WAIT, metrics);
+        acquire(limiter, "a", 1, 1);
+        acquire(limiter, "b", 1, 1);
+        acquire(limiter, "c", 1, 1);
+        acquire(limiter, "d", 1, 5);
+        assertThat(admitted).containsExactly("a", "b");
+        assertThat(metrics.getRequests()).isEqualTo(2);
+        assertThat(metrics.getQueuedRequests()).isEqualTo(2);
+
+        limiter.release(1);
+        assertThat(admitted).containsExactly("a", "b", "c");
+        limiter.release(1);
+        limiter.release(1);
+        assertThat(admitted).containsExactly("a", "b", "c", "d");
+        assertThat(metrics.getRequests()).isEqualTo(1);
+        assertThat(metrics.getQueuedRequests()).isZero();
+        assertThat(rejected).isEmpty();
+    }
+
+    @Test
+    void waitRejectsOnceQueueIsFull() {
+        final RequestLimiter limiter = new RequestLimiter(1, 0L, BackpressurePolicy.WAIT, metrics);
+        acquire(limiter, "a", 1, 1);
+        acquire(limiter, "b", 1, 1);
+        acquire(limiter, "c", 1, 1);
+        assertThat(admitted).containsExactly("a");
+        assertThat(rejected).containsExactly("c");
+        assertThat(metrics.getQueuedRequests()).isEqualTo(1);
+        assertThat(metrics.getRejectedRequests()).isEqualTo(1);
+
+        limiter.release(1);
+        acquire(limiter, "d", 1, 1);
+        assertThat(admitted).containsExactly("a", "b");
+        assertThat(rejected).containsExactly("c");
+    }
+
+    @Test
+    void failRejectsRightAway() {
+        final RequestLimiter limiter = new RequestLimiter(1, 0L, BackpressurePolicy.FAIL, metrics);
+        acquire(limiter, "a", 1, 1);
+        acquire(limiter, "b", 1, 1);
+        assertThat(admitted).containsExactly("a");
+        assertThat(rejected).containsExactly("b");
+        assertThat(metrics.getRejectedRequests()).isEqualTo(1);
+        assertThat(metrics.getQueuedRequests()).isZero();
+
+        limiter.release(1);
+        acquire(limiter, "c", 1, 1);
+        assertThat(admitted).containsExactly("a", "c");
+    }
+
+    @Test
+    void shedLowestPriority() {
+        final RequestLimiter limiter = new RequestLimiter(2, 0L, BackpressurePolicy.SHED_LOWEST_PRIORITY, metrics);
+        acquire(limiter, "a", 1, 1);
+        acquire(limiter, "b", 1, 1);
+        acquire(limiter, "low", 1, 1);
+        acquire(limiter, "mid", 1, 2);
+        // queue holds two requests: the lowest priority one is shed
+        acquire(limiter, "high", 1, 3);
+        assertThat(rejected).containsExactly("low");
+        // equal priority: the newest request is shed
+        acquire(limiter, "mid2", 1, 2);
+        assertThat(rejected).containsExactly("low", "mid2");
+
+        limiter.release(1);
+        limiter.release(1);
+        assertThat(admitted).containsExactly("a", "b", "high", "mid");
+        assertThat(metrics.getRejectedRequests()).isEqualTo(2);
+        assertThat(metrics.getQueuedRequests()).isZero();
+    }
+
+    @Test
+    void bytesLimit() {
+        final RequestLimiter limiter = new RequestLimiter(0, 100L, BackpressurePolicy.WAIT, metrics);
+        acquire(limiter, "a", 60, 1);
+        acquire(limiter, "b", 60, 1);
+        assertThat(admitted).containsExactly("a");
+        assertThat(metrics.getBytes()).isEqualTo(60);
+
+        limiter.release(60);
+        assertThat(admitted).containsExactly("a", "b");
+        limiter.release(60);
+
+        // larger than the limit: sent once nothing else is in flight
+        acquire(limiter, "small", 10, 1);
+        acquire(limiter, "huge", 1000, 1);
+        assertThat(admitted).containsExactly("a", "b", "small");
+        limiter.release(10);
+        assertThat(admitted).containsExactly("a", "b", "small", "huge");
+        assertThat(metrics.getBytes()).isEqualTo(1000);
+    }
+
+}
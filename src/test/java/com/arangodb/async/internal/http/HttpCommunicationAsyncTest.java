@@ -0,0 +1,168 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal.http;
+
+import com.arangodb.DbName;
+import com.arangodb.Protocol;
+import com.arangodb.internal.http.HttpCompression;
+import com.arangodb.internal.net.ConnectionPoolImpl;
+import com.arangodb.internal.net.FallbackHostHandler;
+import com.arangodb.internal.net.Host;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.net.HostImpl;
+import com.arangodb.internal.net.SimpleHostResolver;
+import com.arangodb.mapping.ArangoJack;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import com.arangodb.velocystream.Response;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs non-blocking HTTP requests against local HTTP/1.1 servers answering like {@code /_api/version}.
+ */
+class HttpCommunicationAsyncTest {
+
+    private static final byte[] VERSION_JSON = "{\"server\":\"arango\",\"version\":\"3.10.0\",\"license\":\"community\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final Set<SocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private final AtomicInteger redirects = new AtomicInteger();
+    private HttpServer server;
+    private HttpServer redirector;
+
+    @BeforeEach
+    void startServers() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            clientAddresses.add(exchange.getRemoteAddress());
+            maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrentRequests.decrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, VERSION_JSON.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(VERSION_JSON);
+            }
+        });
+        server.start();
+
+        redirector = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        redirector.createContext("/", exchange -> {
+            redirects.incrementAndGet();
+            exchange.getResponseHeaders().add("X-Arango-Endpoint", "tcp://127.0.0.1:" + server.getAddress().getPort());
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        redirector.start();
+    }
+
+    @AfterEach
+    void stopServers() {
+        server.stop(0);
+        redirector.stop(0);
+    }
+
+    private static HttpCommunicationAsync communication(final int maxConnections, final int... ports) {
+        final HttpConnectionFactoryAsync factory = new HttpConnectionFactoryAsync(10000, "root", "", false, null, null,
+                new ArangoJack(), Protocol.HTTP_JSON, null, maxConnections, 1, HttpCompression.none());
+        final List<Host> hosts = new ArrayList<>();
+        for (final int port : ports) {
+            final HostDescription description = new HostDescription("127.0.0.1", port);
+            hosts.add(new HostImpl(new ConnectionPoolImpl(description, 1, factory), description));
+        }
+        return new HttpCommunicationAsync.Builder(new FallbackHostHandler(new SimpleHostResolver(hosts)),
+                new ConcurrentHashMap<>()).build();
+    }
+
+    private static CompletableFuture<String> getVersion(final HttpCommunicationAsync communication) {
+        return communication.execute(new Request(DbName.SYSTEM, RequestType.GET, "/_api/version"), null)
+                .thenApply(Response::getBody)
+                .thenApply(body -> body.get("version").getAsString());
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Test
+    void concurrentRequestsShareSocketPool() throws IOException {
+        try (HttpCommunicationAsync communication = communication(4, server.getAddress().getPort())) {
+            final List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(getVersion(communication));
+            }
+            // requests are queued for a socket without parking the calling thread
+            assertThat(futures).anyMatch(future -> !future.isDone());
+            for (final CompletableFuture<String> future : futures) {
+                assertThat(future.join()).isEqualTo("3.10.0");
+            }
+        }
+        assertThat(maxConcurrentRequests.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+        assertThat(clientAddresses).hasSizeBetween(2, 4);
+    }
+
+    @Test
+    void failoverToNextHost() throws IOException {
+        try (HttpCommunicationAsync communication = communication(1, unusedPort(), server.getAddress().getPort())) {
+            assertThat(getVersion(communication).join()).isEqualTo("3.10.0");
+            assertThat(getVersion(communication).join()).isEqualTo("3.10.0");
+        }
+        assertThat(clientAddresses).hasSize(1);
+    }
+
+    @Test
+    void followRedirect() throws IOException {
+        try (HttpCommunicationAsync communication = communication(1, redirector.getAddress().getPort(),
+                server.getAddress().getPort())) {
+            assertThat(getVersion(communication).join()).isEqualTo("3.10.0");
+        }
+        assertThat(redirects.get()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,40 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.async.internal.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompletableFutureUtilsTest {
+
+    @Test
+    void runsDependentStagesOffTheTimerThread() throws Exception {
+        final CompletableFuture<String> thread = CompletableFutureUtils
+                .orTimeout(new CompletableFuture<String>(), 10, TimeUnit.MILLISECONDS)
+                .handle((v, e) -> e instanceof TimeoutException ? Thread.currentThread().getName() : null);
+        assertThat(thread.get(5, TimeUnit.SECONDS)).isNotNull().isNotEqualTo("arangodb-timer");
+    }
+
+}
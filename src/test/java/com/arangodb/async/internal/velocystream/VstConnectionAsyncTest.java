@@ -0,0 +1,125 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal.velocystream;
+
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.velocystream.internal.Chunk;
+import com.arangodb.internal.velocystream.internal.LocalVstServer;
+import com.arangodb.internal.velocystream.internal.Message;
+import com.arangodb.internal.velocystream.internal.MessageStore;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs asynchronous VST connections on blocking sockets against a local VST server.
+ */
+class VstConnectionAsyncTest {
+
+    private static final VPackSlice HEAD = new VPackBuilder().add(ValueType.ARRAY).add(1).add(1).add("_system").add(1)
+            .add("/_api/version").add(ValueType.OBJECT).close().add(ValueType.OBJECT).close().close().slice();
+
+    private final AtomicLong ids = new AtomicLong();
+    private final ExecutorService executor = Executors.newFixedThreadPool(32);
+    private LocalVstServer server;
+    private VstConnectionAsync connection;
+
+    @BeforeEach
+    void open() throws IOException {
+        server = new LocalVstServer();
+        connection = new VstConnectionAsync.Builder().host(new HostDescription("127.0.0.1", server.getPort()))
+                .messageStore(new MessageStore()).timeout(30000).build();
+        connection.open();
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        executor.shutdownNow();
+        connection.close();
+        server.close();
+    }
+
+    private CompletableFuture<Message> write(final VPackSlice body) {
+        final Message message = new Message(ids.incrementAndGet(), HEAD, body);
+        final int size = HEAD.getByteSize() + (body != null ? body.getByteSize() : 0);
+        return connection.write(message, Collections.singleton(new Chunk(message.getId(), 0, 1, -1L, 0, size)));
+    }
+
+    @Test
+    void concurrentWriters() {
+        final List<CompletableFuture<Message>> responses = Collections.synchronizedList(new ArrayList<>());
+        final List<CompletableFuture<?>> writers = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            writers.add(CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < 100; j++) {
+                    responses.add(write(null));
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(writers.toArray(new CompletableFuture[0])).join();
+        assertThat(responses).hasSize(3200);
+        for (final CompletableFuture<Message> response : responses) {
+            assertThat(response).succeedsWithin(Duration.ofSeconds(10));
+        }
+    }
+
+    @Test
+    void writeDoesNotWaitForTheWritingThread() throws InterruptedException {
+        final CountDownLatch resume = server.pauseReading();
+        // more than the socket buffers take, so that the writing thread blocks until the server reads again
+        final VPackSlice body = new VPackBuilder().add(new String(new char[16 * 1024 * 1024]).replace('\0', 'x'))
+                .slice();
+        final CompletableFuture<CompletableFuture<Message>> large;
+        final CompletableFuture<CompletableFuture<Message>> small;
+        try {
+            large = CompletableFuture.supplyAsync(() -> write(body), executor);
+            while (connection.getInFlightRequests() == 0) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(200);
+            assertThat(large).isNotDone();
+
+            small = CompletableFuture.supplyAsync(() -> write(null), executor);
+            assertThat(small).succeedsWithin(Duration.ofSeconds(5));
+        } finally {
+            resume.countDown();
+        }
+        assertThat(large.join()).succeedsWithin(Duration.ofSeconds(10));
+        assertThat(small.join()).succeedsWithin(Duration.ofSeconds(10));
+    }
+
+}
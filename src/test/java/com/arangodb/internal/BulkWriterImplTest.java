@@ -0,0 +1,217 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoDBException;
+import com.arangodb.BulkWriter;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentDeleteEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.internal.velocypack.VPackDriverModule;
+import com.arangodb.model.BulkWriterOptions;
+import com.arangodb.velocypack.VPack;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkWriterImplTest {
+
+    private static final VPack VPACK = new VPack.Builder().registerModule(new VPackDriverModule()).build();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    /**
+     * Collection answering the multiple document operations with the keys of the documents, failing for documents
+     * starting with {@code "bad"}.
+     */
+    private static final class FakeCollection {
+        private final List<String> batches = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger flushing = new AtomicInteger();
+        private final AtomicInteger maxFlushing = new AtomicInteger();
+        private volatile CountDownLatch blocked = new CountDownLatch(0);
+
+        ArangoCollection collection() {
+            return (ArangoCollection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{ArangoCollection.class}, (proxy, method, args) -> {
+                        maxFlushing.accumulateAndGet(flushing.incrementAndGet(), Math::max);
+                        try {
+                            blocked.await();
+                            final Collection<?> values = (Collection<?>) args[0];
+                            batches.add(method.getName() + values.size());
+                            final MultiDocumentEntity<Object> result = new MultiDocumentEntity<>();
+                            result.setDocumentsAndErrors(values.stream().map(value -> value.toString().startsWith("bad")
+                                    ? error() : document(value.toString(), method.getName().equals("deleteDocuments")
+                                    ? DocumentDeleteEntity.class : DocumentCreateEntity.class))
+                                    .collect(Collectors.toList()));
+                            return result;
+                        } finally {
+                            flushing.decrementAndGet();
+                        }
+                    });
+        }
+
+        private static Object document(final String key, final Class<?> type) {
+            return VPACK.deserialize(new VPackBuilder().add(ValueType.OBJECT).add("_key", key).close().slice(), type);
+        }
+
+        private static ErrorEntity error() {
+            return VPACK.deserialize(new VPackBuilder().add(ValueType.OBJECT).add("errorMessage", "conflict")
+                    .add("errorNum", 1210).add("code", 409).close().slice(), ErrorEntity.class);
+        }
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private BulkWriter<String> writer(final FakeCollection fake, final BulkWriterOptions options) {
+        return new BulkWriterImpl<>(fake.collection(), String.class, options, executor, value -> 10L);
+    }
+
+    @Test
+    void sendsFullBatches() {
+        final FakeCollection fake = new FakeCollection();
+        final List<CompletableFuture<DocumentCreateEntity<String>>> results = new ArrayList<>();
+        try (BulkWriter<String> writer = writer(fake, new BulkWriterOptions().batchSize(10).lingerMillis(0L))) {
+            for (int i = 0; i < 25; i++) {
+                results.add(writer.insert("doc" + i));
+            }
+        }
+        assertThat(fake.batches).containsExactlyInAnyOrder("insertDocuments10", "insertDocuments10", "insertDocuments5");
+        assertThat(results.stream().map(it -> it.join().getKey()).collect(Collectors.toList()))
+                .isEqualTo(IntStream.range(0, 25).mapToObj(i -> "doc" + i).collect(Collectors.toList()));
+    }
+
+    @Test
+    void mapsErrorsToTheirOperation() {
+        final FakeCollection fake = new FakeCollection();
+        try (BulkWriter<String> writer = writer(fake, new BulkWriterOptions())) {
+            final CompletableFuture<DocumentCreateEntity<String>> good = writer.insert("good");
+            final CompletableFuture<DocumentCreateEntity<String>> bad = writer.insert("bad");
+            writer.flush();
+            assertThat(good.join().getKey()).isEqualTo("good");
+            assertThatThrownBy(bad::join).hasCauseInstanceOf(ArangoDBException.class)
+                    .hasMessageContaining("conflict");
+        }
+    }
+
+    @Test
+    void sendsPartialBatchAfterLinger() throws Exception {
+        final FakeCollection fake = new FakeCollection();
+        try (BulkWriter<String> writer = writer(fake, new BulkWriterOptions().lingerMillis(20L))) {
+            final CompletableFuture<DocumentCreateEntity<String>> result = writer.insert("doc");
+            writer.insert("other");
+            assertThat(result.get(5, TimeUnit.SECONDS).getKey()).isEqualTo("doc");
+            assertThat(fake.batches).containsExactly("insertDocuments2");
+        }
+    }
+
+    @Test
+    void newBatchPerOperationAndBytes() {
+        final FakeCollection fake = new FakeCollection();
+        final BulkWriterOptions options = new BulkWriterOptions().batchBytes(25L).lingerMillis(0L)
+                .maxConcurrentFlushes(1);
+        try (BulkWriter<String> writer = writer(fake, options)) {
+            writer.insert("a");
+            writer.insert("b");
+            writer.insert("c");
+            final CompletableFuture<DocumentDeleteEntity<String>> deleted = writer.delete("a");
+            writer.insert("d");
+            writer.flush();
+            assertThat(deleted.join().getKey()).isEqualTo("a");
+        }
+        assertThat(fake.batches).containsExactly("insertDocuments2", "insertDocuments1", "deleteDocuments1",
+                "insertDocuments1");
+    }
+
+    @Test
+    void blocksProducersBeyondConcurrentFlushes() throws InterruptedException {
+        final FakeCollection fake = new FakeCollection();
+        fake.blocked = new CountDownLatch(1);
+        final BulkWriter<String> writer = writer(fake, new BulkWriterOptions().batchSize(1).maxConcurrentFlushes(2));
+        writer.insert("a");
+        writer.insert("b");
+        final Thread producer = new Thread(() -> writer.insert("c"));
+        producer.start();
+        for (int i = 0; i < 200 && producer.getState() != Thread.State.WAITING; i++) {
+            Thread.sleep(5);
+        }
+        assertThat(producer.getState()).isEqualTo(Thread.State.WAITING);
+
+        fake.blocked.countDown();
+        producer.join(5000);
+        assertThat(producer.isAlive()).isFalse();
+        writer.close();
+        assertThat(fake.batches).hasSize(3);
+        assertThat(fake.maxFlushing).hasValue(2);
+        assertThatThrownBy(() -> writer.insert("d")).isInstanceOf(ArangoDBException.class);
+    }
+
+    @Test
+    @Timeout(10)
+    void callbacksAddToTheWriter() throws Exception {
+        final FakeCollection fake = new FakeCollection();
+        final CompletableFuture<String> last = new CompletableFuture<>();
+        try (BulkWriter<String> writer = writer(fake, new BulkWriterOptions().batchSize(1).lingerMillis(0L)
+                .maxConcurrentFlushes(1))) {
+            chain(writer, 0, last);
+            assertThat(last.get(5, TimeUnit.SECONDS)).isEqualTo("doc9");
+        }
+        assertThat(fake.batches).hasSize(10);
+    }
+
+    /**
+     * Inserts the next document from the callback of the previous one, which fills a batch on the flushing thread.
+     */
+    private static void chain(final BulkWriter<String> writer, final int i, final CompletableFuture<String> last) {
+        writer.insert("doc" + i).whenComplete((doc, e) -> {
+            if (e != null) {
+                last.completeExceptionally(e);
+            } else if (i == 9) {
+                last.complete(doc.getKey());
+            } else {
+                chain(writer, i + 1, last);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.DocumentImportEntity;
+import com.arangodb.model.DocumentImportOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChunkedImportTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static DocumentImportEntity created(final List<?> chunk) {
+        final DocumentImportEntity result = new DocumentImportEntity();
+        result.setCreated(chunk.size() - 1);
+        result.setErrors(1);
+        result.setDetails(Collections.singletonList("error in " + chunk.get(0)));
+        return result;
+    }
+
+    @Test
+    void sumsUpChunks() {
+        final Iterator<List<Integer>> chunks = ChunkedImport.chunks(IntStream.range(0, 10).iterator(), 3);
+        final DocumentImportEntity result = ChunkedImport.run(chunks, List::size, 0L, ChunkedImportTest::created, executor,
+                new DocumentImportOptions().parallelism(2));
+        assertThat(result.getCreated()).isEqualTo(6);
+        assertThat(result.getErrors()).isEqualTo(4);
+        assertThat(result.getEmpty()).isZero();
+        assertThat(result.getDetails()).containsExactly("error in 0", "error in 3", "error in 6", "error in 9");
+    }
+
+    @Test
+    void sendsChunksInParallel() {
+        final AtomicInteger sending = new AtomicInteger();
+        final AtomicInteger maxSending = new AtomicInteger();
+        ChunkedImport.run(ChunkedImport.chunks(IntStream.range(0, 100).iterator(), 10), List::size, 0L, chunk -> {
+            maxSending.accumulateAndGet(sending.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sending.decrementAndGet();
+            return created(chunk);
+        }, executor, new DocumentImportOptions().parallelism(3));
+        assertThat(maxSending.get()).isBetween(2, 3);
+    }
+
+    @Test
+    void stopsReadingOnFailure() {
+        final List<Integer> sent = Collections.synchronizedList(new ArrayList<>());
+        assertThatThrownBy(() -> ChunkedImport.run(ChunkedImport.chunks(IntStream.range(0, 10).iterator(), 1),
+                List::size, 0L, chunk -> {
+                    sent.add(chunk.get(0));
+                    if (chunk.get(0) == 1) {
+                        throw new ArangoDBException("failed");
+                    }
+                    return created(chunk);
+                }, executor, new DocumentImportOptions())).isInstanceOf(ArangoDBException.class).hasMessageContaining("failed");
+        assertThat(sent).containsExactly(0, 1);
+    }
+
+    @Test
+    void skipsBlankLines() {
+        final String json = "{\"a\":1}\n\n{\"a\":2}\r\n  \n{\"a\":3}";
+        final Iterator<String> lines = ChunkedImport.lines(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        final List<List<String>> chunks = new ArrayList<>();
+        ChunkedImport.chunks(lines, 2).forEachRemaining(chunks::add);
+        assertThat(chunks).containsExactly(Arrays.asList("{\"a\":1}", "{\"a\":2}"), Collections.singletonList("{\"a\":3}"));
+    }
+
+    @Test
+    void reportsProgressInChunkOrder() {
+        final List<Long> offsets = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> totals = Collections.synchronizedList(new ArrayList<>());
+        final DocumentImportOptions options = new DocumentImportOptions().parallelism(4)
+                .progressListener((chunk, total, offset) -> {
+                    offsets.add(offset);
+                    totals.add(total.getCreated());
+                });
+        ChunkedImport.run(ChunkedImport.chunks(IntStream.range(0, 10).iterator(), 3), List::size, 100L, chunk -> {
+            try {
+                // later chunks complete first
+                Thread.sleep(40 - chunk.get(0) * 4L);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return created(chunk);
+        }, executor, options);
+        assertThat(offsets).containsExactly(103L, 106L, 109L, 110L);
+        assertThat(totals).containsExactly(2, 4, 6, 6);
+    }
+
+    @Test
+    void splitsFileOnLineBreaks(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("docs.jsonl");
+        final String json = "{\"a\":1}\n{\"a\":22}\n\n{\"a\":333}\n{\"a\":4}";
+        Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+        final List<String> chunks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ChunkedImport.fileChunks(channel, 8, 10)
+                    .forEachRemaining(chunk -> chunks.add(StandardCharsets.UTF_8.decode(chunk).toString()));
+        }
+        assertThat(chunks).containsExactly("{\"a\":22}\n\n", "{\"a\":333}\n", "{\"a\":4}");
+        assertThat(ChunkedImport.lines(ByteBuffer.wrap("{\"a\":22}\n\n".getBytes(StandardCharsets.UTF_8))))
+                .containsExactly("{\"a\":22}");
+    }
+
+}
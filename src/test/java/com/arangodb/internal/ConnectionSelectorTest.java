@@ -0,0 +1,119 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.internal.net.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionSelectorTest {
+
+    private static final class TestConnection implements Connection {
+        private int inFlight;
+
+        TestConnection(final int inFlight) {
+            this.inFlight = inFlight;
+        }
+
+        @Override
+        public void setJwt(final String jwt) {
+        }
+
+        @Override
+        public int getInFlightRequests() {
+            return inFlight;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static Connection[] connections(final int... inFlight) {
+        final Connection[] connections = new Connection[inFlight.length];
+        for (int i = 0; i < inFlight.length; i++) {
+            connections[i] = new TestConnection(inFlight[i]);
+        }
+        return connections;
+    }
+
+    @Test
+    void roundRobinUsesConnectionsInTurn() {
+        final Connection[] connections = connections(5, 0, 3);
+        final ConnectionSelector selector = new RoundRobinConnectionSelector();
+        assertThat(selector.select(connections)).isSameAs(connections[0]);
+        assertThat(selector.select(connections)).isSameAs(connections[1]);
+        assertThat(selector.select(connections)).isSameAs(connections[2]);
+        assertThat(selector.select(connections)).isSameAs(connections[0]);
+    }
+
+    @Test
+    void leastInFlightPicksIdlestConnection() {
+        final Connection[] connections = connections(5, 1, 3, 2);
+        final ConnectionSelector selector = new LeastInFlightConnectionSelector();
+        for (int i = 0; i < 8; i++) {
+            assertThat(selector.select(connections)).isSameAs(connections[1]);
+        }
+    }
+
+    @Test
+    void leastInFlightSpreadsOverIdleConnections() {
+        final Connection[] connections = connections(0, 0, 0);
+        final ConnectionSelector selector = new LeastInFlightConnectionSelector();
+        final Set<Connection> selected = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            selected.add(selector.select(connections));
+        }
+        assertThat(selected).hasSize(3);
+    }
+
+    @Test
+    void powerOfTwoChoicesNeverPicksBusiestConnection() {
+        final Connection[] connections = connections(9, 0, 1, 2);
+        final ConnectionSelector selector = new PowerOfTwoChoicesConnectionSelector();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(selector.select(connections)).isNotSameAs(connections[0]);
+        }
+        assertThat(selector.select(connections(7))).isNotNull();
+    }
+
+    @Test
+    void poolGrowsUntilFullThenSelects() {
+        final AtomicInteger created = new AtomicInteger();
+        final ConnectionPool pool = new ConnectionPoolImpl(new HostDescription("127.0.0.1", 8529), 3,
+                host -> {
+                    created.incrementAndGet();
+                    return new TestConnection(0);
+                }, new LeastInFlightConnectionSelector());
+        final Set<Connection> selected = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            selected.add(pool.connection());
+        }
+        assertThat(created.get()).isEqualTo(3);
+        assertThat(selected).hasSize(3);
+    }
+
+}
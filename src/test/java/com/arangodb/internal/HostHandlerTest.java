@@ -27,6 +27,13 @@ import com.arangodb.util.ArangoSerialization;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -188,4 +195,41 @@ class HostHandlerTest {
         assertThat(pick4).isEqualTo(pick0);
     }
 
+    @Test
+    void roundRobinHostHandlerConcurrentGet() throws InterruptedException {
+        final HostHandler handler = new RoundRobinHostHandler(MULTIPLE_HOSTS);
+        final Map<Host, AtomicInteger> picks = new ConcurrentHashMap<>();
+        final ExecutorService es = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            es.execute(() -> {
+                for (int i = 0; i < 3_000; i++) {
+                    picks.computeIfAbsent(handler.get(null, null), h -> new AtomicInteger()).incrementAndGet();
+                    handler.success();
+                }
+            });
+        }
+        es.shutdown();
+        assertThat(es.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        assertThat(picks).containsOnlyKeys(HOST_0, HOST_1, HOST_2);
+        for (final AtomicInteger count : picks.values()) {
+            assertThat(count.get()).isEqualTo(8_000);
+        }
+    }
+
+    @Test
+    void dirtyReadHostHandlerResolvesHandlerOfAccessType() {
+        final HostHandler master = new FallbackHostHandler(MULTIPLE_HOSTS);
+        final HostHandler follower = new FallbackHostHandler(MULTIPLE_HOSTS);
+        final HostHandler handler = new DirtyReadHostHandler(master, follower);
+        assertThat(handler.resolve(AccessType.DIRTY_READ)).isSameAs(follower);
+        assertThat(handler.resolve(AccessType.WRITE)).isSameAs(master);
+
+        // a failure reported on another thread than the request started on still reaches the follower
+        final HostHandler resolved = handler.resolve(AccessType.DIRTY_READ);
+        assertThat(resolved.get(null, AccessType.DIRTY_READ)).isEqualTo(HOST_0);
+        CompletableFuture.runAsync(() -> resolved.fail(new RuntimeException())).join();
+        assertThat(follower.get(null, AccessType.DIRTY_READ)).isEqualTo(HOST_1);
+        assertThat(master.get(null, AccessType.WRITE)).isEqualTo(HOST_0);
+    }
+
 }
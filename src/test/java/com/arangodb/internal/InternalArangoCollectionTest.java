@@ -0,0 +1,95 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal;
+
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.model.DocumentReadOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternalArangoCollectionTest {
+
+    private static MultiDocumentEntity<String> batch(final boolean potentialDirtyRead, final Object... values) {
+        final MultiDocumentEntity<String> batch = new MultiDocumentEntity<>();
+        final Collection<String> docs = new ArrayList<>();
+        final Collection<ErrorEntity> errors = new ArrayList<>();
+        for (final Object value : values) {
+            if (value instanceof ErrorEntity) {
+                errors.add((ErrorEntity) value);
+            } else {
+                docs.add((String) value);
+            }
+        }
+        batch.setDocuments(docs);
+        batch.setErrors(errors);
+        batch.setDocumentsAndErrors(Arrays.asList(values));
+        batch.setPotentialDirtyRead(potentialDirtyRead);
+        return batch;
+    }
+
+    @Test
+    void keepsKeysInOneBatchWithoutBatchSize() {
+        final List<String> keys = Arrays.asList("a", "b", "c");
+        assertThat(InternalArangoCollection.getDocumentsBatches(keys, new DocumentReadOptions()))
+                .containsExactly(keys);
+        assertThat(InternalArangoCollection.getDocumentsBatches(keys, new DocumentReadOptions().batchSize(3)))
+                .containsExactly(keys);
+    }
+
+    @Test
+    void splitsKeysInOrder() {
+        final Collection<String> keys = new LinkedHashSet<>(Arrays.asList("a", "b", "c", "d", "e"));
+        final List<Collection<String>> batches = InternalArangoCollection.getDocumentsBatches(keys,
+                new DocumentReadOptions().batchSize(2));
+        assertThat(batches).containsExactly(Arrays.asList("a", "b"), Arrays.asList("c", "d"),
+                Collections.singletonList("e"));
+    }
+
+    @Test
+    void requestsBatchesOfStreamTransactionsOneAfterTheOther() {
+        assertThat(InternalArangoCollection.getDocumentsParallelism(new DocumentReadOptions(), 10))
+                .isEqualTo(ArangoDefaults.DEFAULT_GET_DOCUMENTS_PARALLELISM);
+        assertThat(InternalArangoCollection.getDocumentsParallelism(new DocumentReadOptions().parallelism(8), 3))
+                .isEqualTo(3);
+        assertThat(InternalArangoCollection.getDocumentsParallelism(
+                new DocumentReadOptions().parallelism(8).streamTransactionId("1"), 10)).isEqualTo(1);
+    }
+
+    @Test
+    void mergesBatchesInOrder() {
+        final ErrorEntity error = new ErrorEntity();
+        final MultiDocumentEntity<String> merged = InternalArangoCollection.mergeDocuments(Arrays.asList(
+                batch(false, "a", error), batch(true, "c"), batch(false, "d")));
+        assertThat(merged.getDocuments()).containsExactly("a", "c", "d");
+        assertThat(merged.getErrors()).containsExactly(error);
+        assertThat(merged.getDocumentsAndErrors()).containsExactly("a", error, "c", "d");
+        assertThat(merged.isPotentialDirtyRead()).isTrue();
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoCursor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArangoCursorSpliteratorTest {
+
+    @Test
+    void parallelStreamKeepsOrderAndFetchesSequentially() {
+        final FakeCursorExecute fake = new FakeCursorExecute(50, 100, false);
+        final List<Integer> documents = fake.cursor().stream().parallel().map(i -> i + 1)
+                .collect(Collectors.toList());
+        assertThat(documents).isEqualTo(IntStream.rangeClosed(1, 5000).boxed().collect(Collectors.toList()));
+        assertThat(fake.fetched).isEqualTo(IntStream.range(1, 50).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void sizedWithCount() {
+        final ArangoCursor<Integer> cursor = new FakeCursorExecute(3, 10, true).cursor();
+        cursor.next();
+        final Spliterator<Integer> spliterator = cursor.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(29L);
+        assertThat(cursor.stream().parallel().count()).isEqualTo(29L);
+    }
+
+    @Test
+    void unknownSizeWithoutCount() {
+        final Spliterator<Integer> spliterator = new FakeCursorExecute(3, 10, false).cursor().spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+        assertThat(spliterator.estimateSize()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void splitsRemainingBatchByIndexRanges() {
+        final ArangoCursor<Integer> cursor = new FakeCursorExecute(2, 10, true).cursor();
+        cursor.next();
+        cursor.next();
+        final Spliterator<Integer> spliterator = cursor.spliterator();
+
+        final Spliterator<Integer> batch = spliterator.trySplit();
+        assertThat(batch.getExactSizeIfKnown()).isEqualTo(8L);
+        assertThat(spliterator.getExactSizeIfKnown()).isEqualTo(10L);
+        final Spliterator<Integer> half = batch.trySplit();
+        assertThat(half.getExactSizeIfKnown()).isEqualTo(4L);
+
+        final List<Integer> elements = new ArrayList<>();
+        half.forEachRemaining(elements::add);
+        batch.forEachRemaining(elements::add);
+        spliterator.trySplit().forEachRemaining(elements::add);
+        assertThat(elements).isEqualTo(IntStream.range(2, 20).boxed().collect(Collectors.toList()));
+        assertThat(spliterator.trySplit()).isNull();
+        assertThat(cursor.hasNext()).isFalse();
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.internal.InternalArangoDatabase;
+import com.arangodb.internal.velocypack.VPackDriverModule;
+import com.arangodb.velocypack.VPack;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves {@code batches} batches of {@code batchSize} numbers, recording the fetches and deletions and failing on
+ * concurrent fetches.
+ */
+class FakeCursorExecute implements ArangoCursorExecute {
+
+    static final VPack VPACK = new VPack.Builder().registerModule(new VPackDriverModule()).build();
+
+    private final int batches;
+    private final int batchSize;
+    private final boolean count;
+    final List<Integer> fetched = Collections.synchronizedList(new ArrayList<>());
+    final List<String> closed = Collections.synchronizedList(new ArrayList<>());
+    final AtomicInteger deserialized = new AtomicInteger();
+    volatile int failAt = -1;
+    private final AtomicInteger fetching = new AtomicInteger();
+
+    FakeCursorExecute(final int batches, final int batchSize, final boolean count) {
+        this.batches = batches;
+        this.batchSize = batchSize;
+        this.count = count;
+    }
+
+    CursorEntity batch(final int n) {
+        final VPackBuilder builder = new VPackBuilder().add(ValueType.OBJECT).add("id", "42")
+                .add("result", ValueType.ARRAY);
+        for (int i = 0; i < batchSize; i++) {
+            builder.add(n * batchSize + i);
+        }
+        builder.close().add("hasMore", n < batches - 1);
+        if (count) {
+            builder.add("count", batches * batchSize);
+        }
+        final CursorEntity entity = VPACK.deserialize(builder.close().slice(), CursorEntity.class);
+        entity.setMeta(Collections.singletonMap("batch", String.valueOf(n)));
+        return entity;
+    }
+
+    @Override
+    public CursorEntity next(final String id, final Map<String, String> meta) {
+        if (fetching.incrementAndGet() > 1) {
+            throw new ArangoDBException("concurrent fetch");
+        }
+        try {
+            final int n = Integer.parseInt(meta.get("batch")) + 1;
+            if (n == failAt) {
+                throw new ArangoDBException("failed");
+            }
+            fetched.add(n);
+            return batch(n);
+        } finally {
+            fetching.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void close(final String id, final Map<String, String> meta) {
+        closed.add(id);
+    }
+
+    ArangoCursor<Integer> cursor() {
+        return new ArangoCursorImpl<Integer>(null, this, Integer.class, batch(0)) {
+            @Override
+            protected ArangoCursorIterator<Integer> createIterator(
+                    final ArangoCursor<Integer> cursor,
+                    final InternalArangoDatabase<?, ?> db,
+                    final ArangoCursorExecute execute,
+                    final CursorEntity result) {
+                return new ArangoCursorIterator<Integer>(cursor, execute, db, result) {
+                    @Override
+                    protected <R> R deserialize(final VPackSlice result, final Class<R> type) {
+                        deserialized.incrementAndGet();
+                        return VPACK.deserialize(result, type);
+                    }
+                };
+            }
+        };
+    }
+
+}
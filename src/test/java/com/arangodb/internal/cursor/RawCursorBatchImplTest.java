@@ -0,0 +1,84 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.RawCursorBatch;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RawCursorBatchImplTest {
+
+    @Test
+    void forEachRawBatchWithoutDeserializing() {
+        final FakeCursorExecute fake = new FakeCursorExecute(3, 10, false);
+        final ArangoCursor<Integer> cursor = fake.cursor();
+        cursor.next();
+        cursor.next();
+
+        final List<Integer> sizes = new ArrayList<>();
+        final List<Integer> elements = new ArrayList<>();
+        cursor.forEachRawBatch(batch -> {
+            sizes.add(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                elements.add(batch.get(i).getAsInt());
+            }
+        });
+        assertThat(sizes).containsExactly(8, 10, 10);
+        assertThat(elements).isEqualTo(IntStream.range(2, 30).boxed().collect(Collectors.toList()));
+        assertThat(fake.deserialized).hasValue(2);
+        assertThat(cursor.hasNext()).isFalse();
+        assertThat(cursor.nextRawBatch().size()).isZero();
+    }
+
+    @Test
+    void elementsLocatedInBuffer() throws IOException {
+        final VPackSlice array = new VPackBuilder().add(ValueType.ARRAY).add("a").add(1).add(ValueType.OBJECT)
+                .add("b", "c").close().close().slice();
+        final RawCursorBatch batch = new RawCursorBatchImpl(array, 1, 3);
+        assertThat(batch.size()).isEqualTo(2);
+        assertThat(batch.buffer().isReadOnly()).isTrue();
+        for (int i = 0; i < batch.size(); i++) {
+            final VPackSlice element = array.get(i + 1);
+            assertThat(batch.offset(i)).isEqualTo(element.getStart());
+            assertThat(batch.length(i)).isEqualTo(element.getByteSize());
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            batch.writeTo(i, out);
+            assertThat(out.toByteArray()).isEqualTo(Arrays.copyOfRange(element.getBuffer(), element.getStart(),
+                    element.getStart() + element.getByteSize()));
+        }
+        assertThat(batch.get(1).get("b").getAsString()).isEqualTo("c");
+        assertThatThrownBy(() -> batch.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+}
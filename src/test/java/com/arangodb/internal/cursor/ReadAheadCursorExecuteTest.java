@@ -0,0 +1,119 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class ReadAheadCursorExecuteTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static void waitForFetches(final FakeCursorExecute cursor, final int fetches) throws InterruptedException {
+        for (int i = 0; i < 200 && cursor.fetched.size() < fetches; i++) {
+            Thread.sleep(5);
+        }
+        // would exceed the expected count within this time if the read ahead did not stop
+        Thread.sleep(50);
+        assertThat(cursor.fetched).hasSize(fetches);
+    }
+
+    @Test
+    void fetchesUpToDepthAhead() throws InterruptedException {
+        final FakeCursorExecute cursor = new FakeCursorExecute(10, 5, false);
+        final ReadAheadCursorExecute execute = new ReadAheadCursorExecute(cursor, executor, 3, 0L, cursor.batch(0));
+        waitForFetches(cursor, 3);
+
+        assertThat(execute.next("42", null).getResult().get(0).getAsInt()).isEqualTo(5);
+        waitForFetches(cursor, 4);
+        for (int n = 2; n < 10; n++) {
+            final CursorEntity batch = execute.next("42", null);
+            assertThat(batch.getResult().get(0).getAsInt()).isEqualTo(n * 5);
+        }
+        assertThat(cursor.fetched).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void memoryLimit() throws InterruptedException {
+        final FakeCursorExecute cursor = new FakeCursorExecute(10, 5, false);
+        final ReadAheadCursorExecute execute = new ReadAheadCursorExecute(cursor, executor, 5, 4L,
+                cursor.batch(0));
+        // a batch exceeds the limit by itself, so that it is fetched ahead alone
+        waitForFetches(cursor, 1);
+        execute.next("42", null);
+        waitForFetches(cursor, 2);
+    }
+
+    @Test
+    void closeDeletesCursorNotExhausted() throws InterruptedException {
+        final FakeCursorExecute cursor = new FakeCursorExecute(10, 5, false);
+        final ReadAheadCursorExecute execute = new ReadAheadCursorExecute(cursor, executor, 2, 0L, cursor.batch(0));
+        execute.close("42", null);
+        assertThat(cursor.closed).containsExactly("42");
+        waitForFetches(cursor, cursor.fetched.size());
+    }
+
+    @Test
+    void nextAfterCloseFails() {
+        final FakeCursorExecute cursor = new FakeCursorExecute(10, 5, false);
+        final ReadAheadCursorExecute execute = new ReadAheadCursorExecute(cursor, executor, 2, 0L, cursor.batch(0));
+        execute.close("42", null);
+        assertThat(executor.submit(() -> catchThrowable(() -> execute.next("42", null))))
+                .succeedsWithin(Duration.ofSeconds(5))
+                .isInstanceOf(ArangoDBException.class);
+    }
+
+    @Test
+    void closeAfterLastBatchFetched() throws InterruptedException {
+        final FakeCursorExecute cursor = new FakeCursorExecute(2, 5, false);
+        final ReadAheadCursorExecute execute = new ReadAheadCursorExecute(cursor, executor, 2, 0L, cursor.batch(0));
+        waitForFetches(cursor, 1);
+        execute.close("42", null);
+        assertThat(cursor.closed).isEmpty();
+    }
+
+    @Test
+    void failureSurfacesWhenReached() throws InterruptedException {
+        final FakeCursorExecute cursor = new FakeCursorExecute(10, 5, false);
+        cursor.failAt = 2;
+        final ReadAheadCursorExecute execute = new ReadAheadCursorExecute(cursor, executor, 3, 0L, cursor.batch(0));
+        waitForFetches(cursor, 1);
+        assertThat(execute.next("42", null).getResult().get(0).getAsInt()).isEqualTo(5);
+        assertThatThrownBy(() -> execute.next("42", null)).isInstanceOf(ArangoDBException.class)
+                .hasMessage("failed");
+    }
+
+}
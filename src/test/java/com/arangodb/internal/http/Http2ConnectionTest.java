@@ -0,0 +1,209 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.DbName;
+import com.arangodb.Protocol;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.mapping.ArangoJack;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import com.arangodb.velocystream.Response;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncRequestConsumer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the HTTP/2 transport against a local HTTP/2 server answering every request like {@code /_api/version}.
+ */
+class Http2ConnectionTest {
+
+    private static final String VERSION_JSON = "{\"server\":\"arango\",\"version\":\"3.10.0\",\"license\":\"community\"}";
+
+    private final Set<SocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private final ScheduledExecutorService delayer = Executors.newSingleThreadScheduledExecutor();
+    private volatile long responseDelay;
+    private volatile Message<HttpRequest, byte[]> lastRequest;
+    private HttpAsyncServer server;
+    private int port;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = H2ServerBootstrap.bootstrap()
+                .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_2)
+                .register("*", new AsyncServerRequestHandler<Message<HttpRequest, byte[]>>() {
+                    @Override
+                    public AsyncRequestConsumer<Message<HttpRequest, byte[]>> prepare(
+                            final HttpRequest request, final EntityDetails entityDetails, final HttpContext context) {
+                        return new BasicRequestConsumer<>(BasicAsyncEntityConsumer::new);
+                    }
+
+                    @Override
+                    public void handle(final Message<HttpRequest, byte[]> message, final ResponseTrigger trigger,
+                                       final HttpContext context) {
+                        lastRequest = message;
+                        clientAddresses.add(HttpCoreContext.adapt(context).getEndpointDetails().getRemoteAddress());
+                        final int concurrent = concurrentRequests.incrementAndGet();
+                        maxConcurrentRequests.accumulateAndGet(concurrent, Math::max);
+                        final boolean vpack = message.getHead().containsHeader("Accept")
+                                && "application/x-velocypack".equals(message.getHead().getFirstHeader("Accept").getValue());
+                        delayer.schedule(() -> {
+                            concurrentRequests.decrementAndGet();
+                            try {
+                                trigger.submitResponse(new BasicResponseProducer(200, vpack
+                                        ? AsyncEntityProducers.create(versionVPack(), ContentType.create("application/x-velocypack"))
+                                        : AsyncEntityProducers.create(VERSION_JSON, ContentType.APPLICATION_JSON)), context);
+                            } catch (final Exception e) {
+                                throw new IllegalStateException(e);
+                            }
+                        }, responseDelay, TimeUnit.MILLISECONDS);
+                    }
+                })
+                .create();
+        server.start();
+        final ListenerEndpoint endpoint = server.listen(new InetSocketAddress("127.0.0.1", 0)).get();
+        port = ((InetSocketAddress) endpoint.getAddress()).getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close(CloseMode.IMMEDIATE);
+        delayer.shutdownNow();
+    }
+
+    private static byte[] versionVPack() {
+        final VPackSlice slice = new VPackBuilder().add(ValueType.OBJECT).add("server", "arango")
+                .add("version", "3.10.0").add("license", "community").close().slice();
+        final byte[] bytes = new byte[slice.getByteSize()];
+        System.arraycopy(slice.getBuffer(), slice.getStart(), bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    private Http2Connection connection(final Protocol protocol, final int maxConcurrentStreams) {
+        return new Http2Connection.Builder().host(new HostDescription("127.0.0.1", port)).contentType(protocol)
+                .serializationUtil(new ArangoJack()).user("root").password("").timeout(10000)
+                .maxConcurrentStreams(maxConcurrentStreams).build();
+    }
+
+    private static String getVersion(final Http2Connection connection) {
+        try {
+            final Response response = connection.execute(new Request(DbName.SYSTEM, RequestType.GET, "/_api/version"));
+            assertThat(response.getResponseCode()).isEqualTo(200);
+            return response.getBody().get("version").getAsString();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Protocol.class, names = {"HTTP2_JSON", "HTTP2_VPACK"})
+    void execute(final Protocol protocol) throws IOException {
+        try (Http2Connection connection = connection(protocol, 8)) {
+            assertThat(getVersion(connection)).isEqualTo("3.10.0");
+        }
+    }
+
+    @Test
+    void rawBodyIsStreamedFromBuffer() throws IOException {
+        // larger than the initial flow control window, so that it is sent in several parts
+        final byte[] json = new byte[200_000];
+        Arrays.fill(json, (byte) ' ');
+        json[0] = '[';
+        json[json.length - 1] = ']';
+        final ByteBuffer rawBody = ByteBuffer.allocateDirect(json.length);
+        rawBody.put(json).flip();
+        final Request request = new Request(DbName.SYSTEM, RequestType.POST, "/_api/import");
+        request.setRawBody(rawBody);
+        try (Http2Connection connection = connection(Protocol.HTTP2_JSON, 8)) {
+            assertThat(connection.execute(request).getResponseCode()).isEqualTo(200);
+            assertThat(lastRequest.getBody()).isEqualTo(json);
+            assertThat(lastRequest.getHead().getFirstHeader("Content-Type").getValue())
+                    .startsWith("application/json");
+            // the buffer can be sent again
+            assertThat(connection.execute(request).getResponseCode()).isEqualTo(200);
+            assertThat(lastRequest.getBody()).isEqualTo(json);
+        }
+        assertThat(rawBody.remaining()).isEqualTo(json.length);
+    }
+
+    @Test
+    void concurrentRequestsAreMultiplexedOverOneConnection() throws IOException {
+        responseDelay = 50;
+        final ExecutorService executor = Executors.newFixedThreadPool(32);
+        try (Http2Connection connection = connection(Protocol.HTTP2_JSON, 8)) {
+            final List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> getVersion(connection), executor));
+            }
+            for (final CompletableFuture<String> future : futures) {
+                assertThat(future.join()).isEqualTo("3.10.0");
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(clientAddresses).hasSize(1);
+        assertThat(maxConcurrentRequests.get()).isGreaterThan(1).isLessThanOrEqualTo(8);
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.Compression;
+import com.arangodb.DbName;
+import com.arangodb.Protocol;
+import com.arangodb.internal.CompressionMetricsImpl;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.mapping.ArangoJack;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import com.arangodb.velocystream.Response;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpCompressionTest {
+
+    private static final String TEXT = String.join(",", Collections.nCopies(200, "compressible"));
+
+    private static VPackSlice body() {
+        return new ArangoJack().serialize(Collections.singletonMap("text", TEXT));
+    }
+
+    private static byte[] readAll(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(final byte[] content) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(content);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    void gzipJsonBody() throws IOException {
+        final CompressionMetricsImpl metrics = new CompressionMetricsImpl();
+        final HttpCompression compression = new HttpCompression(Compression.GZIP, 1024, 6, metrics);
+        final byte[] compressed = compression.compress(body(), true);
+
+        final String json = new String(readAll(new GZIPInputStream(new ByteArrayInputStream(compressed))),
+                StandardCharsets.UTF_8);
+        assertThat(json).isEqualTo("{\"text\":\"" + TEXT + "\"}");
+        assertThat(compression.contentEncoding()).isEqualTo("gzip");
+        assertThat(metrics.getCompressedRequests()).isEqualTo(1);
+        assertThat(metrics.getRequestBytes()).isEqualTo(json.length());
+        assertThat(metrics.getCompressedRequestBytes()).isEqualTo(compressed.length);
+        assertThat(metrics.getBytesSaved()).isEqualTo(json.length() - compressed.length).isPositive();
+    }
+
+    @Test
+    void deflateVPackBody() throws IOException {
+        final HttpCompression compression = new HttpCompression(Compression.DEFLATE, 1024, 1,
+                new CompressionMetricsImpl());
+        final VPackSlice body = body();
+        final byte[] compressed = compression.compress(body, false);
+
+        final byte[] inflated = readAll(new InflaterInputStream(new ByteArrayInputStream(compressed)));
+        assertThat(new VPackSlice(inflated).toString()).isEqualTo(body.toString());
+        assertThat(compression.contentEncoding()).isEqualTo("deflate");
+    }
+
+    @Test
+    void threshold() {
+        final VPackSlice body = body();
+        assertThat(new HttpCompression(Compression.GZIP, body.getByteSize(), 6, new CompressionMetricsImpl())
+                .compresses(body)).isTrue();
+        assertThat(new HttpCompression(Compression.GZIP, body.getByteSize() + 1, 6, new CompressionMetricsImpl())
+                .compresses(body)).isFalse();
+        assertThat(HttpCompression.none().compresses(body)).isFalse();
+    }
+
+    @Test
+    void decompressResponse() throws IOException {
+        final CompressionMetricsImpl metrics = new CompressionMetricsImpl();
+        final HttpCompression compression = new HttpCompression(Compression.GZIP, 1024, 6, metrics);
+        final byte[] content = TEXT.getBytes(StandardCharsets.UTF_8);
+        final byte[] compressed = gzip(content);
+
+        assertThat(compression.decompress(compressed, "gzip")).isEqualTo(content);
+        assertThat(compression.decompress(content, null)).isEqualTo(content);
+        assertThat(compression.decompress(content, "identity")).isEqualTo(content);
+        assertThat(compression.decompress(new byte[0], "gzip")).isEmpty();
+        assertThat(metrics.getCompressedResponses()).isEqualTo(1);
+        assertThat(metrics.getResponseBytes()).isEqualTo(content.length);
+        assertThat(metrics.getCompressedResponseBytes()).isEqualTo(compressed.length);
+    }
+
+    @Test
+    void decompressResponseLargerThanInitialCapacity() throws IOException {
+        final HttpCompression compression = new HttpCompression(Compression.GZIP, 1024, 6,
+                new CompressionMetricsImpl());
+        final byte[] content = String.join(",", Collections.nCopies(300_000, "compressible"))
+                .getBytes(StandardCharsets.UTF_8);
+        assertThat(compression.decompress(gzip(content), "gzip")).isEqualTo(content);
+    }
+
+    @Test
+    void connectionCompressesRequestAndInflatesResponse() throws IOException {
+        final AtomicReference<String> requestEncoding = new AtomicReference<>();
+        final AtomicReference<String> requestBody = new AtomicReference<>();
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requestEncoding.set(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+            requestBody.set(new String(readAll(new GZIPInputStream(exchange.getRequestBody())),
+                    StandardCharsets.UTF_8));
+            final String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            final byte[] response = gzip(requestBody.get().getBytes(StandardCharsets.UTF_8));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            if (accept != null && accept.contains("gzip")) {
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+        final CompressionMetricsImpl metrics = new CompressionMetricsImpl();
+        try (HttpConnection connection = new HttpConnection.Builder()
+                .host(new HostDescription("127.0.0.1", server.getAddress().getPort()))
+                .contentType(Protocol.HTTP_JSON).serializationUtil(new ArangoJack()).user("root").password("")
+                .timeout(10000).compression(new HttpCompression(Compression.GZIP, 1024, 6, metrics)).build()) {
+            final Response response = connection.execute(
+                    new Request(DbName.SYSTEM, RequestType.POST, "/_api/echo").setBody(body()));
+
+            assertThat(requestEncoding.get()).isEqualTo("gzip");
+            assertThat(requestBody.get()).isEqualTo("{\"text\":\"" + TEXT + "\"}");
+            assertThat(response.getBody().get("text").getAsString()).isEqualTo(TEXT);
+            assertThat(metrics.getCompressedRequests()).isEqualTo(1);
+            assertThat(metrics.getCompressedResponses()).isEqualTo(1);
+            assertThat(metrics.getBytesSaved()).isPositive();
+        } finally {
+            server.stop(0);
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.DbName;
+import com.arangodb.Protocol;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.mapping.ArangoJack;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import com.arangodb.velocystream.Response;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs HTTP connections against a local HTTP/1.1 server answering every request like {@code /_api/version}.
+ */
+class HttpConnectionTest {
+
+    private static final byte[] VERSION_JSON = "{\"server\":\"arango\",\"version\":\"3.10.0\",\"license\":\"community\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final Set<SocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            clientAddresses.add(exchange.getRemoteAddress());
+            maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrentRequests.decrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, VERSION_JSON.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(VERSION_JSON);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private HttpConnection connection(final int poolSize) {
+        return new HttpConnection.Builder().host(new HostDescription("127.0.0.1", server.getAddress().getPort()))
+                .contentType(Protocol.HTTP_JSON).serializationUtil(new ArangoJack()).user("root").password("")
+                .timeout(10000).poolSize(poolSize).build();
+    }
+
+    private static String getVersion(final HttpConnection connection) {
+        try {
+            final Response response = connection.execute(new Request(DbName.SYSTEM, RequestType.GET, "/_api/version"));
+            return response.getBody().get("version").getAsString();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void executeConcurrently(final HttpConnection connection, final int requests) {
+        final ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            final List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> getVersion(connection), executor));
+            }
+            for (final CompletableFuture<String> future : futures) {
+                assertThat(future.join()).isEqualTo("3.10.0");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void singleSocket() throws IOException {
+        try (HttpConnection connection = connection(1)) {
+            executeConcurrently(connection, 8);
+        }
+        assertThat(maxConcurrentRequests.get()).isEqualTo(1);
+        assertThat(clientAddresses).hasSize(1);
+    }
+
+    @Test
+    void sharedPoolLeasesSocketsToConcurrentThreads() throws IOException {
+        try (HttpConnection connection = connection(4)) {
+            executeConcurrently(connection, 16);
+            executeConcurrently(connection, 16);
+        }
+        assertThat(maxConcurrentRequests.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+        // sockets are kept alive and reused by later requests
+        assertThat(clientAddresses).hasSizeBetween(2, 4);
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.DbName;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import org.apache.http.NameValuePair;
+import org.apache.http.auth.UsernamePasswordCredentials;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.apache.http.impl.auth.BasicScheme;
+import org.apache.http.message.BasicNameValuePair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpRequestTemplateTest {
+
+    private static final HttpRequestTemplate TEMPLATE = new HttpRequestTemplate(
+            new HostDescription("127.0.0.1", 8529), false, "root", "secret");
+
+    private static String expectedQuery(final Map<String, String> params) {
+        final List<NameValuePair> list = new ArrayList<>();
+        for (final Map.Entry<String, String> param : params.entrySet()) {
+            if (param.getValue() != null) {
+                list.add(new BasicNameValuePair(param.getKey(), param.getValue()));
+            }
+        }
+        return URLEncodedUtils.format(list, "utf-8");
+    }
+
+    @Test
+    void baseUrl() {
+        assertThat(TEMPLATE.url(new Request(DbName.SYSTEM, RequestType.GET, "/_api/version")))
+                .isEqualTo("http://127.0.0.1:8529/_db/_system/_api/version");
+        assertThat(TEMPLATE.url(new Request(DbName.of(""), RequestType.GET, "/_api/version")))
+                .isEqualTo("http://127.0.0.1:8529/_api/version");
+        assertThat(TEMPLATE.url(new Request(DbName.of("db ü"), RequestType.GET, "/_api/version")))
+                .isEqualTo("http://127.0.0.1:8529/_db/" + DbName.of("db ü").getEncoded() + "/_api/version");
+    }
+
+    @Test
+    void baseUrlOfHostWithPath() {
+        final HttpRequestTemplate template = new HttpRequestTemplate(new HostDescription("proxy.local/arango", 443),
+                true, null, null);
+        assertThat(template.url(new Request(DbName.SYSTEM, RequestType.GET, "/_api/version")))
+                .isEqualTo("https://proxy.local:443/arango/_db/_system/_api/version");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"plain", "with space", "a+b=c&d", "_-.*~!'()", "äöü ß", "日本語", "😀 emoji",
+            "unpaired \uD800 surrogate", "/path?x=1#frag", ""})
+    void queryParamsEncodedLikeUrlEncodedUtils(final String value) {
+        final Request request = new Request(DbName.SYSTEM, RequestType.GET, "/_api/document/c/k")
+                .putQueryParam("key", value).putQueryParam("skipped", null).putQueryParam("ä k", "v");
+        assertThat(TEMPLATE.url(request)).isEqualTo(
+                "http://127.0.0.1:8529/_db/_system/_api/document/c/k?" + expectedQuery(request.getQueryParam()));
+    }
+
+    @Test
+    void queryParamsAppendedToExistingQuery() {
+        final Request request = new Request(DbName.SYSTEM, RequestType.GET, "/_api/cursor?x=1")
+                .putQueryParam("y", 2);
+        assertThat(TEMPLATE.url(request)).isEqualTo("http://127.0.0.1:8529/_db/_system/_api/cursor?x=1&y=2");
+    }
+
+    @Test
+    void authorization() throws Exception {
+        final String basic = new BasicScheme()
+                .authenticate(new UsernamePasswordCredentials("root", "secret"), new HttpGet("/"), null).getValue();
+        final HttpRequestTemplate template = new HttpRequestTemplate(new HostDescription("127.0.0.1", 8529), false,
+                "root", "secret");
+        assertThat(template.authorization()).isEqualTo(basic);
+        template.setJwt("token");
+        assertThat(template.authorization()).isEqualTo("Bearer token");
+        template.setJwt(null);
+        assertThat(template.authorization()).isEqualTo(basic);
+        assertThat(new HttpRequestTemplate(new HostDescription("127.0.0.1", 8529), false, null, null)
+                .authorization()).isNull();
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackParser;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VPackJsonTest {
+
+    private static final VPackParser PARSER = new VPackParser.Builder().build();
+
+    private static String write(final VPackSlice slice) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VPackJsonWriter.write(slice, out);
+        final byte[] bytes = out.toByteArray();
+        assertThat(VPackJsonWriter.length(slice)).isEqualTo(bytes.length);
+        assertThat(VPackJsonWriter.toByteArray(slice)).isEqualTo(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static VPackSlice read(final String json) throws IOException {
+        return JsonVPackReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void writeMatchesVPackParser() throws IOException {
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.OBJECT);
+        builder.add("string", "héllo \"wörld\" \\ / \n\t\u0001 😀");
+        builder.add("small", 5);
+        builder.add("negative", -123456789012L);
+        builder.add("uint", BigInteger.valueOf(4294967296L), ValueType.UINT);
+        builder.add("double", 1.25);
+        builder.add("large", 1e300);
+        builder.add("true", true);
+        builder.add("false", false);
+        builder.add("null", ValueType.NULL);
+        builder.add("date", new Date(1234567890L));
+        builder.add("array", ValueType.ARRAY);
+        for (int i = 0; i < 100; i++) {
+            builder.add(i);
+        }
+        builder.add(ValueType.OBJECT);
+        builder.close();
+        builder.add(ValueType.ARRAY);
+        builder.close();
+        builder.close();
+        final StringBuilder longString = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            longString.append((char) ('a' + i % 26));
+        }
+        builder.add("long", longString.toString());
+        builder.close();
+        final VPackSlice slice = builder.slice();
+
+        final String json = write(slice);
+        assertThat(PARSER.toJson(PARSER.fromJson(json, true), true)).isEqualTo(slice.toString());
+    }
+
+    @Test
+    void writeCompactArray() throws IOException {
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.ARRAY, true);
+        builder.add("a");
+        builder.add(1);
+        builder.close();
+        assertThat(write(builder.slice())).isEqualTo("[\"a\",1]");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"a\":1,\"b\":[true,false,null],\"c\":{\"d\":\"e\"},\"f\":-1.5e3,\"g\":\"\\u00e9\\ud83d\\ude00\\n\"}",
+            "  [1, 2 ,3, -9223372036854775808, 9223372036854775807, 1e400, 0.1]  ",
+            "\"üñîçødé\"",
+            "42",
+            "[]",
+            "{}",
+            "[{\"_key\":\"1\",\"value\":null},{\"_key\":\"2\",\"nested\":{\"x\":[[],[{}]]}}]"
+    })
+    void readMatchesVPackParser(final String json) throws IOException {
+        assertThat(read(json).toString()).isEqualTo(PARSER.fromJson(json, true).toString());
+    }
+
+    @Test
+    void readStringSpanningBuffers() throws IOException {
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 30000; i++) {
+            value.append(i % 7 == 0 ? "é" : i % 11 == 0 ? "\\\"" : "x");
+        }
+        final String json = "{\"value\":\"" + value + "\"}";
+        assertThat(read(json).toString()).isEqualTo(PARSER.fromJson(json, true).toString());
+    }
+
+    @Test
+    void readLargeIntegers() throws IOException {
+        final VPackSlice slice = read("[18446744073709551615, 18446744073709551616, -9223372036854775809]");
+        assertThat(slice.get(0).isUInt()).isTrue();
+        assertThat(slice.get(0).getAsBigInteger()).isEqualTo(new BigInteger("18446744073709551615"));
+        assertThat(slice.get(1).isDouble()).isTrue();
+        assertThat(slice.get(2).isDouble()).isTrue();
+    }
+
+    @Test
+    void readEmpty() throws IOException {
+        assertThat(read("")).isNull();
+        assertThat(read(" \n")).isNull();
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        final String json = "{\"docs\":[{\"_key\":\"k\",\"n\":3,\"s\":\"\\\"quoted\\\"\"}],\"count\":1,\"error\":false}";
+        final VPackSlice slice = read(json);
+        assertThat(read(write(slice)).toString()).isEqualTo(slice.toString());
+    }
+
+}
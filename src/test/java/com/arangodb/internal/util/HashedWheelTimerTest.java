@@ -0,0 +1,93 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedWheelTimerTest {
+
+    private final HashedWheelTimer timer = new HashedWheelTimer("test-timer", 1, TimeUnit.MILLISECONDS, 8);
+
+    @AfterEach
+    void stop() {
+        timer.stop();
+    }
+
+    @Test
+    void runsTaskAfterDelay() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final long start = System.nanoTime();
+        final HashedWheelTimer.Timeout timeout = timer.newTimeout(latch::countDown, 50, TimeUnit.MILLISECONDS);
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(49);
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    void runsTasksLongerThanOneRotation() throws InterruptedException {
+        // the wheel of 8 ticks of 1 ms rotates several times before the deadline
+        final CountDownLatch latch = new CountDownLatch(2);
+        timer.newTimeout(latch::countDown, 30, TimeUnit.MILLISECONDS);
+        timer.newTimeout(latch::countDown, 3, TimeUnit.MILLISECONDS);
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void cancelledTaskDoesNotRun() throws InterruptedException {
+        final AtomicInteger runs = new AtomicInteger();
+        final HashedWheelTimer.Timeout timeout = timer.newTimeout(runs::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.isCancelled()).isTrue();
+        Thread.sleep(100);
+        assertThat(runs.get()).isZero();
+        assertThat(timer.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    void resumesAfterIdle() throws InterruptedException {
+        final CountDownLatch first = new CountDownLatch(1);
+        timer.newTimeout(first::countDown, 1, TimeUnit.MILLISECONDS);
+        assertThat(first.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(50);
+        final CountDownLatch second = new CountDownLatch(1);
+        timer.newTimeout(second::countDown, 1, TimeUnit.MILLISECONDS);
+        assertThat(second.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void failingTaskDoesNotStopTimer() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        timer.newTimeout(() -> {
+            throw new IllegalStateException("expected");
+        }, 1, TimeUnit.MILLISECONDS);
+        timer.newTimeout(latch::countDown, 5, TimeUnit.MILLISECONDS);
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+}
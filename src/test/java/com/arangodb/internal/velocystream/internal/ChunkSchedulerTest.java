@@ -0,0 +1,85 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChunkSchedulerTest {
+
+    private static final VPackSlice HEAD = new VPackBuilder().add(ValueType.ARRAY).add(1).close().slice();
+
+    private static OutgoingMessage message(final long id, final int numberOfChunks, final int priority) {
+        final Collection<Chunk> chunks = new ArrayList<>();
+        for (int i = 0; i < numberOfChunks; i++) {
+            chunks.add(new Chunk(id, i, numberOfChunks, -1L, 0, 0));
+        }
+        return new OutgoingMessage(new Message(id, HEAD, null, priority), chunks);
+    }
+
+    private static List<Long> drain(final ChunkScheduler scheduler) {
+        final List<Long> ids = new ArrayList<>();
+        OutgoingMessage message;
+        while ((message = scheduler.next()) != null) {
+            ids.add(message.nextChunk().getMessageId());
+        }
+        return ids;
+    }
+
+    @Test
+    void interleaveRoundRobin() {
+        final ChunkScheduler scheduler = new ChunkScheduler();
+        scheduler.add(message(1L, 4, 1));
+        scheduler.add(message(2L, 1, 1));
+        scheduler.add(message(3L, 2, 1));
+        assertThat(drain(scheduler)).containsExactly(1L, 2L, 3L, 1L, 3L, 1L, 1L);
+    }
+
+    @Test
+    void weightByPriority() {
+        final ChunkScheduler scheduler = new ChunkScheduler();
+        scheduler.add(message(1L, 4, 1));
+        scheduler.add(message(2L, 5, 3));
+        assertThat(drain(scheduler)).containsExactly(1L, 2L, 2L, 2L, 1L, 2L, 2L, 1L, 1L);
+    }
+
+    @Test
+    void overtakeMessageInProgress() {
+        final ChunkScheduler scheduler = new ChunkScheduler();
+        scheduler.add(message(1L, 100, 1));
+        assertThat(scheduler.next().nextChunk().getMessageId()).isEqualTo(1L);
+        assertThat(scheduler.next().nextChunk().getMessageId()).isEqualTo(1L);
+        scheduler.add(message(2L, 1, 1));
+        assertThat(scheduler.hasInbound()).isTrue();
+        assertThat(scheduler.next().nextChunk().getMessageId()).isEqualTo(2L);
+        assertThat(scheduler.hasInbound()).isFalse();
+        assertThat(drain(scheduler)).hasSize(98).containsOnly(1L);
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChunkStoreTest {
+
+    private static byte[] message(final String value) {
+        final VPackSlice head = new VPackBuilder().add(ValueType.OBJECT).add("responseCode", 200).close().slice();
+        final VPackSlice body = new VPackBuilder().add(ValueType.OBJECT).add("value", value).close().slice();
+        final byte[] bytes = new byte[head.getByteSize() + body.getByteSize()];
+        System.arraycopy(head.getBuffer(), head.getStart(), bytes, 0, head.getByteSize());
+        System.arraycopy(body.getBuffer(), body.getStart(), bytes, head.getByteSize(), body.getByteSize());
+        return bytes;
+    }
+
+    private static void storeChunks(final ChunkStore chunkStore, final long messageId, final byte[] bytes,
+                                    final int chunkSize) {
+        final int numberOfChunks = (bytes.length + chunkSize - 1) / chunkSize;
+        for (int i = 0; i < numberOfChunks; i++) {
+            final int offset = i * chunkSize;
+            final int length = Math.min(chunkSize, bytes.length - offset);
+            final Chunk chunk = new Chunk(messageId, i, numberOfChunks, i == 0 && numberOfChunks > 1 ? bytes.length : -1L,
+                    0, length);
+            final ByteBuffer buffer = chunkStore.storeChunk(chunk);
+            buffer.put(bytes, offset, length);
+            chunkStore.checkCompleteness(messageId);
+        }
+    }
+
+    @Test
+    void reassembleIntoPooledBuffer() throws Exception {
+        final VstBufferPool bufferPool = new VstBufferPool(1024 * 1024);
+        final MessageStore messageStore = new MessageStore();
+        final ChunkStore chunkStore = new ChunkStore(messageStore, bufferPool);
+        final String value = new String(new char[5000]).replace('\0', 'a');
+
+        final CompletableFuture<Message> future = new CompletableFuture<>();
+        messageStore.storeMessage(1L, future);
+        storeChunks(chunkStore, 1L, message(value), 1000);
+
+        final Message message = future.get();
+        assertThat(message.getHead().get("responseCode").getAsInt()).isEqualTo(200);
+        assertThat(message.getBody().get("value").getAsString()).isEqualTo(value);
+        final byte[] buffer = message.getHead().getBuffer();
+        assertThat(buffer.length).isEqualTo(8192);
+
+        message.release();
+        message.release();
+        assertThat(bufferPool.getPoolSize()).isEqualTo(8192);
+        assertThat(bufferPool.acquire(5000)).isSameAs(buffer);
+        assertThat(bufferPool.getPoolSize()).isZero();
+    }
+
+    @Test
+    void releaseUnknownMessage() {
+        final VstBufferPool bufferPool = new VstBufferPool(1024 * 1024);
+        final ChunkStore chunkStore = new ChunkStore(new MessageStore(), bufferPool);
+        storeChunks(chunkStore, 1L, message(new String(new char[2000])), 30000);
+        assertThat(bufferPool.getPoolSize()).isEqualTo(2048);
+    }
+
+    @Test
+    void bufferPoolLimits() {
+        final VstBufferPool bufferPool = new VstBufferPool(4096);
+        assertThat(bufferPool.acquire(100)).hasSize(100);
+        assertThat(bufferPool.acquire(1024)).hasSize(1024);
+        assertThat(bufferPool.acquire(1025)).hasSize(2048);
+        assertThat(bufferPool.acquire(VstBufferPool.MAX_BUFFER_SIZE + 1)).hasSize(VstBufferPool.MAX_BUFFER_SIZE + 1);
+
+        bufferPool.release(new byte[100]);
+        bufferPool.release(new byte[3000]);
+        assertThat(bufferPool.getPoolSize()).isZero();
+        bufferPool.release(new byte[4096]);
+        bufferPool.release(new byte[1024]);
+        assertThat(bufferPool.getPoolSize()).isEqualTo(4096);
+    }
+
+}
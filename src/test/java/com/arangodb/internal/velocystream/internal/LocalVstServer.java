@@ -0,0 +1,147 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * VST server on the loopback interface answering every single-chunk request at once with the same version response,
+ * flushing whenever no further request is buffered.
+ */
+public class LocalVstServer implements AutoCloseable {
+    private static final int PROTOCOL_HEADER_SIZE = "VST/1.0\r\n\r\n".length();
+    private static final int CHUNK_HEADER_SIZE = 16;
+
+    private final ServerSocket serverSocket;
+    private final byte[] response;
+    private volatile CountDownLatch readGate = new CountDownLatch(0);
+
+    public LocalVstServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        response = response();
+        final Thread acceptor = new Thread(this::accept, "vst-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    private static byte[] response() {
+        final VPackSlice head = new VPackBuilder()
+                .add(ValueType.ARRAY).add(1).add(2).add(200)
+                .add(ValueType.OBJECT).close()
+                .close().slice();
+        final VPackSlice body = new VPackBuilder()
+                .add(ValueType.OBJECT).add("server", "arango").add("version", "3.10.0").add("license", "community")
+                .close().slice();
+        final int headSize = head.getByteSize();
+        final int bodySize = body.getByteSize();
+        final ByteBuffer message = ByteBuffer.allocate(CHUNK_HEADER_SIZE + headSize + bodySize)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        message.putInt(message.capacity()).putInt(3).putLong(0L);
+        message.put(head.getBuffer(), head.getStart(), headSize);
+        message.put(body.getBuffer(), body.getStart(), bodySize);
+        return message.array();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops reading requests, so that the socket buffers of the clients fill up.
+     *
+     * @return latch resuming reading once counted down
+     */
+    public CountDownLatch pauseReading() {
+        final CountDownLatch gate = new CountDownLatch(1);
+        readGate = gate;
+        return gate;
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                final Thread connection = new Thread(() -> serve(socket), "vst-server-connection");
+                connection.setDaemon(true);
+                connection.start();
+            } catch (final IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(final Socket socket) {
+        try (Socket s = socket) {
+            final InputStream buffered = new BufferedInputStream(s.getInputStream(), 64 * 1024);
+            final DataInputStream in = new DataInputStream(buffered);
+            final OutputStream out = new BufferedOutputStream(s.getOutputStream(), 64 * 1024);
+            in.readFully(new byte[PROTOCOL_HEADER_SIZE]);
+            byte[] content = new byte[1024];
+            final byte[] header = new byte[CHUNK_HEADER_SIZE];
+            final ByteBuffer headerBuffer = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+            final byte[] answer = response.clone();
+            final ByteBuffer answerBuffer = ByteBuffer.wrap(answer).order(ByteOrder.LITTLE_ENDIAN);
+            while (true) {
+                in.readFully(header);
+                readGate.await();
+                final int length = headerBuffer.getInt(0);
+                final int chunkX = headerBuffer.getInt(4);
+                final long messageId = headerBuffer.getLong(8);
+                if (content.length < length - CHUNK_HEADER_SIZE) {
+                    content = new byte[length - CHUNK_HEADER_SIZE];
+                }
+                in.readFully(content, 0, length - CHUNK_HEADER_SIZE);
+                if (chunkX == 3) {
+                    answerBuffer.putLong(8, messageId);
+                    out.write(answer);
+                }
+                if (buffered.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (final IOException e) {
+            // connection closed by the client
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+}
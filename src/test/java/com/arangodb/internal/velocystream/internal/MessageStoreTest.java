@@ -0,0 +1,106 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class MessageStoreTest {
+
+    private static final VPackSlice HEAD = new VPackBuilder().add(ValueType.ARRAY).add(1).close().slice();
+
+    @Test
+    void consume() throws Exception {
+        final MessageStore messageStore = new MessageStore();
+        final CompletableFuture<Message> future = new CompletableFuture<>();
+        messageStore.storeMessage(42L, future);
+        assertThat(messageStore.isEmpty()).isFalse();
+
+        messageStore.consume(new Message(7L, HEAD, null));
+        assertThat(future).isNotDone();
+
+        final Message message = new Message(42L, HEAD, null);
+        messageStore.consume(message);
+        assertThat(future.get()).isSameAs(message);
+        assertThat(messageStore.isEmpty()).isTrue();
+        assertThat(messageStore.remove(42L)).isNull();
+    }
+
+    @Test
+    void clearWithError() {
+        final MessageStore messageStore = new MessageStore();
+        final CompletableFuture<Message> future = new CompletableFuture<>();
+        messageStore.storeMessage(1L, future);
+        messageStore.clear(new IOException("closed"));
+        final Throwable thrown = catchThrowable(future::get);
+        assertThat(thrown).isInstanceOf(ExecutionException.class);
+        assertThat(thrown.getCause()).isInstanceOf(ArangoDBException.class);
+        assertThat(thrown.getCause().getCause()).isInstanceOf(IOException.class);
+        assertThat(messageStore.isEmpty()).isTrue();
+    }
+
+    @Test
+    void clear() {
+        final MessageStore messageStore = new MessageStore();
+        final CompletableFuture<Message> future = new CompletableFuture<>();
+        messageStore.storeMessage(1L, future);
+        messageStore.clear();
+        assertThat(future).isCancelled();
+        assertThat(messageStore.isEmpty()).isTrue();
+    }
+
+    @Test
+    void randomStoreAndRemove() {
+        final MessageStore messageStore = new MessageStore();
+        final Map<Long, CompletableFuture<Message>> expected = new HashMap<>();
+        final Random random = new Random(0);
+        long nextId = -1000L;
+        for (int i = 0; i < 100_000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                final CompletableFuture<Message> future = new CompletableFuture<>();
+                final long id = nextId++;
+                messageStore.storeMessage(id, future);
+                expected.put(id, future);
+            } else {
+                final long id = nextId - 1 - random.nextInt(2000);
+                assertThat(messageStore.remove(id)).isSameAs(expected.remove(id));
+            }
+        }
+        for (final Map.Entry<Long, CompletableFuture<Message>> entry : expected.entrySet()) {
+            assertThat(messageStore.remove(entry.getKey())).isSameAs(entry.getValue());
+        }
+        assertThat(messageStore.isEmpty()).isTrue();
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocystream.internal;
+
+import com.arangodb.DbName;
+import com.arangodb.internal.velocypack.VPackDriverModule;
+import com.arangodb.velocypack.VPack;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import com.arangodb.velocystream.Response;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VstEnvelopeCodecTest {
+
+    private static final VPack VPACK = new VPack.Builder().registerModule(new VPackDriverModule()).build();
+
+    private static Map<String, String> toMap(final VPackSlice object) {
+        final Map<String, String> map = new HashMap<>();
+        for (final Iterator<Entry<String, VPackSlice>> it = object.objectIterator(); it.hasNext(); ) {
+            final Entry<String, VPackSlice> entry = it.next();
+            map.put(entry.getKey(), entry.getValue().getAsString());
+        }
+        return map;
+    }
+
+    private static void assertEncodedLikeSerializer(final Request request) {
+        final VPackSlice encoded = VstEnvelopeCodec.encodeRequest(request);
+        final VPackSlice expected = VPACK.serialize(request);
+        assertThat(encoded.isArray()).isTrue();
+        assertThat(encoded.size()).isEqualTo(7);
+        for (final int i : new int[]{0, 1, 3}) {
+            assertThat(encoded.get(i).getAsInt()).isEqualTo(expected.get(i).getAsInt());
+        }
+        for (final int i : new int[]{2, 4}) {
+            assertThat(encoded.get(i).getAsString()).isEqualTo(expected.get(i).getAsString());
+        }
+        for (final int i : new int[]{5, 6}) {
+            final VPackSlice object = encoded.get(i);
+            assertThat(toMap(object)).isEqualTo(toMap(expected.get(i)));
+            // lookups by name rely on the index table being sorted
+            for (final Entry<String, String> entry : toMap(object).entrySet()) {
+                assertThat(object.get(entry.getKey()).getAsString()).isEqualTo(entry.getValue());
+            }
+        }
+    }
+
+    @Test
+    void encodeSimpleRequest() {
+        assertEncodedLikeSerializer(new Request(DbName.SYSTEM, RequestType.GET, "/_api/version"));
+    }
+
+    @Test
+    void encodeRequestWithParams() {
+        final Request request = new Request(DbName.of("db"), RequestType.POST, "/_api/document/coll")
+                .putQueryParam("waitForSync", true)
+                .putQueryParam("returnNew", false)
+                .putHeaderParam("accept", "application/x-velocypack")
+                .putHeaderParam("content-type", "application/x-velocypack")
+                .putHeaderParam("x-arango-allow-dirty-read", "true");
+        assertEncodedLikeSerializer(request);
+    }
+
+    @Test
+    void encodeUnusualValues() {
+        final StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            longValue.append((char) ('a' + i % 26));
+        }
+        final Request request = new Request(DbName.of("dbä"), RequestType.ILLEGAL, "/_api/document/c/köy")
+                .setVersion(-3)
+                .setType(100_000)
+                .putQueryParam("long", longValue.toString())
+                .putHeaderParam("über", "😀");
+        assertEncodedLikeSerializer(request);
+    }
+
+    @Test
+    void encodeLargeObjects() {
+        final Request request = new Request(DbName.SYSTEM, RequestType.PUT, "/_api/x");
+        for (int i = 0; i < 400; i++) {
+            request.putHeaderParam("header-" + i, "value-" + i);
+            request.putQueryParam("q" + (1000 - i), i);
+        }
+        assertEncodedLikeSerializer(request);
+    }
+
+    @Test
+    void decodeResponse() {
+        final VPackSlice head = new VPackBuilder().add(ValueType.ARRAY).add(1).add(2).add(404)
+                .add(ValueType.OBJECT).add("x-arango-queue-time-seconds", "0.5").add("etag", "1").close()
+                .close().slice();
+        final Response response = VstEnvelopeCodec.decodeResponse(head);
+        assertThat(response).isNotNull();
+        assertThat(response.getVersion()).isEqualTo(1);
+        assertThat(response.getType()).isEqualTo(2);
+        assertThat(response.getResponseCode()).isEqualTo(404);
+        assertThat(response.getMeta()).containsEntry("x-arango-queue-time-seconds", "0.5").containsEntry("etag", "1");
+    }
+
+    @Test
+    void decodeResponseWithoutMeta() {
+        final VPackSlice head = new VPackBuilder().add(ValueType.ARRAY).add(1).add(2).add(200).close().slice();
+        final Response response = VstEnvelopeCodec.decodeResponse(head);
+        assertThat(response).isNotNull();
+        assertThat(response.getResponseCode()).isEqualTo(200);
+        assertThat(response.getMeta()).isEmpty();
+    }
+
+    @Test
+    void decodeResponseFallsBackOnUnexpectedShape() {
+        final VPackSlice head = new VPackBuilder().add(ValueType.ARRAY).add(1).add(2).add(200)
+                .add(ValueType.OBJECT).add("count", 3).close().close().slice();
+        assertThat(VstEnvelopeCodec.decodeResponse(head)).isNull();
+        assertThat(VstEnvelopeCodec.decodeResponse(new VPackBuilder().add("x").slice())).isNull();
+    }
+
+}
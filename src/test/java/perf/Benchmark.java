@@ -14,13 +14,20 @@ public abstract class Benchmark {
     private volatile Long endTime = null;
     private volatile int targetCount = Integer.MAX_VALUE;
     private final AtomicInteger counter = new AtomicInteger();
-    private final ExecutorService es = Executors.newFixedThreadPool(SYNC_THREADS);
+    private final ExecutorService es;
+    private final int threads;
     private final int warmupDurationSeconds;
     private final int numberOfRequests;
 
     public Benchmark(int warmupDurationSeconds, int numberOfRequests) {
+        this(warmupDurationSeconds, numberOfRequests, SYNC_THREADS);
+    }
+
+    public Benchmark(int warmupDurationSeconds, int numberOfRequests, int threads) {
         this.warmupDurationSeconds = warmupDurationSeconds;
         this.numberOfRequests = numberOfRequests;
+        this.threads = threads;
+        es = Executors.newFixedThreadPool(threads);
     }
 
     public void run() {
@@ -105,7 +112,7 @@ public abstract class Benchmark {
     }
 
     private void start() {
-        for (int i = 0; i < SYNC_THREADS; i++) {
+        for (int i = 0; i < threads; i++) {
             es.execute(() -> {
                 boolean more = true;
                 while (more) {
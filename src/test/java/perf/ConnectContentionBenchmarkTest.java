@@ -0,0 +1,43 @@
+package perf;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.Protocol;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Throughput of 1 to 64 callers sharing a fully populated VST connection pool, which stresses host and connection
+ * acquisition. Throughput should grow with the number of threads until the server saturates, instead of flattening
+ * out on a driver-side lock.
+ */
+@Disabled
+class ConnectContentionBenchmarkTest {
+    private final int warmupDurationSeconds = 5;
+    private final int numberOfRequests = 200_000;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8, 16, 32, 64})
+    void getVersion(int threads) {
+        ArangoDB adb = new ArangoDB.Builder()
+                .useProtocol(Protocol.VST)
+                .maxConnections(8)
+                .build();
+        Benchmark benchmark = new Benchmark(warmupDurationSeconds, numberOfRequests, threads) {
+            @Override
+            protected void sendRequest() {
+                adb.getVersion();
+            }
+
+            @Override
+            protected void shutdown() {
+                adb.shutdown();
+            }
+        };
+        benchmark.run();
+        System.out.println("threads: \t" + threads);
+        System.out.println("elapsed time [ms]: \t" + benchmark.waitComplete());
+        System.out.println("throughput [req/s]: \t" + benchmark.getThroughput());
+    }
+
+}
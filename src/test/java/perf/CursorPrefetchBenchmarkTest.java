@@ -0,0 +1,131 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2016 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package perf;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDB;
+import com.arangodb.Protocol;
+import com.arangodb.model.AqlQueryOptions;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a streaming cursor served by a local HTTP server taking {@link #SERVER_LATENCY_MS} per batch, while the
+ * consumer spends {@link #CONSUMER_WORK_MS} per batch, with and without fetching batches ahead. Runs without server.
+ */
+@Disabled
+class CursorPrefetchBenchmarkTest {
+    private static final int BATCHES = 200;
+    private static final int BATCH_SIZE = 1_000;
+    private static final long SERVER_LATENCY_MS = 5;
+    private static final long CONSUMER_WORK_MS = 5;
+
+    private static byte[] batch(final int n) {
+        final StringBuilder json = new StringBuilder("{\"id\":\"1\",\"result\":[");
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"_key\":\"").append(n * BATCH_SIZE + i).append("\",\"value\":").append(i).append('}');
+        }
+        json.append("],\"hasMore\":").append(n < BATCHES - 1).append(",\"error\":false,\"code\":200}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 4})
+    void streamingQuery(final int prefetchBatches) throws IOException {
+        final byte[][] batches = new byte[BATCHES][];
+        for (int n = 0; n < BATCHES; n++) {
+            batches[n] = batch(n);
+        }
+        final int[] served = {0};
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", exchange -> {
+            final byte[] body;
+            synchronized (served) {
+                body = exchange.getRequestURI().getPath().endsWith("/_api/cursor") ? batches[0]
+                        : batches[++served[0]];
+            }
+            sleep(SERVER_LATENCY_MS);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        final ArangoDB.Builder builder = new ArangoDB.Builder() {
+            {
+                hosts.clear();
+            }
+        };
+        final ArangoDB adb = builder.host("127.0.0.1", server.getAddress().getPort()).acquireHostList(false)
+                .useProtocol(Protocol.HTTP_JSON).build();
+        try {
+            final long start = System.nanoTime();
+            long documents = 0;
+            try (ArangoCursor<Map> cursor = adb.db().query("FOR d IN c RETURN d",
+                    new AqlQueryOptions().stream(true).prefetchBatches(prefetchBatches), Map.class)) {
+                while (cursor.hasNext()) {
+                    cursor.next();
+                    if (++documents % BATCH_SIZE == 0) {
+                        busy(CONSUMER_WORK_MS);
+                    }
+                }
+            }
+            final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.println("prefetchBatches: \t" + prefetchBatches);
+            System.out.println("elapsed time [ms]: \t" + elapsed);
+            System.out.println("throughput [docs/s]: \t" + documents * 1000 / Math.max(1, elapsed));
+        } finally {
+            adb.shutdown();
+            server.stop(0);
+        }
+    }
+
+    private static void sleep(final long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void busy(final long ms) {
+        final long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ms);
+        while (System.nanoTime() < end) {
+            // simulates processing the batch
+        }
+    }
+
+}
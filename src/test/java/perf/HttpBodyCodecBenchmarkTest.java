@@ -0,0 +1,89 @@
+package perf;
+
+import com.arangodb.internal.http.JsonVPackReader;
+import com.arangodb.internal.http.VPackJsonWriter;
+import com.arangodb.mapping.ArangoJack;
+import com.arangodb.util.ArangoSerializer.Options;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * Conversion of HTTP JSON bodies, {@link VPackSlice#toString()} and {@link ArangoJack} against the streaming
+ * {@link VPackJsonWriter} and {@link JsonVPackReader}. Runs without server.
+ */
+@Disabled
+class HttpBodyCodecBenchmarkTest {
+    private final int warmupIterations = 2_000;
+    private final int iterations = 5_000;
+
+    private final ArangoJack serde = new ArangoJack();
+    private final VPackSlice body = documents(1_000);
+    private final byte[] json = body.toString().getBytes(StandardCharsets.UTF_8);
+
+    private static VPackSlice documents(final int count) {
+        final VPackBuilder builder = new VPackBuilder().add(ValueType.ARRAY);
+        for (int i = 0; i < count; i++) {
+            builder.add(ValueType.OBJECT).add("_key", "key" + i).add("name", "document number " + i)
+                    .add("value", i * 1.5).add("active", i % 2 == 0).add("tags", ValueType.ARRAY).add("a").add("b")
+                    .close().close();
+        }
+        return builder.close().slice();
+    }
+
+    private void measure(final String name, final Supplier<Object> op) {
+        Object sink = null;
+        for (int i = 0; i < warmupIterations; i++) {
+            sink = op.get();
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = op.get();
+        }
+        final long elapsed = System.nanoTime() - start;
+        System.out.println(name + ": \t" + (elapsed / iterations / 1000) + " us/op \t" + (sink != null));
+    }
+
+    @Test
+    void writeRequestBody() {
+        final OutputStream discard = new ByteArrayOutputStream() {
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+            }
+        };
+        measure("toString + getBytes", () -> body.toString().getBytes(StandardCharsets.UTF_8));
+        measure("streaming writer", () -> {
+            try {
+                VPackJsonWriter.length(body);
+                VPackJsonWriter.write(body, discard);
+                return discard;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Test
+    void readResponseBody() {
+        final Options options = new Options().stringAsJson(true).serializeNullValues(true);
+        measure("toString + serializer", () -> serde.serialize(new String(json, StandardCharsets.UTF_8), options));
+        measure("streaming reader", () -> {
+            try {
+                return JsonVPackReader.read(new ByteArrayInputStream(json));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+}
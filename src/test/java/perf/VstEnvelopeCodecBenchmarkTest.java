@@ -0,0 +1,65 @@
+package perf;
+
+import com.arangodb.DbName;
+import com.arangodb.internal.velocypack.VPackDriverModule;
+import com.arangodb.internal.velocystream.internal.VstEnvelopeCodec;
+import com.arangodb.velocypack.VPack;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import com.arangodb.velocystream.Response;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+/**
+ * Encoding of VST request headers and decoding of response headers, reflective serializer against
+ * {@link VstEnvelopeCodec}. Runs without server.
+ */
+@Disabled
+class VstEnvelopeCodecBenchmarkTest {
+    private final int warmupIterations = 2_000_000;
+    private final int iterations = 5_000_000;
+
+    private final VPack vpack = new VPack.Builder().registerModule(new VPackDriverModule()).build();
+    private final VPackSlice responseHead = new VPackBuilder().add(ValueType.ARRAY).add(1).add(2).add(200)
+            .add(ValueType.OBJECT).add("content-type", "application/x-velocypack")
+            .add("x-arango-queue-time-seconds", "0.000000").close().close().slice();
+
+    private Request request() {
+        return new Request(DbName.of("mydb"), RequestType.GET, "/_api/document/users/12345")
+                .putQueryParam("waitForSync", false)
+                .putHeaderParam("accept", "application/x-velocypack")
+                .putHeaderParam("content-type", "application/x-velocypack");
+    }
+
+    private void measure(final String name, final Supplier<Object> op) {
+        Object sink = null;
+        for (int i = 0; i < warmupIterations; i++) {
+            sink = op.get();
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = op.get();
+        }
+        final long elapsed = System.nanoTime() - start;
+        System.out.println(name + ": \t" + (elapsed / iterations) + " ns/op \t" + (sink != null));
+    }
+
+    @Test
+    void encodeRequest() {
+        final Request request = request();
+        measure("reflective encode", () -> vpack.serialize(request));
+        measure("codec encode", () -> VstEnvelopeCodec.encodeRequest(request));
+    }
+
+    @Test
+    void decodeResponse() {
+        measure("reflective decode", () -> vpack.deserialize(responseHead, Response.class));
+        measure("codec decode", () -> VstEnvelopeCodec.decodeResponse(responseHead));
+    }
+
+}
@@ -0,0 +1,93 @@
+package perf;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.Protocol;
+import com.arangodb.VstTransport;
+import com.arangodb.async.ArangoDBAsync;
+import com.arangodb.internal.velocystream.internal.LocalVstServer;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+
+/**
+ * Throughput of many concurrent callers sharing a single VST connection, synchronous or asynchronous, which stresses
+ * the send path of the connection. Runs without server, against a local VST server answering every request at once, so that the driver
+ * is the bottleneck.
+ */
+@Disabled
+class VstWriterBenchmarkTest {
+    private final int warmupDurationSeconds = 15;
+    private final int numberOfRequests = 1_000_000;
+    private final int threads = 256;
+
+    @ParameterizedTest
+    @EnumSource(VstTransport.class)
+    void getVersion(VstTransport transport) throws IOException {
+        try (LocalVstServer server = new LocalVstServer()) {
+            // hosts of arangodb.properties
+            ArangoDB.Builder builder = new ArangoDB.Builder() {
+                {
+                    hosts.clear();
+                }
+            };
+            ArangoDB adb = builder
+                    .host("127.0.0.1", server.getPort())
+                    .acquireHostList(false)
+                    .useProtocol(Protocol.VST)
+                    .vstTransport(transport)
+                    .maxConnections(1)
+                    .build();
+            Benchmark benchmark = new Benchmark(warmupDurationSeconds, numberOfRequests, threads) {
+                @Override
+                protected void sendRequest() {
+                    adb.getVersion();
+                }
+
+                @Override
+                protected void shutdown() {
+                    adb.shutdown();
+                }
+            };
+            benchmark.run();
+            System.out.println("elapsed time [ms]: \t" + benchmark.waitComplete());
+            System.out.println("throughput [req/s]: \t" + benchmark.getThroughput());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(VstTransport.class)
+    void getVersionAsync(VstTransport transport) throws IOException {
+        try (LocalVstServer server = new LocalVstServer()) {
+            // hosts of arangodb.properties
+            ArangoDBAsync.Builder builder = new ArangoDBAsync.Builder() {
+                {
+                    hosts.clear();
+                }
+            };
+            ArangoDBAsync adb = builder
+                    .host("127.0.0.1", server.getPort())
+                    .acquireHostList(false)
+                    .useProtocol(Protocol.VST)
+                    .vstTransport(transport)
+                    .maxConnections(1)
+                    .build();
+            Benchmark benchmark = new Benchmark(warmupDurationSeconds, numberOfRequests, threads) {
+                @Override
+                protected void sendRequest() {
+                    adb.getVersion().join();
+                }
+
+                @Override
+                protected void shutdown() {
+                    adb.shutdown();
+                }
+            };
+            benchmark.run();
+            System.out.println("elapsed time [ms]: \t" + benchmark.waitComplete());
+            System.out.println("throughput [req/s]: \t" + benchmark.getThroughput());
+        }
+    }
+
+}